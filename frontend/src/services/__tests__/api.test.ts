@@ -165,6 +165,29 @@ describe('API Services', () => {
 
       expect(result).toBeNull();
     });
+
+    test('calculateBatch returns results in request order', async () => {
+      const mockResults = [
+        { index: 0, success: true, estimate: mockEstimate },
+        { index: 1, success: false, message: '融資額が範囲外です' }
+      ];
+      const mockResponse = {
+        data: {
+          success: true,
+          data: mockResults
+        }
+      };
+      mockedAxios.post.mockResolvedValue(mockResponse);
+
+      const requests = [
+        { productId: 'PROD001', loanAmount: 3000, loanTerm: 30 },
+        { productId: 'PROD001', loanAmount: 1, loanTerm: 30 }
+      ];
+      const result = await estimateApi.calculateBatch(requests);
+
+      expect(result).toEqual(mockResults);
+      expect(mockedAxios.post).toHaveBeenCalledWith('/api/loan/estimate/calculateBatch', requests);
+    });
   });
 
   describe('applicationApi', () => {
@@ -274,6 +297,28 @@ describe('API Services', () => {
 
       expect(result).toEqual([]);
     });
+
+    test('getStatus returns review status', async () => {
+      const mockStatus = {
+        applicationId: 'APP001',
+        applicationStatus: 'APPROVED' as const,
+        approvedBy: 'SYSTEM'
+      };
+      const mockResponse = {
+        data: {
+          success: true,
+          data: mockStatus
+        }
+      };
+      mockedAxios.get.mockResolvedValue(mockResponse);
+
+      const result = await applicationApi.getStatus('APP001', 5000);
+
+      expect(result).toEqual(mockStatus);
+      expect(mockedAxios.get).toHaveBeenCalledWith('/api/loan/application/APP001/status', {
+        params: { waitMillis: 5000 }
+      });
+    });
   });
 
   describe('Error handling', () => {
@@ -1,5 +1,14 @@
 import axios from 'axios';
-import { LoanProduct, LoanEstimate, LoanApplication, EstimateRequest, ApiResponse } from '../types';
+import {
+  LoanProduct,
+  LoanEstimate,
+  LoanApplication,
+  LoanApplicationStatus,
+  LoanApplicationSummary,
+  EstimateRequest,
+  EstimateResult,
+  ApiResponse,
+} from '../types';
 
 const API_BASE_URL = process.env.REACT_APP_API_URL || 'http://localhost:8080/mortgage-loan';
 
@@ -33,6 +42,15 @@ export const estimateApi = {
     return response.data.data!;
   },
 
+  // 複数の条件を1回のリクエストで計算（結果は依頼と同じ順序で、件ごとに成否を返す）
+  calculateBatch: async (requests: EstimateRequest[]): Promise<EstimateResult[]> => {
+    const response = await api.post<ApiResponse<EstimateResult[]>>('/api/loan/estimate/calculateBatch', requests);
+    if (!response.data.success) {
+      throw new Error(response.data.message || '見積もり計算に失敗しました');
+    }
+    return response.data.data || [];
+  },
+
   getById: async (estimateId: string): Promise<LoanEstimate | null> => {
     const response = await api.get<ApiResponse<LoanEstimate>>(`/api/loan/estimate/${estimateId}`);
     return response.data.data || null;
@@ -54,10 +72,19 @@ export const applicationApi = {
     return response.data.data || null;
   },
 
-  getByCustomerId: async (customerId: string): Promise<LoanApplication[]> => {
-    const response = await api.get<ApiResponse<LoanApplication[]>>(`/api/loan/application/customer/${customerId}`);
+  getByCustomerId: async (customerId: string): Promise<LoanApplicationSummary[]> => {
+    const response = await api.get<ApiResponse<LoanApplicationSummary[]>>(`/api/loan/application/customer/${customerId}`);
     return response.data.data || [];
   },
+
+  // 審査状況を取得（waitMillis を指定すると審査中の場合は完了まで最大30秒待つ）
+  getStatus: async (applicationId: string, waitMillis = 0): Promise<LoanApplicationStatus | null> => {
+    const response = await api.get<ApiResponse<LoanApplicationStatus>>(
+      `/api/loan/application/${applicationId}/status`,
+      { params: { waitMillis } },
+    );
+    return response.data.data || null;
+  },
 };
 
 export default api; 
\ No newline at end of file
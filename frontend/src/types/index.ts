@@ -37,6 +37,7 @@ export interface LoanApplication {
   customerName: string;
   customerEmail: string;
   customerPhone: string;
+  customerBirthDate?: string;
   productId: string;
   productName: string;
   loanAmount: number;
@@ -66,6 +67,32 @@ export interface EstimateRequest {
   loanTerm: number;
 }
 
+export interface EstimateResult {
+  index: number;
+  success: boolean;
+  estimate?: LoanEstimate;
+  message?: string;
+}
+
+export interface LoanApplicationSummary {
+  applicationId: string;
+  customerId?: string;
+  productName: string;
+  loanAmount: number;
+  applicationStatus: 'PENDING' | 'APPROVED' | 'REJECTED' | 'PROCESSING';
+  applicationDate: string;
+  approvalDate?: string;
+}
+
+export interface LoanApplicationStatus {
+  applicationId: string;
+  applicationStatus: 'PENDING' | 'APPROVED' | 'REJECTED' | 'PROCESSING';
+  rejectionReason?: string;
+  approvalDate?: string;
+  approvedBy?: string;
+  updatedAt?: string;
+}
+
 export interface ApiResponse<T> {
   success: boolean;
   data?: T;
@@ -0,0 +1,240 @@
+package com.mortgage.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.mortgage.json.LoanJsonWriter;
+import com.mortgage.model.LoanApplication;
+import com.mortgage.model.LoanEstimate;
+import com.mortgage.model.LoanProduct;
+import ognl.Ognl;
+import ognl.OgnlException;
+import org.apache.struts2.json.DefaultJSONWriter;
+import org.apache.struts2.json.JSONException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * API レスポンスの書き出しのベンチマーク
+ * LoanApiServlet の LoanJsonWriter（JsonGenerator への明示的な書き出し）と、Struts 経由の経路を比較する。
+ * Struts 経由の経路は、JSP の s:property がフィールドごとに行う OGNL 評価（式は解析済みのものを再利用）と、
+ * struts2-json-plugin の json 結果が行うリフレクションによる直列化の2通りで計測する。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApiSerializationBenchmark {
+
+    private static final String[] PRODUCT_PROPERTIES = {
+            "productId", "productName", "productType", "minInterestRate", "maxInterestRate", "currentInterestRate",
+            "minLoanAmount", "maxLoanAmount", "minLoanTerm", "maxLoanTerm", "repaymentMethod", "description",
+            "active", "createdAt", "updatedAt"};
+
+    private static final String[] ESTIMATE_PROPERTIES = {
+            "estimateId", "productId", "productName", "loanAmount", "loanTerm", "interestRate", "monthlyPayment",
+            "totalPayment", "totalInterest", "repaymentMethod", "estimatedAt", "customerId"};
+
+    private static final String[] APPLICATION_PROPERTIES = {
+            "applicationId", "customerId", "customerName", "customerEmail", "customerPhone", "customerBirthDate",
+            "productId", "productName", "loanAmount", "loanTerm", "interestRate", "monthlyPayment",
+            "applicationStatus", "propertyAddress", "propertyType", "propertyValue", "employmentType",
+            "annualIncome", "bankAccountNumber", "bankName", "branchName", "applicationDate", "approvalDate",
+            "approvedBy", "rejectionReason", "createdAt", "updatedAt"};
+
+    /** レスポンスの種類 */
+    @Param({"products", "estimate", "application"})
+    private String payload;
+
+    private List<?> rows;
+    private Object document;
+    private Object[] expressions;
+    private JsonBody writer;
+    private ByteArrayOutputStream out;
+    private DefaultJSONWriter strutsJsonWriter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws OgnlException {
+        String[] properties;
+        switch (payload) {
+            case "products":
+                rows = createProducts();
+                properties = PRODUCT_PROPERTIES;
+                document = rows;
+                writer = generator -> LoanJsonWriter.writeProducts(generator, castProducts(rows));
+                break;
+            case "estimate":
+                rows = Collections.singletonList(createEstimate());
+                properties = ESTIMATE_PROPERTIES;
+                document = rows.get(0);
+                writer = generator -> LoanJsonWriter.writeEstimate(generator, (LoanEstimate) document);
+                break;
+            case "application":
+                rows = Collections.singletonList(createApplication());
+                properties = APPLICATION_PROPERTIES;
+                document = rows.get(0);
+                writer = generator -> LoanJsonWriter.writeApplication(generator, (LoanApplication) document);
+                break;
+            default:
+                throw new IllegalArgumentException(payload);
+        }
+
+        // Struts は解析済みの OGNL 式をキャッシュするため、式の解析は計測に含めない
+        expressions = new Object[properties.length];
+        for (int i = 0; i < properties.length; i++) {
+            expressions[i] = Ognl.parseExpression(properties[i]);
+        }
+        out = new ByteArrayOutputStream(16 * 1024);
+        strutsJsonWriter = new DefaultJSONWriter();
+    }
+
+    /**
+     * LoanApiServlet の経路: JsonGenerator へフィールドを明示的に書き出す
+     */
+    @Benchmark
+    public int loanJsonWriter() throws IOException {
+        out.reset();
+        try (JsonGenerator generator = LoanJsonWriter.createGenerator(out)) {
+            writer.writeTo(generator);
+        }
+        return out.size();
+    }
+
+    /**
+     * JSP の経路: 1行ごとに値スタックの先頭に置き、フィールドごとに OGNL 式を評価して文字列にする
+     */
+    @Benchmark
+    public int strutsOgnlProperties() throws OgnlException {
+        StringBuilder html = new StringBuilder(4096);
+        for (Object row : rows) {
+            Map<?, ?> context = Ognl.createDefaultContext(row);
+            for (Object expression : expressions) {
+                html.append("<td>").append(Ognl.getValue(expression, context, row)).append("</td>");
+            }
+        }
+        return html.length();
+    }
+
+    /**
+     * struts2-json-plugin の経路: Bean 情報をリフレクションで辿って直列化する
+     */
+    @Benchmark
+    public int strutsJsonPlugin() throws JSONException {
+        return strutsJsonWriter.write(document).length();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<LoanProduct> castProducts(List<?> rows) {
+        return (List<LoanProduct>) rows;
+    }
+
+    private static List<LoanProduct> createProducts() {
+        String[][] definitions = {
+                {"FIXED_001", "固定金利プランA", "FIXED", "0.85"},
+                {"FIXED_002", "固定金利プランB", "FIXED", "0.95"},
+                {"VARIABLE_001", "変動金利プランA", "VARIABLE", "0.45"},
+                {"VARIABLE_002", "変動金利プランB", "VARIABLE", "0.50"},
+                {"MIXED_001", "ミックスプランA", "MIXED", "0.70"},
+                {"MIXED_002", "ミックスプランB", "MIXED", "0.75"}};
+        LocalDateTime now = LocalDateTime.of(2024, 4, 1, 9, 0);
+        List<LoanProduct> products = new ArrayList<>();
+        for (String[] definition : definitions) {
+            LoanProduct product = new LoanProduct();
+            product.setProductId(definition[0]);
+            product.setProductName(definition[1]);
+            product.setProductType(definition[2]);
+            product.setMinInterestRate(new BigDecimal("0.30"));
+            product.setMaxInterestRate(new BigDecimal("1.60"));
+            product.setCurrentInterestRate(new BigDecimal(definition[3]));
+            product.setMinLoanAmount(100);
+            product.setMaxLoanAmount(10000);
+            product.setMinLoanTerm(10);
+            product.setMaxLoanTerm(35);
+            product.setRepaymentMethod("EQUAL_PAYMENT");
+            product.setDescription("安定した返済額で安心の" + definition[1] + "です。");
+            product.setActive(true);
+            product.setCreatedAt(now);
+            product.setUpdatedAt(now);
+            products.add(product);
+        }
+        return products;
+    }
+
+    private static LoanEstimate createEstimate() {
+        LoanEstimate estimate = new LoanEstimate();
+        estimate.setEstimateId("EST01HZX8Q4M2K9PA");
+        estimate.setProductId("FIXED_001");
+        estimate.setProductName("固定金利プランA");
+        estimate.setLoanAmount(new BigDecimal("3000"));
+        estimate.setLoanTerm(35);
+        estimate.setInterestRate(new BigDecimal("0.85"));
+        estimate.setMonthlyPayment(new BigDecimal("82456"));
+        estimate.setTotalPayment(new BigDecimal("34631520"));
+        estimate.setTotalInterest(new BigDecimal("4631520"));
+        estimate.setRepaymentMethod("EQUAL_PAYMENT");
+        estimate.setEstimatedAt(LocalDateTime.of(2024, 4, 1, 9, 0));
+        estimate.setCustomerId("CUST_0042");
+        return estimate;
+    }
+
+    private static LoanApplication createApplication() {
+        LoanApplication application = new LoanApplication();
+        application.setApplicationId("APP01HZX8Q4M2K9PB");
+        application.setCustomerId("CUST_0042");
+        application.setCustomerName("山田太郎");
+        application.setCustomerEmail("taro@example.com");
+        application.setCustomerPhone("090-1234-5678");
+        application.setCustomerBirthDate(LocalDate.of(1985, 6, 15));
+        application.setProductId("FIXED_001");
+        application.setProductName("固定金利プランA");
+        application.setLoanAmount(new BigDecimal("3000"));
+        application.setLoanTerm(35);
+        application.setInterestRate(new BigDecimal("0.85"));
+        application.setMonthlyPayment(new BigDecimal("82456"));
+        application.setApplicationStatus("APPROVED");
+        application.setPropertyAddress("東京都渋谷区1-1-1");
+        application.setPropertyType("DETACHED");
+        application.setPropertyValue(new BigDecimal("5000"));
+        application.setEmploymentType("SALARIED");
+        application.setAnnualIncome(new BigDecimal("900"));
+        application.setBankAccountNumber("1234567");
+        application.setBankName("テスト銀行");
+        application.setBranchName("渋谷支店");
+        LocalDateTime now = LocalDateTime.of(2024, 4, 1, 9, 0);
+        application.setApplicationDate(now);
+        application.setApprovalDate(now);
+        application.setApprovedBy("SYSTEM");
+        application.setCreatedAt(now);
+        application.setUpdatedAt(now);
+        return application;
+    }
+
+    /**
+     * LoanJsonWriter による書き出し
+     */
+    @FunctionalInterface
+    private interface JsonBody {
+        void writeTo(JsonGenerator generator) throws IOException;
+    }
+}
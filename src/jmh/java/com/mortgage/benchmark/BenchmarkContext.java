@@ -0,0 +1,61 @@
+package com.mortgage.benchmark;
+
+import com.mortgage.calc.AmortizationEngine;
+import com.mortgage.calc.AnnuityFactorTable;
+import com.mortgage.calc.EqualPrincipalCalculator;
+import com.mortgage.catalog.ProductCatalog;
+import com.mortgage.review.ReviewEngine;
+import com.mortgage.service.EstimateWriter;
+import com.mortgage.service.IdGenerator;
+import com.mortgage.service.LoanService;
+import com.mortgage.service.QuoteCache;
+import com.mortgage.service.ReviewPipeline;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+/**
+ * ベンチマーク用の Spring コンテキスト
+ *
+ * 計算・サービス層の Bean を本番と同じ @Autowired で組み立て、DAO だけを InMemoryLoanDao に差し替える。
+ * DB もトランザクション管理も使わないため、計測対象はアプリケーションのコードのみとなる。
+ */
+public final class BenchmarkContext {
+
+    private BenchmarkContext() {}
+
+    /**
+     * コンテキストを作成
+     */
+    public static AnnotationConfigApplicationContext create(InMemoryLoanDao loanDao) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getBeanFactory().registerSingleton("loanDao", loanDao);
+        context.getBeanFactory().registerSingleton("transactionManager", new NoOpTransactionManager());
+        context.register(AmortizationEngine.class, AnnuityFactorTable.class, EqualPrincipalCalculator.class,
+                ProductCatalog.class, EstimateWriter.class, QuoteCache.class, ReviewEngine.class, ReviewPipeline.class,
+                IdGenerator.class, LoanService.class);
+        context.refresh();
+        return context;
+    }
+
+    /**
+     * 何もしないトランザクションマネージャ
+     */
+    private static class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
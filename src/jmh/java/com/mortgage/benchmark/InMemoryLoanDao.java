@@ -0,0 +1,189 @@
+package com.mortgage.benchmark;
+
+import com.mortgage.dao.LoanDao;
+import com.mortgage.model.LoanApplication;
+import com.mortgage.model.LoanApplicationEvent;
+import com.mortgage.model.LoanApplicationStatus;
+import com.mortgage.model.LoanApplicationSummary;
+import com.mortgage.model.LoanEstimate;
+import com.mortgage.model.LoanProduct;
+import com.mortgage.model.ReviewJobCheckpoint;
+import com.mortgage.model.ReviewUpdate;
+import org.apache.ibatis.cursor.Cursor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ベンチマーク用のメモリ上の LoanDao
+ * 商品は固定の4件を返し、保存・更新は件数を数えるだけで保持しない。
+ */
+public class InMemoryLoanDao implements LoanDao {
+
+    private static final LocalDateTime LAST_UPDATED = LocalDateTime.of(2024, 4, 1, 0, 0);
+
+    private final Map<String, LoanProduct> products = new LinkedHashMap<>();
+    private final LongAdder writeCount = new LongAdder();
+
+    public InMemoryLoanDao() {
+        addProduct("FIXED_001", "固定金利プランA", "FIXED", "0.85", "EQUAL_PAYMENT");
+        addProduct("VARIABLE_001", "変動金利プランA", "VARIABLE", "3.25", "EQUAL_PAYMENT");
+        addProduct("ZERO_001", "無利息プラン", "FIXED", "0", "EQUAL_PAYMENT");
+        addProduct("PRINCIPAL_001", "元金均等プラン", "FIXED", "1.50", "EQUAL_PRINCIPAL");
+    }
+
+    private void addProduct(String productId, String productName, String productType,
+                            String rate, String repaymentMethod) {
+        LoanProduct product = new LoanProduct(productId, productName, productType,
+                new BigDecimal(rate), 100, 10000, 1, 50);
+        product.setRepaymentMethod(repaymentMethod);
+        product.setActive(true);
+        products.put(productId, product);
+    }
+
+    /**
+     * 商品を追加（同じ商品IDがあれば置き換える）
+     */
+    public void putProduct(LoanProduct product) {
+        products.put(product.getProductId(), product);
+    }
+
+    public long getWriteCount() {
+        return writeCount.sum();
+    }
+
+    @Override
+    public List<LoanProduct> getAllLoanProducts() {
+        return new ArrayList<>(products.values());
+    }
+
+    @Override
+    public LoanProduct getLoanProductById(String productId) {
+        return products.get(productId);
+    }
+
+    @Override
+    public LocalDateTime getLoanProductsLastUpdated() {
+        return LAST_UPDATED;
+    }
+
+    @Override
+    public int updateProductRate(String productId, BigDecimal interestRate) {
+        writeCount.increment();
+        return products.containsKey(productId) ? 1 : 0;
+    }
+
+    @Override
+    public void incrementCatalogVersion() {
+        writeCount.increment();
+    }
+
+    @Override
+    public long getCatalogVersion() {
+        return 1;
+    }
+
+    @Override
+    public void saveEstimate(LoanEstimate estimate) {
+        writeCount.increment();
+    }
+
+    @Override
+    public void saveEstimates(Collection<LoanEstimate> estimates) {
+        writeCount.add(estimates.size());
+    }
+
+    @Override
+    public LoanEstimate getEstimateById(String estimateId) {
+        return null;
+    }
+
+    @Override
+    public void saveApplication(LoanApplication application) {
+        writeCount.increment();
+    }
+
+    @Override
+    public void updateApplication(LoanApplication application) {
+        writeCount.increment();
+    }
+
+    @Override
+    public void saveApplicationEvent(LoanApplicationEvent event) {
+        writeCount.increment();
+    }
+
+    @Override
+    public LoanApplication getApplicationById(String applicationId) {
+        return null;
+    }
+
+    @Override
+    public LoanApplicationStatus getApplicationStatusById(String applicationId) {
+        return null;
+    }
+
+    @Override
+    public List<LoanApplication> getApplicationsByCustomerId(String customerId) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<LoanApplication> getApplicationsByStatus(String status) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<LoanApplicationSummary> getApplicationsByCustomerIdPage(String customerId, LocalDateTime afterApplicationDate,
+                                                                        String afterApplicationId, int limit) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<LoanApplicationSummary> getApplicationsByStatusPage(String status, LocalDateTime afterApplicationDate,
+                                                                    String afterApplicationId, int limit) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public Cursor<LoanApplicationSummary> openApplicationsByCustomerId(String customerId) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Cursor<LoanApplicationSummary> openApplicationsByStatus(String status) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Cursor<LoanApplication> openApplicationsForReview(Collection<String> statuses, String afterApplicationId) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int updateReviewResult(ReviewUpdate update) {
+        writeCount.increment();
+        return 1;
+    }
+
+    @Override
+    public void updateReviewResults(Collection<ReviewUpdate> updates) {
+        writeCount.add(updates.size());
+    }
+
+    @Override
+    public ReviewJobCheckpoint getReviewJobCheckpoint(String jobId) {
+        return null;
+    }
+
+    @Override
+    public void saveReviewJobCheckpoint(ReviewJobCheckpoint checkpoint) {
+    }
+}
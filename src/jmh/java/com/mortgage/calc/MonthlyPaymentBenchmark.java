@@ -0,0 +1,110 @@
+package com.mortgage.calc;
+
+import com.mortgage.benchmark.BenchmarkContext;
+import com.mortgage.benchmark.InMemoryLoanDao;
+import com.mortgage.catalog.CatalogSnapshot;
+import com.mortgage.catalog.ProductCatalog;
+import com.mortgage.model.LoanProduct;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 元利均等の月次返済額計算のベンチマーク
+ * 1回の呼び出しで融資期間1〜50年を順に計算し、1期間あたりの平均時間を報告する。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MonthlyPaymentBenchmark {
+
+    private static final int MAX_TERM = 50;
+
+    /** 年利（%）。0%は係数が 1/n になる特別扱いの経路 */
+    @Param({"0", "0.85", "3.25", "14.5"})
+    private String annualRate;
+
+    private AnnotationConfigApplicationContext context;
+    private AmortizationEngine amortizationEngine;
+    private AnnuityFactorTable annuityFactorTable;
+    private CatalogSnapshot catalog;
+    private LoanProduct product;
+    private BigDecimal rate;
+    private BigDecimal principal;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rate = new BigDecimal(annualRate);
+        principal = new BigDecimal("35000000");
+        LoanProduct benchmarkProduct = new LoanProduct("BENCH_001", "ベンチマーク", "FIXED", rate,
+                100, 10000, 1, MAX_TERM);
+        benchmarkProduct.setRepaymentMethod("EQUAL_PAYMENT");
+        benchmarkProduct.setActive(true);
+        InMemoryLoanDao loanDao = new InMemoryLoanDao();
+        loanDao.putProduct(benchmarkProduct);
+
+        // 係数テーブルはカタログの読み込み時にスナップショットへ作成される
+        context = BenchmarkContext.create(loanDao);
+        amortizationEngine = context.getBean(AmortizationEngine.class);
+        annuityFactorTable = context.getBean(AnnuityFactorTable.class);
+        catalog = context.getBean(ProductCatalog.class).snapshot();
+        product = catalog.getProduct("BENCH_001");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * 係数テーブルを参照する経路（見積もりで使用）
+     */
+    @Benchmark
+    @OperationsPerInvocation(MAX_TERM)
+    public void annuityFactorTable(Blackhole blackhole) {
+        for (int years = 1; years <= MAX_TERM; years++) {
+            blackhole.consume(annuityFactorTable.calculateMonthlyPayment(catalog, product, principal, years));
+        }
+    }
+
+    /**
+     * 係数をその都度計算する経路
+     */
+    @Benchmark
+    @OperationsPerInvocation(MAX_TERM)
+    public void amortizationEngine(Blackhole blackhole) {
+        for (int years = 1; years <= MAX_TERM; years++) {
+            blackhole.consume(amortizationEngine.calculateMonthlyPayment(principal, rate, years));
+        }
+    }
+
+    /**
+     * 丸め境界付近で使用する厳密計算の経路
+     */
+    @Benchmark
+    @OperationsPerInvocation(MAX_TERM)
+    public void exact(Blackhole blackhole) {
+        for (int years = 1; years <= MAX_TERM; years++) {
+            blackhole.consume(amortizationEngine.calculateExactMonthlyPayment(principal, rate, years));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.mortgage.service;
+
+import com.mortgage.benchmark.BenchmarkContext;
+import com.mortgage.benchmark.InMemoryLoanDao;
+import com.mortgage.model.LoanApplication;
+import com.mortgage.model.LoanEstimate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LoanService のベンチマーク
+ * 見積もり計算（カタログ参照〜計算〜保存）、自動審査、ID生成を DB なしで計測する。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoanServiceBenchmark {
+
+    /** 商品ID（金利・返済方法の組み合わせ） */
+    @Param({"FIXED_001", "VARIABLE_001", "ZERO_001", "PRINCIPAL_001"})
+    private String productId;
+
+    private AnnotationConfigApplicationContext context;
+    private LoanService loanService;
+    private BigDecimal loanAmount;
+    private LoanApplication approvable;
+    private LoanApplication rejectable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.create(new InMemoryLoanDao());
+        loanService = context.getBean(LoanService.class);
+        loanAmount = BigDecimal.valueOf(3000);
+
+        approvable = createApplication("3000", "1000", "5000");
+        rejectable = createApplication("3000", "500", "3000");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private LoanApplication createApplication(String loanAmount, String annualIncome, String propertyValue) {
+        LoanApplication application = new LoanApplication();
+        application.setApplicationId("APP_BENCH");
+        application.setCustomerId("CUST_BENCH");
+        application.setProductId(productId);
+        application.setLoanAmount(new BigDecimal(loanAmount));
+        application.setLoanTerm(35);
+        application.setAnnualIncome(new BigDecimal(annualIncome));
+        application.setPropertyValue(new BigDecimal(propertyValue));
+        application.setEmploymentType("SALARIED");
+        return application;
+    }
+
+    /**
+     * 同じ条件の繰り返しのため、2回目以降は見積もり結果のキャッシュにヒットする
+     * （計算を含めて計測する場合は JMH の -jvmArgsAppend -Dquote.cache.maxEntries=0 でキャッシュを無効にする）
+     */
+    @Benchmark
+    public LoanEstimate calculateEstimate() {
+        return loanService.calculateEstimate(productId, loanAmount, 35);
+    }
+
+    @Benchmark
+    public LoanApplication performAutoReviewApproved() {
+        loanService.performAutoReview(approvable);
+        return approvable;
+    }
+
+    @Benchmark
+    public LoanApplication performAutoReviewRejected() {
+        loanService.performAutoReview(rejectable);
+        return rejectable;
+    }
+
+    @Benchmark
+    public String generateEstimateId() {
+        return loanService.generateEstimateId();
+    }
+
+    @Benchmark
+    public String generateApplicationId() {
+        return loanService.generateApplicationId();
+    }
+
+    /**
+     * 複数スレッドから同時にIDを生成した場合（CAS の競合を含む）
+     */
+    @Benchmark
+    @Threads(4)
+    public String generateApplicationIdContended() {
+        return loanService.generateApplicationId();
+    }
+}
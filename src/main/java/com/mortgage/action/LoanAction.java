@@ -207,4 +207,4 @@ public class LoanAction extends ActionSupport {
     public void setCustomerPhone(String customerPhone) {
         this.customerPhone = customerPhone;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,99 @@
+package com.mortgage.action;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.mortgage.json.LoanJsonWriter;
+import com.mortgage.model.ReviewJobCheckpoint;
+import com.mortgage.service.ReReviewJob;
+import com.opensymphony.xwork2.ActionSupport;
+import org.apache.struts2.ServletActionContext;
+import org.apache.struts2.convention.annotation.Action;
+import org.apache.struts2.convention.annotation.Namespace;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 再審査ジョブの管理Actionクラス
+ */
+@Namespace("/admin")
+public class ReviewJobAction extends ActionSupport {
+
+    /** 対象の状況の既定値 */
+    private static final String DEFAULT_STATUSES = "PENDING,PROCESSING";
+
+    @Autowired
+    private ReReviewJob reReviewJob;
+
+    private String jobId;
+    private String statuses;
+
+    /**
+     * 再審査ジョブをバックグラウンドで開始
+     * 同じ jobId で実行し直すと前回のチェックポイントから再開する。
+     */
+    @Action(value = "reReview")
+    public String reReview() throws IOException {
+        HttpServletResponse response = ServletActionContext.getResponse();
+        if (jobId == null || jobId.trim().isEmpty()) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "ジョブIDが入力されていません。");
+            return NONE;
+        }
+
+        List<String> targetStatuses = new ArrayList<>();
+        for (String status : (statuses == null ? DEFAULT_STATUSES : statuses).split(",")) {
+            if (!status.trim().isEmpty()) {
+                targetStatuses.add(status.trim());
+            }
+        }
+        if (targetStatuses.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "対象の申し込み状況が入力されていません。");
+            return NONE;
+        }
+
+        if (!reReviewJob.start(jobId, targetStatuses)) {
+            response.sendError(HttpServletResponse.SC_CONFLICT, "再審査ジョブは実行中です。");
+            return NONE;
+        }
+        response.setStatus(HttpServletResponse.SC_ACCEPTED);
+        return NONE;
+    }
+
+    /**
+     * 再審査ジョブの進捗をJSONで返却
+     */
+    @Action(value = "reReviewStatus")
+    public String reReviewStatus() throws IOException {
+        HttpServletResponse response = ServletActionContext.getResponse();
+        ReviewJobCheckpoint checkpoint = jobId == null ? null : reReviewJob.getCheckpoint(jobId);
+        if (checkpoint == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND, "指定されたジョブが見つかりません: " + jobId);
+            return NONE;
+        }
+
+        response.setContentType("application/json;charset=UTF-8");
+        try (JsonGenerator generator = LoanJsonWriter.createGenerator(response.getOutputStream())) {
+            LoanJsonWriter.writeReviewJobCheckpoint(generator, checkpoint, reReviewJob.isRunning());
+        }
+        return NONE;
+    }
+
+    // Getter and Setter methods
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getStatuses() {
+        return statuses;
+    }
+
+    public void setStatuses(String statuses) {
+        this.statuses = statuses;
+    }
+}
@@ -0,0 +1,166 @@
+package com.mortgage.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.mortgage.catalog.CatalogListener;
+import com.mortgage.catalog.CatalogSnapshot;
+import com.mortgage.json.LoanJsonWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 商品一覧レスポンス（/api/loan/products）の符号化済みキャッシュ
+ *
+ * 商品カタログのスナップショットが差し替わった時だけ、レスポンス全体を JSON のバイト列に書き出し、
+ * 小さくなる場合は gzip 圧縮したものも作っておく。リクエストごとの直列化や圧縮は行わない。
+ * ETag はバイト列のハッシュから作るため、同じ内容であればノード間や再起動後も同じ値になる。
+ * 作成したレスポンスはスナップショットの公開前に持たせるため、商品一覧とレスポンスは同時に切り替わる。
+ */
+@Component
+public class CatalogResponseCache implements CatalogListener {
+
+    @Value("${catalog.response.gzip:true}")
+    private boolean gzipEnabled = true;
+
+    private volatile CatalogResponse current;
+
+    @Override
+    public Object prepare(CatalogSnapshot snapshot) {
+        return encode(snapshot);
+    }
+
+    @Override
+    public void onCatalogChanged(CatalogSnapshot snapshot) {
+        Object prepared = snapshot.getDerived(this);
+        store(prepared instanceof CatalogResponse ? (CatalogResponse) prepared : encode(snapshot));
+    }
+
+    /**
+     * スナップショットに対応する符号化済みレスポンスを取得
+     * 公開前の作成に失敗していた場合などは、ここで作成して保持する。
+     */
+    public CatalogResponse get(CatalogSnapshot snapshot) {
+        Object prepared = snapshot.getDerived(this);
+        if (prepared instanceof CatalogResponse) {
+            return (CatalogResponse) prepared;
+        }
+        CatalogResponse response = current;
+        if (response != null && response.getVersion() == snapshot.getVersion()) {
+            return response;
+        }
+        response = encode(snapshot);
+        store(response);
+        return response;
+    }
+
+    private synchronized void store(CatalogResponse response) {
+        // 古いスナップショットで作成したものが新しいものを上書きしないようにする
+        if (current == null || response.getVersion() >= current.getVersion()) {
+            current = response;
+        }
+    }
+
+    CatalogResponse encode(CatalogSnapshot snapshot) {
+        try {
+            ByteArrayOutputStream json = new ByteArrayOutputStream(8 * 1024);
+            try (JsonGenerator generator = LoanJsonWriter.createGenerator(json)) {
+                generator.writeStartObject();
+                generator.writeBooleanField("success", true);
+                generator.writeFieldName("data");
+                LoanJsonWriter.writeProducts(generator, snapshot.getProducts());
+                generator.writeEndObject();
+            }
+            byte[] body = json.toByteArray();
+            byte[] gzipBody = gzipEnabled ? gzip(body) : null;
+            if (gzipBody != null && gzipBody.length >= body.length) {
+                gzipBody = null;
+            }
+            return new CatalogResponse(snapshot.getVersion(), digest(body), body, gzipBody);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 2);
+        // カタログの更新時に1度だけ圧縮するため、圧縮率を優先する
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            out.write(body);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static String digest(byte[] body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            StringBuilder hex = new StringBuilder(32);
+            for (int i = 0; i < 16; i++) {
+                hex.append(Character.forDigit((hash[i] >> 4) & 0xF, 16)).append(Character.forDigit(hash[i] & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 符号化済みの商品一覧レスポンス
+     */
+    public static final class CatalogResponse {
+
+        private final long version;
+        private final String etag;
+        private final String gzipEtag;
+        private final byte[] body;
+        private final byte[] gzipBody;
+
+        CatalogResponse(long version, String digest, byte[] body, byte[] gzipBody) {
+            this.version = version;
+            this.etag = '"' + digest + '"';
+            // 表現（Content-Encoding）ごとに異なる強い ETag にする
+            this.gzipEtag = '"' + digest + "-gz\"";
+            this.body = body;
+            this.gzipBody = gzipBody;
+        }
+
+        /**
+         * 作成元のスナップショットの世代番号
+         */
+        public long getVersion() {
+            return version;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public String getGzipEtag() {
+            return gzipEtag;
+        }
+
+        /**
+         * JSON のバイト列（共有されるため変更しないこと）
+         */
+        public byte[] getBody() {
+            return body;
+        }
+
+        /**
+         * gzip 圧縮した JSON のバイト列（圧縮しない場合は null、共有されるため変更しないこと）
+         */
+        public byte[] getGzipBody() {
+            return gzipBody;
+        }
+    }
+}
@@ -0,0 +1,419 @@
+package com.mortgage.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.mortgage.api.CatalogResponseCache.CatalogResponse;
+import com.mortgage.calc.RepaymentSchedule;
+import com.mortgage.catalog.ProductCatalog;
+import com.mortgage.json.LoanJsonWriter;
+import com.mortgage.model.ApplicationPage;
+import com.mortgage.model.EstimateRequest;
+import com.mortgage.model.EstimateResult;
+import com.mortgage.model.LoanApplication;
+import com.mortgage.model.LoanApplicationStatus;
+import com.mortgage.model.LoanApplicationSummary;
+import com.mortgage.model.LoanEstimate;
+import com.mortgage.model.LoanProduct;
+import com.mortgage.service.LoanService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.support.WebApplicationContextUtils;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * フロントエンド向けの JSON API（/api/loan/*）
+ *
+ * レスポンスは {"success": true, "data": ...} の形式で、LoanJsonWriter により
+ * JsonGenerator へフィールドを明示的に書き出す（リフレクションや値スタックを経由しない）。
+ * エラーは {"success": false, "message": ...} と対応する HTTP ステータスで返す。
+ * リクエストボディの読み込みには、型ごとに1度だけ構築した ObjectReader を使用する。
+ * 商品一覧は CatalogResponseCache の符号化済みバイト列をそのまま返し、If-None-Match が一致すれば 304 を返す。
+ */
+public class LoanApiServlet extends HttpServlet {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger logger = LoggerFactory.getLogger(LoanApiServlet.class);
+
+    /** 審査結果の待ち時間の上限（ミリ秒） */
+    private static final long MAX_REVIEW_WAIT_MILLIS = 30000;
+
+    /** 申し込み一覧を全件書き出す際に1回に読む件数 */
+    private static final int READ_PAGE_SIZE = 100;
+
+    /** 申し込み一覧の1ページの既定件数 */
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    private static final ObjectMapper REQUEST_MAPPER = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .registerModule(new SimpleModule()
+                    .addDeserializer(LocalDate.class, new IsoDateDeserializer())
+                    .addDeserializer(LocalDateTime.class, new IsoDateTimeDeserializer()));
+
+    private static final ObjectReader ESTIMATE_REQUEST_READER = REQUEST_MAPPER.readerFor(EstimateRequest.class);
+    private static final ObjectReader ESTIMATE_REQUESTS_READER =
+            REQUEST_MAPPER.readerFor(new TypeReference<List<EstimateRequest>>() {});
+    private static final ObjectReader APPLICATION_READER = REQUEST_MAPPER.readerFor(LoanApplication.class);
+
+    private transient LoanService loanService;
+    private transient ProductCatalog productCatalog;
+    private transient CatalogResponseCache catalogResponseCache;
+
+    @Override
+    public void init() throws ServletException {
+        WebApplicationContext context = WebApplicationContextUtils.getRequiredWebApplicationContext(getServletContext());
+        loanService = context.getBean(LoanService.class);
+        productCatalog = context.getBean(ProductCatalog.class);
+        catalogResponseCache = context.getBean(CatalogResponseCache.class);
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String[] path = splitPath(request);
+        try {
+            if (path.length == 1 && "products".equals(path[0])) {
+                writeProducts(request, response);
+            } else if (path.length == 2 && "products".equals(path[0])) {
+                LoanProduct product = loanService.getLoanProductById(path[1]);
+                if (product == null) {
+                    writeError(response, HttpServletResponse.SC_NOT_FOUND, "指定された商品が見つかりません: " + path[1]);
+                    return;
+                }
+                writeData(response, generator -> LoanJsonWriter.writeProduct(generator, product));
+            } else if (path.length == 1 && "schedule".equals(path[0])) {
+                writeSchedule(request, response);
+            } else if (path.length == 2 && "estimate".equals(path[0])) {
+                LoanEstimate estimate = loanService.getEstimateById(path[1]);
+                if (estimate == null) {
+                    writeError(response, HttpServletResponse.SC_NOT_FOUND, "指定された見積もりが見つかりません: " + path[1]);
+                    return;
+                }
+                writeData(response, generator -> LoanJsonWriter.writeEstimate(generator, estimate));
+            } else if (path.length == 1 && "applications".equals(path[0])) {
+                writeApplicationPage(request, response);
+            } else if (path.length == 3 && "application".equals(path[0]) && "customer".equals(path[1])) {
+                writeApplicationsByCustomerId(response, path[2]);
+            } else if (path.length == 2 && "application".equals(path[0])) {
+                LoanApplication application = loanService.getApplicationById(path[1]);
+                if (application == null) {
+                    writeError(response, HttpServletResponse.SC_NOT_FOUND, "指定された申し込みが見つかりません: " + path[1]);
+                    return;
+                }
+                writeData(response, generator -> LoanJsonWriter.writeApplication(generator, application));
+            } else if (path.length == 3 && "application".equals(path[0]) && "status".equals(path[2])) {
+                writeApplicationStatus(request, response, path[1]);
+            } else {
+                writeError(response, HttpServletResponse.SC_NOT_FOUND, "指定されたAPIは存在しません。");
+            }
+        } catch (IllegalArgumentException e) {
+            handleBadRequest(request, response, e);
+        } catch (RuntimeException e) {
+            handleUnexpected(request, response, e);
+        }
+    }
+
+    @Override
+    protected void doPost(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String[] path = splitPath(request);
+        try {
+            if (path.length == 2 && "estimate".equals(path[0]) && "calculate".equals(path[1])) {
+                EstimateRequest estimateRequest = ESTIMATE_REQUEST_READER.readValue(request.getInputStream());
+                if (estimateRequest == null || estimateRequest.getProductId() == null
+                        || estimateRequest.getLoanAmount() == null || estimateRequest.getLoanTerm() == null) {
+                    writeError(response, HttpServletResponse.SC_BAD_REQUEST, "必要な情報が入力されていません。");
+                    return;
+                }
+                LoanEstimate estimate = loanService.calculateEstimate(estimateRequest.getProductId(),
+                        estimateRequest.getLoanAmount(), estimateRequest.getLoanTerm());
+                writeData(response, generator -> LoanJsonWriter.writeEstimate(generator, estimate));
+            } else if (path.length == 2 && "estimate".equals(path[0]) && "calculateBatch".equals(path[1])) {
+                List<EstimateRequest> requests = ESTIMATE_REQUESTS_READER.readValue(request.getInputStream());
+                if (requests == null) {
+                    writeError(response, HttpServletResponse.SC_BAD_REQUEST, "必要な情報が入力されていません。");
+                    return;
+                }
+                List<EstimateResult> results = loanService.calculateEstimates(requests);
+                writeData(response, generator -> LoanJsonWriter.writeEstimateResults(generator, results));
+            } else if (path.length == 2 && "application".equals(path[0]) && "submit".equals(path[1])) {
+                LoanApplication application = APPLICATION_READER.readValue(request.getInputStream());
+                if (application == null) {
+                    writeError(response, HttpServletResponse.SC_BAD_REQUEST, "申し込み情報が入力されていません。");
+                    return;
+                }
+                LoanApplication submitted = loanService.submitApplication(application);
+                writeData(response, generator -> LoanJsonWriter.writeApplication(generator, submitted));
+            } else {
+                writeError(response, HttpServletResponse.SC_NOT_FOUND, "指定されたAPIは存在しません。");
+            }
+        } catch (JsonProcessingException e) {
+            writeError(response, HttpServletResponse.SC_BAD_REQUEST, "リクエストの形式が正しくありません: " + e.getOriginalMessage());
+        } catch (IllegalArgumentException e) {
+            handleBadRequest(request, response, e);
+        } catch (RuntimeException e) {
+            handleUnexpected(request, response, e);
+        }
+    }
+
+    /**
+     * 商品一覧を書き出す
+     * カタログの更新時に作成済みのバイト列を返すため、リクエストごとの直列化や圧縮は行わない。
+     */
+    private void writeProducts(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        CatalogResponse catalog = catalogResponseCache.get(productCatalog.snapshot());
+        boolean gzip = catalog.getGzipBody() != null && acceptsGzip(request.getHeader("Accept-Encoding"));
+        String etag = gzip ? catalog.getGzipEtag() : catalog.getEtag();
+        response.setHeader("ETag", etag);
+        response.setHeader("Vary", "Accept-Encoding");
+        response.setHeader("Cache-Control", "no-cache");
+        if (matchesEtag(request.getHeader("If-None-Match"), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        byte[] body = gzip ? catalog.getGzipBody() : catalog.getBody();
+        response.setContentType("application/json;charset=UTF-8");
+        if (gzip) {
+            response.setHeader("Content-Encoding", "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * If-None-Match が ETag と一致するか（GET の判定のため W/ は無視して比較する）
+     */
+    static boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if ("*".equals(tag) || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Accept-Encoding で gzip を受け付けているか（q=0 は拒否として扱う）
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.split(";");
+            String coding = parts[0].trim();
+            if (!"gzip".equalsIgnoreCase(coding) && !"*".equals(coding)) {
+                continue;
+            }
+            boolean rejected = false;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        rejected = Double.parseDouble(parameter.substring(2)) <= 0;
+                    } catch (NumberFormatException e) {
+                        rejected = true;
+                    }
+                }
+            }
+            if (!rejected) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 返済予定表を書き出す
+     * 明細は1行ずつ計算しながらレスポンスに書き出すため、全行をメモリに保持しない。
+     */
+    private void writeSchedule(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String productId = request.getParameter("productId");
+        String loanAmount = request.getParameter("loanAmount");
+        String loanTerm = request.getParameter("loanTerm");
+        if (productId == null || loanAmount == null || loanTerm == null) {
+            writeError(response, HttpServletResponse.SC_BAD_REQUEST, "必要な情報が入力されていません。");
+            return;
+        }
+        RepaymentSchedule schedule = loanService.getRepaymentSchedule(productId, new BigDecimal(loanAmount),
+                Integer.valueOf(loanTerm));
+        writeData(response, generator -> LoanJsonWriter.writeSchedule(generator, schedule));
+    }
+
+    /**
+     * 顧客IDまたは申し込み状況で申し込み一覧を1ページ書き出す
+     * 次のページは、レスポンスの nextPageToken を pageToken に指定して取得する。
+     */
+    private void writeApplicationPage(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String customerId = request.getParameter("customerId");
+        String status = request.getParameter("status");
+        if (customerId == null && status == null) {
+            writeError(response, HttpServletResponse.SC_BAD_REQUEST, "顧客IDまたは申し込み状況を指定してください。");
+            return;
+        }
+        String pageToken = request.getParameter("pageToken");
+        String pageSizeParameter = request.getParameter("pageSize");
+        int pageSize = pageSizeParameter == null ? DEFAULT_PAGE_SIZE : Integer.parseInt(pageSizeParameter);
+        ApplicationPage page = customerId != null
+                ? loanService.getApplicationPageByCustomerId(customerId, pageToken, pageSize)
+                : loanService.getApplicationPageByStatus(status, pageToken, pageSize);
+        writeData(response, generator -> LoanJsonWriter.writeApplicationPage(generator, page));
+    }
+
+    /**
+     * 顧客の申し込み一覧をキーセットページングで1ページずつ読みながら書き出す
+     * ページを読むごとにトランザクションを終えてコネクションを返却するため、クライアントの受信が遅くても
+     * コネクションやストリーミング中の結果セットを占有しない。
+     */
+    private void writeApplicationsByCustomerId(HttpServletResponse response, String customerId) throws IOException {
+        writeData(response, generator -> {
+            generator.writeStartArray();
+            String pageToken = null;
+            do {
+                ApplicationPage page = loanService.getApplicationPageByCustomerId(customerId, pageToken,
+                        READ_PAGE_SIZE);
+                for (LoanApplicationSummary row : page.getItems()) {
+                    LoanJsonWriter.writeApplicationSummary(generator, row);
+                }
+                pageToken = page.getNextPageToken();
+            } while (pageToken != null);
+            generator.writeEndArray();
+        });
+    }
+
+    /**
+     * 審査状況を書き出す
+     * waitMillis を指定すると審査中の場合は完了まで（最大30秒）待ってから返却する。
+     */
+    private void writeApplicationStatus(HttpServletRequest request, HttpServletResponse response,
+                                        String applicationId) throws IOException {
+        String waitParameter = request.getParameter("waitMillis");
+        long wait = 0;
+        if (waitParameter != null) {
+            try {
+                wait = Math.max(0, Math.min(Long.parseLong(waitParameter), MAX_REVIEW_WAIT_MILLIS));
+            } catch (NumberFormatException e) {
+                writeError(response, HttpServletResponse.SC_BAD_REQUEST, "waitMillis は数値で指定してください。");
+                return;
+            }
+        }
+        LoanApplicationStatus status = loanService.awaitReview(applicationId, wait);
+        if (status == null) {
+            writeError(response, HttpServletResponse.SC_NOT_FOUND, "指定された申し込みが見つかりません: " + applicationId);
+            return;
+        }
+        writeData(response, generator -> LoanJsonWriter.writeApplicationStatus(generator, status));
+    }
+
+    /**
+     * パス（/api/loan 以降）を "/" で分割
+     */
+    static String[] splitPath(HttpServletRequest request) {
+        String pathInfo = request.getPathInfo();
+        if (pathInfo == null) {
+            return new String[0];
+        }
+        String trimmed = pathInfo.startsWith("/") ? pathInfo.substring(1) : pathInfo;
+        return trimmed.isEmpty() ? new String[0] : trimmed.split("/");
+    }
+
+    private static void writeData(HttpServletResponse response, JsonBody data) throws IOException {
+        response.setContentType("application/json;charset=UTF-8");
+        try (JsonGenerator generator = LoanJsonWriter.createGenerator(response.getOutputStream())) {
+            generator.writeStartObject();
+            generator.writeBooleanField("success", true);
+            generator.writeFieldName("data");
+            data.writeTo(generator);
+            generator.writeEndObject();
+        }
+    }
+
+    private static void writeError(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType("application/json;charset=UTF-8");
+        try (JsonGenerator generator = LoanJsonWriter.createGenerator(response.getOutputStream())) {
+            generator.writeStartObject();
+            generator.writeBooleanField("success", false);
+            generator.writeStringField("message", message == null ? "" : message);
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * 入力不備のエラー応答
+     * 一覧などを書き出している途中で発生し、既にレスポンスを送り始めている場合は、
+     * 書きかけの JSON の後ろにエラーを続けず、例外をそのまま投げて接続を打ち切る。
+     */
+    private static void handleBadRequest(HttpServletRequest request, HttpServletResponse response,
+                                         IllegalArgumentException e) throws IOException {
+        if (response.isCommitted()) {
+            logger.warn("レスポンス送信後に入力不備を検出しました: {} {}", request.getMethod(), request.getPathInfo(), e);
+            throw e;
+        }
+        response.resetBuffer();
+        writeError(response, HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+    }
+
+    private static void handleUnexpected(HttpServletRequest request, HttpServletResponse response,
+                                         RuntimeException e) throws IOException {
+        logger.error("APIの処理に失敗しました: {} {}", request.getMethod(), request.getPathInfo(), e);
+        if (response.isCommitted()) {
+            throw e;
+        }
+        response.resetBuffer();
+        writeError(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "処理に失敗しました。");
+    }
+
+    /**
+     * レスポンスの data 部分の書き出し
+     */
+    @FunctionalInterface
+    private interface JsonBody {
+        void writeTo(JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * ISO-8601 形式（yyyy-MM-dd）の日付の読み込み
+     */
+    private static final class IsoDateDeserializer extends JsonDeserializer<LocalDate> {
+        @Override
+        public LocalDate deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            String text = parser.getValueAsString();
+            return text == null || text.isEmpty() ? null : LocalDate.parse(text);
+        }
+    }
+
+    /**
+     * ISO-8601 形式の日時の読み込み
+     */
+    private static final class IsoDateTimeDeserializer extends JsonDeserializer<LocalDateTime> {
+        @Override
+        public LocalDateTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            String text = parser.getValueAsString();
+            return text == null || text.isEmpty() ? null : LocalDateTime.parse(text);
+        }
+    }
+}
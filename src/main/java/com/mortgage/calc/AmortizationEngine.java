@@ -0,0 +1,100 @@
+package com.mortgage.calc;
+
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * 元利均等返済の計算エンジン
+ *
+ * (1+r)^n を有効桁数固定の MathContext で求めるため、返済回数が増えても
+ * 中間値の桁数は増えず、計算コストは O(log n) 回の乗算に収まる。
+ * 結果は従来の厳密計算（scale 10 の月利・HALF_UP で 2 桁に丸め）と一致する。
+ * 近似値が丸め境界に極めて近い場合のみ厳密計算にフォールバックする。
+ */
+@Component
+public class AmortizationEngine {
+
+    /** 近似計算に用いる精度（34 桁） */
+    static final MathContext PRECISION = MathContext.DECIMAL128;
+
+    /** 丸め境界との距離がこの相対誤差以下なら厳密計算で再計算する */
+    private static final int GUARD_DIGITS = 20;
+
+    private static final int MONTHLY_RATE_SCALE = 10;
+    private static final int PAYMENT_SCALE = 2;
+    private static final BigDecimal MONTHLY_RATE_DIVISOR = BigDecimal.valueOf(1200);
+    private static final BigDecimal HALF = new BigDecimal("0.5");
+
+    /**
+     * 月次返済額を計算
+     */
+    public BigDecimal calculateMonthlyPayment(BigDecimal principal, BigDecimal annualRate, int years) {
+        return applyFactor(principal, annuityFactor(annualRate, years), annualRate, years);
+    }
+
+    /**
+     * 年利から月利を計算（従来通り scale 10・HALF_UP）
+     */
+    public BigDecimal monthlyRate(BigDecimal annualRate) {
+        return annualRate.divide(MONTHLY_RATE_DIVISOR, MONTHLY_RATE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 年金現価係数の逆数 r(1+r)^n / ((1+r)^n - 1) を計算
+     * 金利0%の場合は 1/n を返す。
+     */
+    public BigDecimal annuityFactor(BigDecimal annualRate, int years) {
+        int numberOfPayments = years * 12;
+        if (annualRate.signum() == 0) {
+            return BigDecimal.ONE.divide(BigDecimal.valueOf(numberOfPayments), PRECISION);
+        }
+
+        BigDecimal monthlyRate = monthlyRate(annualRate);
+        BigDecimal onePlusRateToN = BigDecimal.ONE.add(monthlyRate).pow(numberOfPayments, PRECISION);
+        BigDecimal numerator = monthlyRate.multiply(onePlusRateToN, PRECISION);
+        BigDecimal denominator = onePlusRateToN.subtract(BigDecimal.ONE, PRECISION);
+        return numerator.divide(denominator, PRECISION);
+    }
+
+    /**
+     * 計算済みの係数を元金に掛けて月次返済額を求める
+     * 丸め境界付近の場合のみ厳密計算で結果を確定させる。
+     */
+    public BigDecimal applyFactor(BigDecimal principal, BigDecimal factor, BigDecimal annualRate, int years) {
+        BigDecimal approximate = principal.multiply(factor, PRECISION);
+        if (isNearRoundingBoundary(approximate)) {
+            return calculateExactMonthlyPayment(principal, annualRate, years);
+        }
+        return approximate.setScale(PAYMENT_SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 従来方式による厳密な月次返済額の計算
+     * (1+r)^n を丸めずに求めるため返済回数に比例して桁数が増える。検証・境界値用。
+     */
+    public BigDecimal calculateExactMonthlyPayment(BigDecimal principal, BigDecimal annualRate, int years) {
+        int numberOfPayments = years * 12;
+        if (annualRate.signum() == 0) {
+            return principal.divide(BigDecimal.valueOf(numberOfPayments), PAYMENT_SCALE, RoundingMode.HALF_UP);
+        }
+
+        BigDecimal monthlyRate = monthlyRate(annualRate);
+        BigDecimal onePlusRateToN = BigDecimal.ONE.add(monthlyRate).pow(numberOfPayments);
+        BigDecimal numerator = monthlyRate.multiply(onePlusRateToN);
+        BigDecimal denominator = onePlusRateToN.subtract(BigDecimal.ONE);
+        return principal.multiply(numerator).divide(denominator, PAYMENT_SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 小数第3位以下が 0.5 に近く、近似誤差で丸め結果が変わり得るかを判定
+     */
+    private boolean isNearRoundingBoundary(BigDecimal value) {
+        BigDecimal scaled = value.movePointRight(PAYMENT_SCALE).abs();
+        BigDecimal fraction = scaled.subtract(scaled.setScale(0, RoundingMode.FLOOR));
+        BigDecimal tolerance = scaled.movePointLeft(GUARD_DIGITS).max(BigDecimal.ONE.movePointLeft(GUARD_DIGITS));
+        return fraction.subtract(HALF).abs().compareTo(tolerance) <= 0;
+    }
+}
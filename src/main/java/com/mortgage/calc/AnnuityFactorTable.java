@@ -0,0 +1,252 @@
+package com.mortgage.calc;
+
+import com.mortgage.catalog.CatalogListener;
+import com.mortgage.catalog.CatalogSnapshot;
+import com.mortgage.model.LoanProduct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * (金利, 期間) ごとの元利均等係数テーブル
+ *
+ * 商品カタログの読み込み時に全商品の金利×融資期間の組み合わせについて係数を事前計算し、
+ * 見積もりは「元金×係数」の乗算と丸めだけで求める。
+ * テーブルは不変オブジェクトとしてスナップショットの公開前に作成し、スナップショットの派生データとして持たせる。
+ * 参照側は商品を取得したスナップショットのテーブルを使うため、商品とテーブルが常に同じ世代になり、ロックも不要。
+ * テーブルに無い組み合わせはその場で計算し、テーブルの差し替えはカタログの更新時だけ行う。
+ */
+@Component
+public class AnnuityFactorTable implements CatalogListener {
+
+    /** キーにできる金利の上限（0.01%単位） */
+    private static final long MAX_RATE_KEY = 1L << 40;
+    private static final int MAX_TERM = 0xFF;
+
+    @Autowired
+    private AmortizationEngine amortizationEngine;
+
+    /** 最後に公開されたスナップショットのテーブル（商品の金利・期間に変更が無い場合の再利用と件数の参照に使う） */
+    private volatile FactorIndex latest = FactorIndex.EMPTY;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * 商品の現在金利で月次返済額を計算
+     * 商品を取得したスナップショット（catalog）のテーブルを参照する。
+     * テーブルに無い組み合わせはその場で計算し、テーブルは更新しない。
+     */
+    public BigDecimal calculateMonthlyPayment(CatalogSnapshot catalog, LoanProduct product, BigDecimal principal,
+                                              int years) {
+        BigDecimal annualRate = product.getCurrentInterestRate();
+        long key = key(annualRate, years);
+        Object prepared = catalog.getDerived(this);
+        BigDecimal factor = key >= 0 && prepared instanceof FactorIndex ? ((FactorIndex) prepared).get(key) : null;
+
+        if (factor != null) {
+            hitCount.increment();
+        } else {
+            missCount.increment();
+            factor = amortizationEngine.annuityFactor(annualRate, years);
+        }
+        return amortizationEngine.applyFactor(principal, factor, annualRate, years);
+    }
+
+    @Override
+    public Object prepare(CatalogSnapshot snapshot) {
+        return indexFor(snapshot.getProducts());
+    }
+
+    @Override
+    public void onCatalogChanged(CatalogSnapshot snapshot) {
+        Object prepared = snapshot.getDerived(this);
+        if (prepared instanceof FactorIndex) {
+            latest = (FactorIndex) prepared;
+        }
+    }
+
+    /**
+     * 商品一覧に対応するテーブルを作成（商品の金利・期間に変更が無い場合は現在のテーブルを返す）
+     */
+    private FactorIndex indexFor(Collection<LoanProduct> products) {
+        Map<String, ProductTerms> terms = new HashMap<>();
+        for (LoanProduct product : products) {
+            ProductTerms productTerms = ProductTerms.of(product);
+            if (productTerms != null) {
+                terms.put(product.getProductId(), productTerms);
+            }
+        }
+        FactorIndex current = latest;
+        return terms.equals(current.products) ? current : build(terms);
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * 最後に公開されたテーブルの件数
+     */
+    public int size() {
+        return latest.size;
+    }
+
+    private FactorIndex build(Map<String, ProductTerms> terms) {
+        FactorIndex.Builder builder = new FactorIndex.Builder(terms);
+        for (ProductTerms productTerms : terms.values()) {
+            for (int years = productTerms.minTerm; years <= productTerms.maxTerm; years++) {
+                long key = (productTerms.rateKey << 8) | years;
+                if (!builder.contains(key)) {
+                    builder.put(key, amortizationEngine.annuityFactor(productTerms.rate, years));
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * 金利(0.01%単位)と期間(年)を1つの long にまとめたキー
+     * 小数第3位以下を持つ金利などテーブル化できない場合は -1 を返す。
+     */
+    static long key(BigDecimal annualRate, int years) {
+        if (annualRate == null || annualRate.signum() < 0 || annualRate.scale() > 2
+                || years <= 0 || years > MAX_TERM) {
+            return -1;
+        }
+        long rateKey = annualRate.movePointRight(2).longValue();
+        return rateKey < MAX_RATE_KEY ? (rateKey << 8) | years : -1;
+    }
+
+    /**
+     * テーブル構築に必要な商品ごとの条件
+     */
+    private static final class ProductTerms {
+        final BigDecimal rate;
+        final long rateKey;
+        final int minTerm;
+        final int maxTerm;
+
+        private ProductTerms(BigDecimal rate, long rateKey, int minTerm, int maxTerm) {
+            this.rate = rate;
+            this.rateKey = rateKey;
+            this.minTerm = minTerm;
+            this.maxTerm = maxTerm;
+        }
+
+        static ProductTerms of(LoanProduct product) {
+            if (product.getMinLoanTerm() == null || product.getMaxLoanTerm() == null) {
+                return null;
+            }
+            int minTerm = Math.max(1, product.getMinLoanTerm());
+            int maxTerm = Math.min(MAX_TERM, product.getMaxLoanTerm());
+            long key = key(product.getCurrentInterestRate(), minTerm);
+            if (key < 0 || minTerm > maxTerm) {
+                return null;
+            }
+            return new ProductTerms(product.getCurrentInterestRate(), key >>> 8, minTerm, maxTerm);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ProductTerms)) {
+                return false;
+            }
+            ProductTerms other = (ProductTerms) o;
+            return rateKey == other.rateKey && minTerm == other.minTerm && maxTerm == other.maxTerm;
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) (rateKey * 31 + minTerm) * 31 + maxTerm;
+        }
+    }
+
+    /**
+     * long キーのオープンアドレス法ハッシュ表（不変）
+     */
+    static final class FactorIndex {
+
+        static final FactorIndex EMPTY = new Builder(new HashMap<>()).build();
+
+        private static final long EMPTY_KEY = -1L;
+
+        final Map<String, ProductTerms> products;
+        final int size;
+        private final long[] keys;
+        private final BigDecimal[] values;
+        private final int mask;
+
+        private FactorIndex(Map<String, ProductTerms> products, long[] keys, BigDecimal[] values, int size) {
+            this.products = products;
+            this.keys = keys;
+            this.values = values;
+            this.mask = keys.length - 1;
+            this.size = size;
+        }
+
+        BigDecimal get(long key) {
+            for (int i = slot(key, mask); ; i = (i + 1) & mask) {
+                long k = keys[i];
+                if (k == key) {
+                    return values[i];
+                }
+                if (k == EMPTY_KEY) {
+                    return null;
+                }
+            }
+        }
+
+        private static int slot(long key, int mask) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+
+        static final class Builder {
+            private final Map<String, ProductTerms> products;
+            private final Map<Long, BigDecimal> entries = new HashMap<>();
+
+            Builder(Map<String, ProductTerms> products) {
+                this.products = products;
+            }
+
+            boolean contains(long key) {
+                return entries.containsKey(key);
+            }
+
+            void put(long key, BigDecimal factor) {
+                entries.put(key, factor);
+            }
+
+            FactorIndex build() {
+                int capacity = Integer.highestOneBit(Math.max(2, entries.size() * 2 - 1)) << 1;
+                long[] keys = new long[capacity];
+                BigDecimal[] values = new BigDecimal[capacity];
+                Arrays.fill(keys, EMPTY_KEY);
+                int mask = capacity - 1;
+                for (Map.Entry<Long, BigDecimal> entry : entries.entrySet()) {
+                    int i = slot(entry.getKey(), mask);
+                    while (keys[i] != EMPTY_KEY) {
+                        i = (i + 1) & mask;
+                    }
+                    keys[i] = entry.getKey();
+                    values[i] = entry.getValue();
+                }
+                return new FactorIndex(products, keys, values, entries.size());
+            }
+        }
+    }
+}
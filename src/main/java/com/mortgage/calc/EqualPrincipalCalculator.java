@@ -0,0 +1,46 @@
+package com.mortgage.calc;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 元金均等返済の計算
+ *
+ * 毎月の元金部分は P/n で一定、k回目の利息は残高 P(1 - (k-1)/n) × r となるため、
+ * 総利息は等差数列の和 P × r × (n + 1) / 2 として返済回数に依存せず O(1) で求まる。
+ * 月利は元利均等と同じく AmortizationEngine#monthlyRate（scale 10）を用いる。
+ * 返済予定表は各回の利息を個別に丸めるため、合計は総利息と数銭ずれることがある。
+ */
+@Component
+public class EqualPrincipalCalculator {
+
+    private static final int SCALE = 2;
+    private static final BigDecimal TWO = BigDecimal.valueOf(2);
+
+    @Autowired
+    private AmortizationEngine amortizationEngine;
+
+    /**
+     * 初回（最も多い）返済額を計算
+     */
+    public BigDecimal calculateFirstPayment(BigDecimal principal, BigDecimal annualRate, int years) {
+        int numberOfPayments = years * 12;
+        BigDecimal monthlyPrincipal = principal.divide(BigDecimal.valueOf(numberOfPayments), SCALE, RoundingMode.HALF_UP);
+        BigDecimal firstInterest = principal.multiply(amortizationEngine.monthlyRate(annualRate))
+                .setScale(SCALE, RoundingMode.HALF_UP);
+        return monthlyPrincipal.add(firstInterest);
+    }
+
+    /**
+     * 総利息を計算
+     */
+    public BigDecimal calculateTotalInterest(BigDecimal principal, BigDecimal annualRate, int years) {
+        int numberOfPayments = years * 12;
+        return principal.multiply(amortizationEngine.monthlyRate(annualRate))
+                .multiply(BigDecimal.valueOf(numberOfPayments + 1))
+                .divide(TWO, SCALE, RoundingMode.HALF_UP);
+    }
+}
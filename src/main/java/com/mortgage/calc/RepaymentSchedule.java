@@ -0,0 +1,109 @@
+package com.mortgage.calc;
+
+import com.mortgage.model.RepaymentScheduleEntry;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 返済予定表
+ *
+ * 明細は反復時に1行ずつ計算するため、420回払いでも全行をリストに保持しない。
+ * 各回の利息は残高×月利を2桁で HALF_UP 丸めし、最終回で残高の端数を精算する。
+ * 何度でも反復でき、反復ごとに1回目から計算し直す。
+ */
+public class RepaymentSchedule implements Iterable<RepaymentScheduleEntry> {
+
+    private static final int SCALE = 2;
+
+    private final String repaymentMethod;
+    private final BigDecimal principal;
+    private final BigDecimal monthlyRate;
+    private final int numberOfPayments;
+    private final BigDecimal monthlyPayment;
+
+    private RepaymentSchedule(String repaymentMethod, BigDecimal principal, BigDecimal monthlyRate,
+                              int numberOfPayments, BigDecimal monthlyPayment) {
+        this.repaymentMethod = repaymentMethod;
+        this.principal = principal;
+        this.monthlyRate = monthlyRate;
+        this.numberOfPayments = numberOfPayments;
+        this.monthlyPayment = monthlyPayment;
+    }
+
+    /**
+     * 元利均等返済の返済予定表
+     */
+    public static RepaymentSchedule equalPayment(BigDecimal principal, BigDecimal monthlyRate,
+                                                 int numberOfPayments, BigDecimal monthlyPayment) {
+        return new RepaymentSchedule("EQUAL_PAYMENT", principal, monthlyRate, numberOfPayments, monthlyPayment);
+    }
+
+    /**
+     * 元金均等返済の返済予定表
+     */
+    public static RepaymentSchedule equalPrincipal(BigDecimal principal, BigDecimal monthlyRate,
+                                                   int numberOfPayments) {
+        BigDecimal monthlyPrincipal = principal.divide(BigDecimal.valueOf(numberOfPayments), SCALE, RoundingMode.HALF_UP);
+        return new RepaymentSchedule("EQUAL_PRINCIPAL", principal, monthlyRate, numberOfPayments, monthlyPrincipal);
+    }
+
+    public String getRepaymentMethod() {
+        return repaymentMethod;
+    }
+
+    public BigDecimal getPrincipal() {
+        return principal;
+    }
+
+    public int getNumberOfPayments() {
+        return numberOfPayments;
+    }
+
+    @Override
+    public Iterator<RepaymentScheduleEntry> iterator() {
+        return new EntryIterator();
+    }
+
+    public Stream<RepaymentScheduleEntry> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    private class EntryIterator implements Iterator<RepaymentScheduleEntry> {
+
+        private final boolean equalPrincipal = "EQUAL_PRINCIPAL".equals(repaymentMethod);
+        private BigDecimal balance = principal;
+        private int paymentNumber;
+
+        @Override
+        public boolean hasNext() {
+            return paymentNumber < numberOfPayments;
+        }
+
+        @Override
+        public RepaymentScheduleEntry next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            paymentNumber++;
+
+            BigDecimal interest = balance.multiply(monthlyRate).setScale(SCALE, RoundingMode.HALF_UP);
+            BigDecimal principalPart;
+            if (paymentNumber == numberOfPayments) {
+                principalPart = balance;
+            } else if (equalPrincipal) {
+                principalPart = monthlyPayment.min(balance);
+            } else {
+                principalPart = monthlyPayment.subtract(interest).min(balance);
+            }
+            balance = balance.subtract(principalPart);
+
+            return new RepaymentScheduleEntry(paymentNumber, principalPart.add(interest),
+                                              principalPart, interest, balance);
+        }
+    }
+}
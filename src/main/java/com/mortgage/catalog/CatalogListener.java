@@ -0,0 +1,20 @@
+package com.mortgage.catalog;
+
+/**
+ * 商品カタログの更新通知を受け取るリスナー
+ */
+public interface CatalogListener {
+
+    /**
+     * 新しいスナップショットの公開前に呼び出され、スナップショットに持たせる派生データを返す（不要な場合は null）
+     * 返した値は公開後に {@link CatalogSnapshot#getDerived(CatalogListener)} で取得できる。
+     */
+    default Object prepare(CatalogSnapshot snapshot) {
+        return null;
+    }
+
+    /**
+     * 新しいスナップショットが公開された際に呼び出される
+     */
+    void onCatalogChanged(CatalogSnapshot snapshot);
+}
@@ -0,0 +1,83 @@
+package com.mortgage.catalog;
+
+import com.mortgage.model.LoanProduct;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 有効なローン商品の不変スナップショット
+ * 保持している LoanProduct は共有されるため、参照側で変更しないこと。
+ *
+ * リスナーが公開前に作成した派生データ（係数テーブル、符号化済みレスポンスなど）も保持する。
+ * 派生データは公開前にだけ追加されるため、スナップショットの差し替え（volatile の1回の書き込み）で
+ * 商品と派生データが同時に切り替わり、新旧が混ざって見えることはない。
+ */
+public final class CatalogSnapshot {
+
+    private final long version;
+    private final long catalogVersion;
+    private final LocalDateTime highWaterMark;
+    private final List<LoanProduct> products;
+    private final Map<String, LoanProduct> productsById;
+    private final Map<CatalogListener, Object> derived = new IdentityHashMap<>();
+
+    CatalogSnapshot(long version, long catalogVersion, LocalDateTime highWaterMark, List<LoanProduct> products) {
+        Map<String, LoanProduct> byId = new LinkedHashMap<>();
+        for (LoanProduct product : products) {
+            byId.put(product.getProductId(), product);
+        }
+        this.version = version;
+        this.catalogVersion = catalogVersion;
+        this.highWaterMark = highWaterMark;
+        this.products = Collections.unmodifiableList(products);
+        this.productsById = Collections.unmodifiableMap(byId);
+    }
+
+    /**
+     * スナップショットの世代番号（再読み込みごとに増加）
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 読み込み時点の catalog_version.version（金利の更新ごとに DB で増加）
+     */
+    public long getCatalogVersion() {
+        return catalogVersion;
+    }
+
+    /**
+     * 読み込み時点の loan_products.updated_at の最大値
+     */
+    public LocalDateTime getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    public List<LoanProduct> getProducts() {
+        return products;
+    }
+
+    public LoanProduct getProduct(String productId) {
+        return productsById.get(productId);
+    }
+
+    /**
+     * リスナーが公開前に作成した派生データを取得（無い場合は null）
+     */
+    public Object getDerived(CatalogListener owner) {
+        return derived.get(owner);
+    }
+
+    /**
+     * 派生データを追加（公開前の ProductCatalog からのみ呼び出す）
+     */
+    void attach(CatalogListener owner, Object value) {
+        derived.put(owner, value);
+    }
+}
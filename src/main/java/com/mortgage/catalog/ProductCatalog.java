@@ -0,0 +1,201 @@
+package com.mortgage.catalog;
+
+import com.mortgage.dao.LoanDao;
+import com.mortgage.model.LoanProduct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * ローン商品カタログのリードスルーキャッシュ
+ *
+ * 有効な商品の不変スナップショットを保持し、見積もりや商品一覧の表示では DB を参照しない。
+ * 一定間隔ごとに1スレッドだけが catalog_version（1行）と loan_products.updated_at の最大値（ハイウォーターマーク）を
+ * 確認し、変化していれば全商品を読み直して新しいスナップショットに差し替える。
+ * 確認中も他のスレッドは現在のスナップショットを返すため待たされない。
+ * RateUpdateService による金利の更新は、コミット後に {@link #refresh(long)} で確認の間隔を待たずに反映する。
+ *
+ * リスナーの派生データは公開前に作成してスナップショットに持たせ、スナップショットの参照を1回書き換えて公開する。
+ *
+ * 更新確認と読み込みは、呼び出し元が読み取り専用のトランザクション（レプリカ）内でも、新しい読み書きトランザクションで
+ * プライマリから行う。遅延したレプリカの古い金利を読み込まないためで、万一公開済みより古い catalog_version を
+ * 読み込んだ場合も公開しない（カタログバージョンは戻らない）。
+ */
+@Component
+public class ProductCatalog {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductCatalog.class);
+
+    @Autowired
+    private LoanDao loanDao;
+
+    @Autowired(required = false)
+    private List<CatalogListener> listeners = Collections.emptyList();
+
+    @Autowired(required = false)
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${catalog.refreshIntervalMillis:5000}")
+    private long refreshIntervalMillis;
+
+    private volatile CatalogSnapshot snapshot;
+    private volatile long nextCheckAt;
+    private volatile boolean invalidated;
+
+    private final AtomicBoolean checking = new AtomicBoolean();
+
+    private TransactionTemplate primaryRead;
+
+    @PostConstruct
+    public void init() {
+        if (transactionManager == null) {
+            return;
+        }
+        primaryRead = new TransactionTemplate(transactionManager);
+        primaryRead.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        primaryRead.setReadOnly(false);
+    }
+
+    /**
+     * 現在のスナップショットを取得
+     */
+    public CatalogSnapshot snapshot() {
+        CatalogSnapshot current = snapshot;
+        if (current == null) {
+            return loadInitial();
+        }
+        if ((invalidated || System.currentTimeMillis() >= nextCheckAt) && checking.compareAndSet(false, true)) {
+            try {
+                current = refreshIfChanged(current);
+            } finally {
+                checking.set(false);
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 有効な全商品を取得
+     */
+    public List<LoanProduct> getActiveProducts() {
+        return snapshot().getProducts();
+    }
+
+    /**
+     * 商品IDで有効な商品を取得
+     */
+    public LoanProduct getProduct(String productId) {
+        return snapshot().getProduct(productId);
+    }
+
+    /**
+     * 指定したカタログバージョン以降の内容を読み込んで公開
+     * 既にそのバージョン以降のスナップショットを公開済みの場合は何もしない。
+     */
+    public void refresh(long catalogVersion) {
+        synchronized (this) {
+            CatalogSnapshot current = snapshot;
+            if (current == null) {
+                loadInitial();
+            } else if (current.getCatalogVersion() < catalogVersion) {
+                publish(load(current.getVersion() + 1));
+            }
+        }
+    }
+
+    /**
+     * キャッシュを無効化し、次回参照時に商品を読み直させる
+     */
+    public void invalidate() {
+        invalidated = true;
+    }
+
+    private synchronized CatalogSnapshot loadInitial() {
+        if (snapshot == null) {
+            publish(load(0));
+        }
+        return snapshot;
+    }
+
+    private CatalogSnapshot refreshIfChanged(CatalogSnapshot current) {
+        try {
+            boolean forced = invalidated;
+            invalidated = false;
+            boolean changed = readFromPrimary(() -> forced
+                    || loanDao.getCatalogVersion() > current.getCatalogVersion()
+                    || !Objects.equals(loanDao.getLoanProductsLastUpdated(), current.getHighWaterMark()));
+            if (changed) {
+                synchronized (this) {
+                    publish(load(snapshot.getVersion() + 1));
+                }
+                return snapshot;
+            }
+        } catch (RuntimeException e) {
+            logger.warn("商品カタログの更新確認に失敗しました。現在のスナップショットを継続使用します", e);
+        } finally {
+            nextCheckAt = System.currentTimeMillis() + refreshIntervalMillis;
+        }
+        return current;
+    }
+
+    private CatalogSnapshot load(long version) {
+        return readFromPrimary(() -> {
+            // 商品より先にバージョンとハイウォーターマークを読み、読み込み中の更新は次回の確認で拾う
+            long catalogVersion = loanDao.getCatalogVersion();
+            LocalDateTime highWaterMark = loanDao.getLoanProductsLastUpdated();
+            List<LoanProduct> products = new ArrayList<>(loanDao.getAllLoanProducts());
+            return new CatalogSnapshot(version, catalogVersion, highWaterMark, products);
+        });
+    }
+
+    /**
+     * 新しい読み書きトランザクションでプライマリから読む（トランザクション管理が無い場合はそのまま読む）
+     */
+    private <T> T readFromPrimary(Supplier<T> read) {
+        return primaryRead == null ? read.get() : primaryRead.execute(status -> read.get());
+    }
+
+    private void publish(CatalogSnapshot loaded) {
+        CatalogSnapshot current = snapshot;
+        if (current != null && loaded.getCatalogVersion() < current.getCatalogVersion()) {
+            logger.warn("公開済みより古いカタログバージョンを読み込んだため公開しません: catalogVersion={}, published={}",
+                    loaded.getCatalogVersion(), current.getCatalogVersion());
+            return;
+        }
+        for (CatalogListener listener : listeners) {
+            try {
+                Object derived = listener.prepare(loaded);
+                if (derived != null) {
+                    loaded.attach(listener, derived);
+                }
+            } catch (RuntimeException e) {
+                logger.warn("商品カタログの派生データの作成に失敗しました: {}", listener.getClass().getName(), e);
+            }
+        }
+        snapshot = loaded;
+        nextCheckAt = System.currentTimeMillis() + refreshIntervalMillis;
+        logger.info("商品カタログを読み込みました: version={}, catalogVersion={}, products={}",
+                loaded.getVersion(), loaded.getCatalogVersion(), loaded.getProducts().size());
+        for (CatalogListener listener : listeners) {
+            try {
+                listener.onCatalogChanged(loaded);
+            } catch (RuntimeException e) {
+                logger.warn("商品カタログの更新通知に失敗しました: {}", listener.getClass().getName(), e);
+            }
+        }
+    }
+}
@@ -1,9 +1,18 @@
 package com.mortgage.dao;
 
 import com.mortgage.model.LoanApplication;
+import com.mortgage.model.LoanApplicationEvent;
+import com.mortgage.model.LoanApplicationStatus;
+import com.mortgage.model.LoanApplicationSummary;
 import com.mortgage.model.LoanEstimate;
 import com.mortgage.model.LoanProduct;
+import com.mortgage.model.ReviewJobCheckpoint;
+import com.mortgage.model.ReviewUpdate;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -21,11 +30,36 @@ public interface LoanDao {
      */
     LoanProduct getLoanProductById(String productId);
 
+    /**
+     * ローン商品の最終更新日時（updated_at の最大値）を取得
+     */
+    LocalDateTime getLoanProductsLastUpdated();
+
+    /**
+     * ローン商品の現在金利を更新し、更新件数を返す
+     */
+    int updateProductRate(String productId, BigDecimal interestRate);
+
+    /**
+     * 商品カタログのバージョンを1つ進める
+     */
+    void incrementCatalogVersion();
+
+    /**
+     * 商品カタログのバージョンを取得
+     */
+    long getCatalogVersion();
+
     /**
      * 見積もりを保存
      */
     void saveEstimate(LoanEstimate estimate);
 
+    /**
+     * 見積もりを一括保存
+     */
+    void saveEstimates(Collection<LoanEstimate> estimates);
+
     /**
      * 見積もりIDで見積もりを取得
      */
@@ -41,11 +75,21 @@ public interface LoanDao {
      */
     void updateApplication(LoanApplication application);
 
+    /**
+     * 申し込みの状態遷移イベントを保存
+     */
+    void saveApplicationEvent(LoanApplicationEvent event);
+
     /**
      * 申し込みIDで申し込みを取得
      */
     LoanApplication getApplicationById(String applicationId);
 
+    /**
+     * 申し込みIDで審査状況を取得（審査状況の確認に必要な列のみ）
+     */
+    LoanApplicationStatus getApplicationStatusById(String applicationId);
+
     /**
      * 顧客IDで申し込み履歴を取得
      */
@@ -55,4 +99,58 @@ public interface LoanDao {
      * 申し込み状況で申し込み一覧を取得
      */
     List<LoanApplication> getApplicationsByStatus(String status);
+
+    /**
+     * 顧客IDで申し込み履歴の概要を申し込み日時の新しい順に最大 limit 件取得
+     * afterApplicationDate / afterApplicationId を指定すると、その行より後（古い側）から取得する。
+     */
+    List<LoanApplicationSummary> getApplicationsByCustomerIdPage(String customerId, LocalDateTime afterApplicationDate,
+                                                                 String afterApplicationId, int limit);
+
+    /**
+     * 申し込み状況で申し込み一覧の概要を申し込み日時の新しい順に最大 limit 件取得
+     * afterApplicationDate / afterApplicationId を指定すると、その行より後（古い側）から取得する。
+     */
+    List<LoanApplicationSummary> getApplicationsByStatusPage(String status, LocalDateTime afterApplicationDate,
+                                                             String afterApplicationId, int limit);
+
+    /**
+     * 顧客IDで申し込み履歴の概要を1件ずつ取得（一覧表示用のストリーミング版）
+     * トランザクション内で使用し、使用後は必ず閉じること。
+     */
+    Cursor<LoanApplicationSummary> openApplicationsByCustomerId(String customerId);
+
+    /**
+     * 申し込み状況で申し込み一覧の概要を1件ずつ取得（一覧表示用のストリーミング版）
+     * トランザクション内で使用し、使用後は必ず閉じること。
+     */
+    Cursor<LoanApplicationSummary> openApplicationsByStatus(String status);
+
+    /**
+     * 指定の状況の申し込みを申し込みID順に1件ずつ取得
+     * afterApplicationId を指定するとそれより後の申し込みから取得する。
+     * トランザクション内で使用し、使用後は必ず閉じること。
+     */
+    Cursor<LoanApplication> openApplicationsForReview(Collection<String> statuses, String afterApplicationId);
+
+    /**
+     * 審査結果を更新（審査時点から状況が変わっていない申し込みのみ）
+     * @return 更新件数（他で審査済みの場合は 0）
+     */
+    int updateReviewResult(ReviewUpdate update);
+
+    /**
+     * 審査結果を一括更新（審査時点から状況が変わっていない申し込みのみ）
+     */
+    void updateReviewResults(Collection<ReviewUpdate> updates);
+
+    /**
+     * 再審査ジョブのチェックポイントを取得
+     */
+    ReviewJobCheckpoint getReviewJobCheckpoint(String jobId);
+
+    /**
+     * 再審査ジョブのチェックポイントを保存（存在する場合は更新）
+     */
+    void saveReviewJobCheckpoint(ReviewJobCheckpoint checkpoint);
 } 
\ No newline at end of file
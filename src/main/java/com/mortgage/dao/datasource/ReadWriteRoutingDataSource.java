@@ -0,0 +1,63 @@
+package com.mortgage.dao.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 読み取り専用トランザクションをレプリカへ振り分けるデータソース
+ *
+ * readOnly = true のトランザクションはレプリカ、それ以外はプライマリのコネクションを使用する。
+ * トランザクション開始時点では readOnly フラグがまだ設定されていないため、
+ * LazyConnectionDataSourceProxy で包み、最初のSQL実行時にコネクションを取得させること。
+ * レプリカが無効な場合は全てプライマリを使用する。
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    private DataSource primaryDataSource;
+    private DataSource replicaDataSource;
+    private boolean replicaEnabled;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (primaryDataSource == null) {
+            throw new IllegalArgumentException("primaryDataSource は必須です");
+        }
+        boolean useReplica = replicaEnabled && replicaDataSource != null;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primaryDataSource);
+        targets.put(REPLICA, useReplica ? replicaDataSource : primaryDataSource);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primaryDataSource);
+        replicaEnabled = useReplica;
+        super.afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return replicaEnabled && TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? REPLICA : PRIMARY;
+    }
+
+    public boolean isReplicaEnabled() {
+        return replicaEnabled;
+    }
+
+    public void setPrimaryDataSource(DataSource primaryDataSource) {
+        this.primaryDataSource = primaryDataSource;
+    }
+
+    public void setReplicaDataSource(DataSource replicaDataSource) {
+        this.replicaDataSource = replicaDataSource;
+    }
+
+    public void setReplicaEnabled(boolean replicaEnabled) {
+        this.replicaEnabled = replicaEnabled;
+    }
+}
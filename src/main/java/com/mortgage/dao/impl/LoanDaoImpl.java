@@ -2,13 +2,27 @@ package com.mortgage.dao.impl;
 
 import com.mortgage.dao.LoanDao;
 import com.mortgage.model.LoanApplication;
+import com.mortgage.model.LoanApplicationEvent;
+import com.mortgage.model.LoanApplicationStatus;
+import com.mortgage.model.LoanApplicationSummary;
 import com.mortgage.model.LoanEstimate;
 import com.mortgage.model.LoanProduct;
+import com.mortgage.model.ReviewJobCheckpoint;
+import com.mortgage.model.ReviewUpdate;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 住宅ローンDAO実装クラス
@@ -16,9 +30,15 @@ import java.util.List;
 @Repository
 public class LoanDaoImpl implements LoanDao {
 
+    /** 複数行INSERT 1文あたりの行数 */
+    private static final int BATCH_CHUNK_SIZE = 200;
+
     @Autowired
     private SqlSession sqlSession;
 
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
     @Override
     public List<LoanProduct> getAllLoanProducts() {
         return sqlSession.selectList("LoanMapper.getAllLoanProducts");
@@ -29,11 +49,58 @@ public class LoanDaoImpl implements LoanDao {
         return sqlSession.selectOne("LoanMapper.getLoanProductById", productId);
     }
 
+    @Override
+    public LocalDateTime getLoanProductsLastUpdated() {
+        return sqlSession.selectOne("LoanMapper.getLoanProductsLastUpdated");
+    }
+
+    @Override
+    public int updateProductRate(String productId, BigDecimal interestRate) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("productId", productId);
+        params.put("interestRate", interestRate);
+        return sqlSession.update("LoanMapper.updateProductRate", params);
+    }
+
+    @Override
+    public void incrementCatalogVersion() {
+        sqlSession.update("LoanMapper.incrementCatalogVersion");
+    }
+
+    @Override
+    public long getCatalogVersion() {
+        Long version = sqlSession.selectOne("LoanMapper.getCatalogVersion");
+        return version == null ? 0 : version;
+    }
+
     @Override
     public void saveEstimate(LoanEstimate estimate) {
         sqlSession.insert("LoanMapper.saveEstimate", estimate);
     }
 
+    @Override
+    public void saveEstimates(Collection<LoanEstimate> estimates) {
+        // BATCH Executor のセッションで複数行INSERTをまとめて送信する。
+        // SqlSessionTemplate(REUSE) と同一トランザクション内で Executor 種別を切り替えられないため、
+        // SqlSessionFactory から直接開く（コネクションは Spring 管理のトランザクションと共有される）。
+        try (SqlSession batchSession = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            List<LoanEstimate> chunk = new ArrayList<>(Math.min(estimates.size(), BATCH_CHUNK_SIZE));
+            for (LoanEstimate estimate : estimates) {
+                chunk.add(estimate);
+                if (chunk.size() == BATCH_CHUNK_SIZE) {
+                    batchSession.insert("LoanMapper.saveEstimates", chunk);
+                    chunk = new ArrayList<>(BATCH_CHUNK_SIZE);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                batchSession.insert("LoanMapper.saveEstimates", chunk);
+            }
+            // close() だけではバッチが破棄されるため、明示的に送信する
+            batchSession.flushStatements();
+            batchSession.commit();
+        }
+    }
+
     @Override
     public LoanEstimate getEstimateById(String estimateId) {
         return sqlSession.selectOne("LoanMapper.getEstimateById", estimateId);
@@ -49,11 +116,21 @@ public class LoanDaoImpl implements LoanDao {
         sqlSession.update("LoanMapper.updateApplication", application);
     }
 
+    @Override
+    public void saveApplicationEvent(LoanApplicationEvent event) {
+        sqlSession.insert("LoanMapper.saveApplicationEvent", event);
+    }
+
     @Override
     public LoanApplication getApplicationById(String applicationId) {
         return sqlSession.selectOne("LoanMapper.getApplicationById", applicationId);
     }
 
+    @Override
+    public LoanApplicationStatus getApplicationStatusById(String applicationId) {
+        return sqlSession.selectOne("LoanMapper.getApplicationStatusById", applicationId);
+    }
+
     @Override
     public List<LoanApplication> getApplicationsByCustomerId(String customerId) {
         return sqlSession.selectList("LoanMapper.getApplicationsByCustomerId", customerId);
@@ -63,4 +140,73 @@ public class LoanDaoImpl implements LoanDao {
     public List<LoanApplication> getApplicationsByStatus(String status) {
         return sqlSession.selectList("LoanMapper.getApplicationsByStatus", status);
     }
+
+    @Override
+    public List<LoanApplicationSummary> getApplicationsByCustomerIdPage(String customerId, LocalDateTime afterApplicationDate,
+                                                                        String afterApplicationId, int limit) {
+        Map<String, Object> params = pageParams(afterApplicationDate, afterApplicationId, limit);
+        params.put("customerId", customerId);
+        return sqlSession.selectList("LoanMapper.getApplicationsByCustomerIdPage", params);
+    }
+
+    @Override
+    public List<LoanApplicationSummary> getApplicationsByStatusPage(String status, LocalDateTime afterApplicationDate,
+                                                                    String afterApplicationId, int limit) {
+        Map<String, Object> params = pageParams(afterApplicationDate, afterApplicationId, limit);
+        params.put("status", status);
+        return sqlSession.selectList("LoanMapper.getApplicationsByStatusPage", params);
+    }
+
+    private static Map<String, Object> pageParams(LocalDateTime afterApplicationDate, String afterApplicationId,
+                                                  int limit) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("afterApplicationDate", afterApplicationDate);
+        params.put("afterApplicationId", afterApplicationId);
+        params.put("limit", limit);
+        return params;
+    }
+
+    @Override
+    public Cursor<LoanApplicationSummary> openApplicationsByCustomerId(String customerId) {
+        return sqlSession.selectCursor("LoanMapper.streamApplicationsByCustomerId", customerId);
+    }
+
+    @Override
+    public Cursor<LoanApplicationSummary> openApplicationsByStatus(String status) {
+        return sqlSession.selectCursor("LoanMapper.streamApplicationsByStatus", status);
+    }
+
+    @Override
+    public Cursor<LoanApplication> openApplicationsForReview(Collection<String> statuses, String afterApplicationId) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("statuses", statuses);
+        params.put("afterApplicationId", afterApplicationId);
+        return sqlSession.selectCursor("LoanMapper.selectApplicationsForReview", params);
+    }
+
+    @Override
+    public int updateReviewResult(ReviewUpdate update) {
+        return sqlSession.update("LoanMapper.updateReviewResult", update);
+    }
+
+    @Override
+    public void updateReviewResults(Collection<ReviewUpdate> updates) {
+        try (SqlSession batchSession = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            for (ReviewUpdate update : updates) {
+                batchSession.update("LoanMapper.updateReviewResult", update);
+            }
+            batchSession.flushStatements();
+            batchSession.commit();
+        }
+    }
+
+    @Override
+    public ReviewJobCheckpoint getReviewJobCheckpoint(String jobId) {
+        return sqlSession.selectOne("LoanMapper.getReviewJobCheckpoint", jobId);
+    }
+
+    @Override
+    public void saveReviewJobCheckpoint(ReviewJobCheckpoint checkpoint) {
+        sqlSession.insert("LoanMapper.saveReviewJobCheckpoint", checkpoint);
+    }
 } 
\ No newline at end of file
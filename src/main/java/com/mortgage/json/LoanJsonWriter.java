@@ -0,0 +1,283 @@
+package com.mortgage.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.mortgage.calc.RepaymentSchedule;
+import com.mortgage.model.ApplicationPage;
+import com.mortgage.model.EstimateResult;
+import com.mortgage.model.LoanApplication;
+import com.mortgage.model.LoanApplicationStatus;
+import com.mortgage.model.LoanApplicationSummary;
+import com.mortgage.model.LoanEstimate;
+import com.mortgage.model.LoanProduct;
+import com.mortgage.model.RepaymentScheduleEntry;
+import com.mortgage.model.ReviewJobCheckpoint;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JsonGenerator によるレスポンスの直接書き出し
+ * リフレクションを使わず、フィールドを明示的に1つずつ書き出す。
+ */
+public final class LoanJsonWriter {
+
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .enable(StreamWriteFeature.WRITE_BIGDECIMAL_AS_PLAIN)
+            .build();
+
+    private LoanJsonWriter() {}
+
+    /**
+     * 出力先に書き出す JsonGenerator を作成
+     */
+    public static JsonGenerator createGenerator(OutputStream out) throws IOException {
+        return JSON_FACTORY.createGenerator(out);
+    }
+
+    /**
+     * ローン商品を書き出す
+     */
+    public static void writeProduct(JsonGenerator generator, LoanProduct product) throws IOException {
+        generator.writeStartObject();
+        writeStringField(generator, "productId", product.getProductId());
+        writeStringField(generator, "productName", product.getProductName());
+        writeStringField(generator, "productType", product.getProductType());
+        writeNumberField(generator, "minInterestRate", product.getMinInterestRate());
+        writeNumberField(generator, "maxInterestRate", product.getMaxInterestRate());
+        writeNumberField(generator, "currentInterestRate", product.getCurrentInterestRate());
+        writeNumberField(generator, "minLoanAmount", product.getMinLoanAmount());
+        writeNumberField(generator, "maxLoanAmount", product.getMaxLoanAmount());
+        writeNumberField(generator, "minLoanTerm", product.getMinLoanTerm());
+        writeNumberField(generator, "maxLoanTerm", product.getMaxLoanTerm());
+        writeStringField(generator, "repaymentMethod", product.getRepaymentMethod());
+        writeStringField(generator, "description", product.getDescription());
+        generator.writeBooleanField("isActive", product.isActive());
+        writeDateTimeField(generator, "createdAt", product.getCreatedAt());
+        writeDateTimeField(generator, "updatedAt", product.getUpdatedAt());
+        generator.writeEndObject();
+    }
+
+    /**
+     * ローン商品の一覧を書き出す
+     */
+    public static void writeProducts(JsonGenerator generator, List<LoanProduct> products) throws IOException {
+        generator.writeStartArray();
+        for (LoanProduct product : products) {
+            writeProduct(generator, product);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * 見積もりを書き出す
+     */
+    public static void writeEstimate(JsonGenerator generator, LoanEstimate estimate) throws IOException {
+        generator.writeStartObject();
+        writeStringField(generator, "estimateId", estimate.getEstimateId());
+        writeStringField(generator, "productId", estimate.getProductId());
+        writeStringField(generator, "productName", estimate.getProductName());
+        writeNumberField(generator, "loanAmount", estimate.getLoanAmount());
+        writeNumberField(generator, "loanTerm", estimate.getLoanTerm());
+        writeNumberField(generator, "interestRate", estimate.getInterestRate());
+        writeNumberField(generator, "monthlyPayment", estimate.getMonthlyPayment());
+        writeNumberField(generator, "totalPayment", estimate.getTotalPayment());
+        writeNumberField(generator, "totalInterest", estimate.getTotalInterest());
+        writeStringField(generator, "repaymentMethod", estimate.getRepaymentMethod());
+        writeDateTimeField(generator, "estimatedAt", estimate.getEstimatedAt());
+        writeStringField(generator, "customerId", estimate.getCustomerId());
+        generator.writeEndObject();
+    }
+
+    /**
+     * 一括見積もりの結果を依頼と同じ順序で書き出す
+     */
+    public static void writeEstimateResults(JsonGenerator generator, List<EstimateResult> results) throws IOException {
+        generator.writeStartArray();
+        for (int i = 0; i < results.size(); i++) {
+            EstimateResult result = results.get(i);
+            generator.writeStartObject();
+            generator.writeNumberField("index", i);
+            generator.writeBooleanField("success", result.isSuccess());
+            if (result.isSuccess()) {
+                generator.writeFieldName("estimate");
+                writeEstimate(generator, result.getEstimate());
+            } else {
+                writeStringField(generator, "message", result.getErrorMessage());
+            }
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * 申し込みを書き出す
+     * 認証の無い公開APIのレスポンスに使うため、口座番号は下4桁以外を伏せ、生年月日と年収は書き出さない。
+     */
+    public static void writeApplication(JsonGenerator generator, LoanApplication application) throws IOException {
+        generator.writeStartObject();
+        writeStringField(generator, "applicationId", application.getApplicationId());
+        writeStringField(generator, "customerId", application.getCustomerId());
+        writeStringField(generator, "customerName", application.getCustomerName());
+        writeStringField(generator, "customerEmail", application.getCustomerEmail());
+        writeStringField(generator, "customerPhone", application.getCustomerPhone());
+        writeStringField(generator, "productId", application.getProductId());
+        writeStringField(generator, "productName", application.getProductName());
+        writeNumberField(generator, "loanAmount", application.getLoanAmount());
+        writeNumberField(generator, "loanTerm", application.getLoanTerm());
+        writeNumberField(generator, "interestRate", application.getInterestRate());
+        writeNumberField(generator, "monthlyPayment", application.getMonthlyPayment());
+        writeStringField(generator, "applicationStatus", application.getApplicationStatus());
+        writeStringField(generator, "propertyAddress", application.getPropertyAddress());
+        writeStringField(generator, "propertyType", application.getPropertyType());
+        writeNumberField(generator, "propertyValue", application.getPropertyValue());
+        writeStringField(generator, "employmentType", application.getEmploymentType());
+        writeStringField(generator, "bankAccountNumber", maskAccountNumber(application.getBankAccountNumber()));
+        writeStringField(generator, "bankName", application.getBankName());
+        writeStringField(generator, "branchName", application.getBranchName());
+        writeDateTimeField(generator, "applicationDate", application.getApplicationDate());
+        writeDateTimeField(generator, "approvalDate", application.getApprovalDate());
+        writeStringField(generator, "approvedBy", application.getApprovedBy());
+        writeStringField(generator, "rejectionReason", application.getRejectionReason());
+        writeDateTimeField(generator, "createdAt", application.getCreatedAt());
+        writeDateTimeField(generator, "updatedAt", application.getUpdatedAt());
+        generator.writeEndObject();
+    }
+
+    /**
+     * 申し込み概要を書き出す
+     */
+    public static void writeApplicationSummary(JsonGenerator generator, LoanApplicationSummary summary)
+            throws IOException {
+        generator.writeStartObject();
+        writeStringField(generator, "applicationId", summary.getApplicationId());
+        writeStringField(generator, "customerId", summary.getCustomerId());
+        writeStringField(generator, "productName", summary.getProductName());
+        writeNumberField(generator, "loanAmount", summary.getLoanAmount());
+        writeStringField(generator, "applicationStatus", summary.getApplicationStatus());
+        writeDateTimeField(generator, "applicationDate", summary.getApplicationDate());
+        writeDateTimeField(generator, "approvalDate", summary.getApprovalDate());
+        generator.writeEndObject();
+    }
+
+    /**
+     * 申し込み一覧の1ページを書き出す
+     */
+    public static void writeApplicationPage(JsonGenerator generator, ApplicationPage page) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("items");
+        for (LoanApplicationSummary summary : page.getItems()) {
+            writeApplicationSummary(generator, summary);
+        }
+        generator.writeEndArray();
+        writeStringField(generator, "nextPageToken", page.getNextPageToken());
+        generator.writeEndObject();
+    }
+
+    /**
+     * 申し込みの審査状況を書き出す
+     */
+    public static void writeApplicationStatus(JsonGenerator generator, LoanApplicationStatus status) throws IOException {
+        generator.writeStartObject();
+        writeStringField(generator, "applicationId", status.getApplicationId());
+        writeStringField(generator, "applicationStatus", status.getApplicationStatus());
+        writeStringField(generator, "rejectionReason", status.getRejectionReason());
+        writeDateTimeField(generator, "approvalDate", status.getApprovalDate());
+        writeStringField(generator, "approvedBy", status.getApprovedBy());
+        writeDateTimeField(generator, "updatedAt", status.getUpdatedAt());
+        generator.writeEndObject();
+    }
+
+    /**
+     * 再審査ジョブのチェックポイントを書き出す
+     */
+    public static void writeReviewJobCheckpoint(JsonGenerator generator, ReviewJobCheckpoint checkpoint,
+                                                boolean running) throws IOException {
+        generator.writeStartObject();
+        writeStringField(generator, "jobId", checkpoint.getJobId());
+        writeStringField(generator, "status", checkpoint.getStatus());
+        generator.writeBooleanField("running", running);
+        writeStringField(generator, "lastApplicationId", checkpoint.getLastApplicationId());
+        generator.writeNumberField("processedCount", checkpoint.getProcessedCount());
+        generator.writeNumberField("updatedCount", checkpoint.getUpdatedCount());
+        writeDateTimeField(generator, "startedAt", checkpoint.getStartedAt());
+        writeDateTimeField(generator, "updatedAt", checkpoint.getUpdatedAt());
+        generator.writeEndObject();
+    }
+
+    /**
+     * 返済予定表を1行ずつ書き出す
+     */
+    public static void writeSchedule(JsonGenerator generator, RepaymentSchedule schedule) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("repaymentMethod", schedule.getRepaymentMethod());
+        writeNumberField(generator, "principal", schedule.getPrincipal());
+        generator.writeNumberField("numberOfPayments", schedule.getNumberOfPayments());
+        generator.writeArrayFieldStart("entries");
+        for (RepaymentScheduleEntry entry : schedule) {
+            writeScheduleEntry(generator, entry);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * 返済予定表の明細を書き出す
+     */
+    public static void writeScheduleEntry(JsonGenerator generator, RepaymentScheduleEntry entry) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("paymentNumber", entry.getPaymentNumber());
+        writeNumberField(generator, "paymentAmount", entry.getPaymentAmount());
+        writeNumberField(generator, "principalAmount", entry.getPrincipalAmount());
+        writeNumberField(generator, "interestAmount", entry.getInterestAmount());
+        writeNumberField(generator, "remainingBalance", entry.getRemainingBalance());
+        generator.writeEndObject();
+    }
+
+    /**
+     * 口座番号の下4桁以外を伏せる（4桁以下の場合は全て伏せる）
+     */
+    static String maskAccountNumber(String accountNumber) {
+        if (accountNumber == null || accountNumber.isEmpty()) {
+            return accountNumber;
+        }
+        int length = accountNumber.length();
+        return length <= 4 ? "****" : "****" + accountNumber.substring(length - 4);
+    }
+
+    private static void writeStringField(JsonGenerator generator, String name, String value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeStringField(name, value);
+        }
+    }
+
+    private static void writeNumberField(JsonGenerator generator, String name, Integer value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeNumberField(name, value.intValue());
+        }
+    }
+
+    private static void writeDateTimeField(JsonGenerator generator, String name, LocalDateTime value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeStringField(name, value.toString());
+        }
+    }
+
+    private static void writeNumberField(JsonGenerator generator, String name, BigDecimal value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeNumberField(name, value);
+        }
+    }
+}
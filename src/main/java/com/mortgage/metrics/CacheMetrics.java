@@ -0,0 +1,35 @@
+package com.mortgage.metrics;
+
+import com.mortgage.calc.AnnuityFactorTable;
+import com.mortgage.service.QuoteCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+
+/**
+ * アプリケーション内キャッシュのヒット率を登録
+ */
+@Component
+public class CacheMetrics {
+
+    @Autowired
+    private MetricsRegistry registry;
+
+    @Autowired
+    private AnnuityFactorTable annuityFactorTable;
+
+    @Autowired
+    private QuoteCache quoteCache;
+
+    @PostConstruct
+    public void register() {
+        registry.cache("annuityFactor", annuityFactorTable::getHitCount, annuityFactorTable::getMissCount);
+        registry.cache("quote", quoteCache::getHitCount, quoteCache::getMissCount);
+        registry.counter("cache_evictions_total", "件数の上限によるキャッシュの追い出し数",
+                quoteCache::getEvictionCount, "cache", "quote");
+        registry.counter("cache_expirations_total", "期限切れによるキャッシュの削除数",
+                quoteCache::getExpirationCount, "cache", "quote");
+        registry.gauge("cache_size", "キャッシュの件数", quoteCache::size, "cache", "quote");
+    }
+}
@@ -0,0 +1,48 @@
+package com.mortgage.metrics;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * HikariCP のコネクションプールのゲージを登録
+ * プールが開始されていない場合（レプリカ無効時など）は NaN を返す。
+ */
+@Component
+public class HikariPoolMetrics {
+
+    @Autowired
+    private MetricsRegistry registry;
+
+    @Autowired(required = false)
+    private Map<String, HikariDataSource> dataSources = Collections.emptyMap();
+
+    @PostConstruct
+    public void register() {
+        for (Map.Entry<String, HikariDataSource> entry : dataSources.entrySet()) {
+            HikariDataSource dataSource = entry.getValue();
+            String pool = dataSource.getPoolName() != null ? dataSource.getPoolName() : entry.getKey();
+            registry.gauge("hikari_connections_active", "使用中のコネクション数",
+                    () -> poolValue(dataSource, HikariPoolMXBean::getActiveConnections), "pool", pool);
+            registry.gauge("hikari_connections_idle", "待機中のコネクション数",
+                    () -> poolValue(dataSource, HikariPoolMXBean::getIdleConnections), "pool", pool);
+            registry.gauge("hikari_connections_total", "コネクション数",
+                    () -> poolValue(dataSource, HikariPoolMXBean::getTotalConnections), "pool", pool);
+            registry.gauge("hikari_connections_pending", "コネクションの取得待ちスレッド数",
+                    () -> poolValue(dataSource, HikariPoolMXBean::getThreadsAwaitingConnection), "pool", pool);
+            registry.gauge("hikari_connections_max", "最大コネクション数",
+                    dataSource::getMaximumPoolSize, "pool", pool);
+        }
+    }
+
+    private static double poolValue(HikariDataSource dataSource, ToIntFunction<HikariPoolMXBean> value) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return pool == null ? Double.NaN : value.applyAsInt(pool);
+    }
+}
@@ -0,0 +1,211 @@
+package com.mortgage.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * メトリクスの登録と Prometheus テキスト形式での出力
+ *
+ * Timer は名前とラベルの組み合わせごとに1つだけ作成する。記録側は取得した Timer を保持して使い回し、
+ * 記録のたびに登録簿を引かないこと。
+ * ゲージとカウンタは取得関数で登録し、出力時にだけ値を読む。
+ */
+@Component
+public class MetricsRegistry {
+
+    private final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Sampled> sampled = new ConcurrentHashMap<>();
+
+    /**
+     * Timer を取得（未登録の場合は作成）
+     * prefix から「prefix_seconds」のヒストグラムと「prefix_errors_total」のカウンタを出力する。
+     */
+    public Timer timer(String prefix, String help, String... labels) {
+        String formatted = formatLabels(labels);
+        return timers.computeIfAbsent(prefix + '{' + formatted + '}', key -> new Timer(prefix, help, formatted));
+    }
+
+    /**
+     * 現在値を返すゲージを登録
+     */
+    public void gauge(String name, String help, DoubleSupplier value, String... labels) {
+        register(new Sampled(name, help, "gauge", formatLabels(labels), value));
+    }
+
+    /**
+     * 累積値を返すカウンタを登録
+     */
+    public void counter(String name, String help, LongSupplier value, String... labels) {
+        register(new Sampled(name, help, "counter", formatLabels(labels), () -> value.getAsLong()));
+    }
+
+    /**
+     * ナノ秒の累積値を秒に換算したカウンタを登録
+     */
+    public void secondsCounter(String name, String help, LongSupplier nanos, String... labels) {
+        register(new Sampled(name, help, "counter", formatLabels(labels), () -> nanos.getAsLong() / 1e9));
+    }
+
+    /**
+     * キャッシュのヒット数・ミス数・ヒット率を登録
+     */
+    public void cache(String cacheName, LongSupplier hits, LongSupplier misses) {
+        counter("cache_hits_total", "キャッシュのヒット数", hits, "cache", cacheName);
+        counter("cache_misses_total", "キャッシュのミス数", misses, "cache", cacheName);
+        gauge("cache_hit_ratio", "キャッシュのヒット率", () -> {
+            long hit = hits.getAsLong();
+            long total = hit + misses.getAsLong();
+            return total == 0 ? Double.NaN : (double) hit / total;
+        }, "cache", cacheName);
+    }
+
+    /**
+     * 全メトリクスを Prometheus テキスト形式（0.0.4）で書き出す
+     */
+    public void writeTo(Writer out) throws IOException {
+        Map<String, List<Timer>> histograms = new TreeMap<>();
+        for (Timer timer : timers.values()) {
+            histograms.computeIfAbsent(timer.getName(), name -> new ArrayList<>()).add(timer);
+        }
+        for (List<Timer> family : histograms.values()) {
+            family.sort((a, b) -> a.getLabels().compareTo(b.getLabels()));
+            writeHistograms(out, family);
+            writeErrors(out, family);
+        }
+
+        Map<String, List<Sampled>> families = new TreeMap<>();
+        for (Sampled metric : sampled.values()) {
+            families.computeIfAbsent(metric.name, name -> new ArrayList<>()).add(metric);
+        }
+        for (List<Sampled> family : families.values()) {
+            family.sort((a, b) -> a.labels.compareTo(b.labels));
+            Sampled first = family.get(0);
+            writeHeader(out, first.name, first.help, first.type);
+            for (Sampled metric : family) {
+                writeSample(out, metric.name, metric.labels, null, formatDouble(metric.value.getAsDouble()));
+            }
+        }
+        out.flush();
+    }
+
+    private void register(Sampled metric) {
+        sampled.put(metric.name + '{' + metric.labels + '}', metric);
+    }
+
+    private static void writeHistograms(Writer out, List<Timer> family) throws IOException {
+        Timer first = family.get(0);
+        writeHeader(out, first.getName(), first.getHelp(), "histogram");
+        for (Timer timer : family) {
+            long[] counts = timer.bucketCounts();
+            long cumulative = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cumulative += counts[i];
+                writeSample(out, timer.getName() + "_bucket", timer.getLabels(), Timer.BUCKET_LABELS[i],
+                        Long.toString(cumulative));
+            }
+            writeSample(out, timer.getName() + "_sum", timer.getLabels(), null,
+                    formatDouble(timer.getTotalNanos() / 1e9));
+            writeSample(out, timer.getName() + "_count", timer.getLabels(), null, Long.toString(cumulative));
+        }
+    }
+
+    private static void writeErrors(Writer out, List<Timer> family) throws IOException {
+        Timer first = family.get(0);
+        writeHeader(out, first.getErrorName(), first.getHelp() + "（失敗回数）", "counter");
+        for (Timer timer : family) {
+            writeSample(out, timer.getErrorName(), timer.getLabels(), null, Long.toString(timer.getErrorCount()));
+        }
+    }
+
+    private static void writeHeader(Writer out, String name, String help, String type) throws IOException {
+        out.write("# HELP ");
+        out.write(name);
+        out.write(' ');
+        out.write(help.replace("\\", "\\\\").replace("\n", "\\n"));
+        out.write("\n# TYPE ");
+        out.write(name);
+        out.write(' ');
+        out.write(type);
+        out.write('\n');
+    }
+
+    private static void writeSample(Writer out, String name, String labels, String le, String value)
+            throws IOException {
+        out.write(name);
+        if (!labels.isEmpty() || le != null) {
+            out.write('{');
+            out.write(labels);
+            if (le != null) {
+                if (!labels.isEmpty()) {
+                    out.write(',');
+                }
+                out.write("le=\"");
+                out.write(le);
+                out.write('"');
+            }
+            out.write('}');
+        }
+        out.write(' ');
+        out.write(value);
+        out.write('\n');
+    }
+
+    /**
+     * ラベルの名前と値の組を「name="value",...」の形式にする
+     */
+    static String formatLabels(String... labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("ラベルは名前と値の組で指定してください");
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < labels.length; i += 2) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(labels[i]).append("=\"")
+                    .append(labels[i + 1].replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n"))
+                    .append('"');
+        }
+        return sb.toString();
+    }
+
+    static String formatDouble(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        return Double.toString(value);
+    }
+
+    /**
+     * 出力時に値を読むゲージ・カウンタ
+     */
+    private static final class Sampled {
+
+        private final String name;
+        private final String help;
+        private final String type;
+        private final String labels;
+        private final DoubleSupplier value;
+
+        private Sampled(String name, String help, String type, String labels, DoubleSupplier value) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+            this.labels = labels;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.mortgage.metrics;
+
+import org.springframework.web.context.support.WebApplicationContextUtils;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * メトリクスの取得エンドポイント（Prometheus テキスト形式）
+ */
+public class MetricsServlet extends HttpServlet {
+
+    private static final long serialVersionUID = 1L;
+
+    private transient MetricsRegistry registry;
+
+    @Override
+    public void init() throws ServletException {
+        registry = WebApplicationContextUtils.getRequiredWebApplicationContext(getServletContext())
+                .getBean(MetricsRegistry.class);
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType("text/plain; version=0.0.4; charset=utf-8");
+        response.setHeader("Cache-Control", "no-store");
+        registry.writeTo(response.getWriter());
+    }
+}
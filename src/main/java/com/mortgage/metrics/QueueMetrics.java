@@ -0,0 +1,55 @@
+package com.mortgage.metrics;
+
+import com.mortgage.service.EstimateWriter;
+import com.mortgage.service.ReviewPipeline;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+
+/**
+ * バックグラウンド処理のキューの滞留と処理時間を登録
+ * 同期モードで動いている場合はキューが無いため、滞留数は 0 のままとなる。
+ */
+@Component
+public class QueueMetrics {
+
+    @Autowired
+    private MetricsRegistry registry;
+
+    @Autowired
+    private EstimateWriter estimateWriter;
+
+    @Autowired
+    private ReviewPipeline reviewPipeline;
+
+    @PostConstruct
+    public void register() {
+        registry.gauge("estimate_writer_queue_depth", "保存待ちの見積もり数", estimateWriter::getQueueDepth);
+        registry.gauge("estimate_writer_flush_max_seconds", "一括保存1回あたりの最大時間",
+                () -> estimateWriter.getMaxFlushNanos() / 1e9);
+        registry.secondsCounter("estimate_writer_flush_seconds_total", "一括保存の累積時間",
+                estimateWriter::getTotalFlushNanos);
+        registry.counter("estimate_writer_flushes_total", "一括保存の回数", estimateWriter::getFlushCount);
+        registry.counter("estimate_writer_enqueued_total", "キューに積んだ見積もり数",
+                estimateWriter::getEnqueuedCount);
+        registry.counter("estimate_writer_flushed_total", "一括保存した見積もり数",
+                estimateWriter::getFlushedCount);
+        registry.counter("estimate_writer_failed_total", "一括保存に失敗して破棄した見積もり数",
+                estimateWriter::getFailedCount);
+        registry.counter("estimate_writer_rejected_total", "キューが満杯で積めなかった見積もり数",
+                estimateWriter::getRejectedCount);
+        registry.counter("estimate_writer_sync_fallback_total", "呼び出し元で同期保存した見積もり数",
+                estimateWriter::getSyncFallbackCount);
+
+        registry.gauge("review_pipeline_queue_depth", "審査待ちの申し込み数", reviewPipeline::getQueueDepth);
+        registry.gauge("review_pipeline_in_flight", "審査を依頼して完了していない申し込み数",
+                reviewPipeline::getInFlightCount);
+        registry.counter("review_pipeline_submitted_total", "審査を依頼した申し込み数",
+                reviewPipeline::getSubmittedCount);
+        registry.counter("review_pipeline_reviewed_total", "審査した申し込み数", reviewPipeline::getReviewedCount);
+        registry.counter("review_pipeline_failed_total", "審査に失敗した申し込み数", reviewPipeline::getFailedCount);
+        registry.counter("review_pipeline_caller_runs_total", "キューが満杯で呼び出し元で審査した申し込み数",
+                reviewPipeline::getCallerRunsCount);
+    }
+}
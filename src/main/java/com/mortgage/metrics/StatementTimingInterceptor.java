@@ -0,0 +1,192 @@
+package com.mortgage.metrics;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ステートメントごとの処理時間を記録する MyBatis プラグイン
+ *
+ * Executor の query / update / queryCursor / flushStatements を計測し、
+ * mapped statement ID ごとのヒストグラム（mybatis_statement_seconds）に記録する。
+ * しきい値を超えたステートメントだけ SQL とバインドパラメータをログに出力し、
+ * 個人情報の項目は値を伏せる。しきい値以下の場合は時刻の取得と記録だけを行う。
+ * queryCursor は Cursor を開くまで、BATCH の update はバッチへの追加までの時間となり、
+ * 実行時間は flushStatements として記録される。
+ */
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class,
+                        CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "queryCursor",
+                args = {MappedStatement.class, Object.class, RowBounds.class}),
+        @Signature(type = Executor.class, method = "flushStatements", args = {})
+})
+public class StatementTimingInterceptor implements Interceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatementTimingInterceptor.class);
+
+    private static final String METRIC_PREFIX = "mybatis_statement";
+    private static final String METRIC_HELP = "MyBatis のステートメントごとの処理時間";
+    private static final String FLUSH_STATEMENTS = "flushStatements";
+    private static final String MASK = "****";
+    private static final int MAX_VALUE_LENGTH = 100;
+
+    @Autowired
+    private MetricsRegistry registry;
+
+    @Value("${mybatis.slowQuery.thresholdMillis:500}")
+    private long slowQueryThresholdMillis;
+
+    @Value("${mybatis.slowQuery.maskedProperties:bankAccountNumber,bankName,branchName,customerName,customerEmail,customerPhone,customerBirthDate,propertyAddress}")
+    private String maskedProperties;
+
+    private long slowQueryThresholdNanos;
+    private Set<String> masked;
+
+    private final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        slowQueryThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryThresholdMillis);
+        masked = new HashSet<>(Arrays.asList(maskedProperties.trim().split("\\s*,\\s*")));
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        // flushStatements は引数が無い（プロキシ経由では null になる）
+        Object[] args = invocation.getArgs();
+        MappedStatement statement = args == null || args.length == 0 ? null : (MappedStatement) args[0];
+        Timer timer = timer(statement == null ? FLUSH_STATEMENTS : statement.getId());
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            Object result = invocation.proceed();
+            failed = false;
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            if (failed) {
+                timer.recordFailure(elapsed);
+            } else {
+                timer.record(elapsed);
+            }
+            if (elapsed >= slowQueryThresholdNanos) {
+                logSlowStatement(statement, args, elapsed);
+            }
+        }
+    }
+
+    private Timer timer(String id) {
+        Timer timer = timers.get(id);
+        if (timer == null) {
+            timer = timers.computeIfAbsent(id, key -> registry.timer(METRIC_PREFIX, METRIC_HELP, "statement", key));
+        }
+        return timer;
+    }
+
+    private void logSlowStatement(MappedStatement statement, Object[] args, long elapsedNanos) {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (statement == null) {
+            logger.warn("遅いバッチ実行: {} ({}ms)", FLUSH_STATEMENTS, elapsedMillis);
+            return;
+        }
+        try {
+            BoundSql boundSql = args.length == 6 ? (BoundSql) args[5] : statement.getBoundSql(args[1]);
+            logger.warn("遅いSQL: {} ({}ms) sql=[{}] parameters={}", statement.getId(), elapsedMillis,
+                    boundSql.getSql().replaceAll("\\s+", " ").trim(),
+                    describeParameters(statement, boundSql, args[1]));
+        } catch (RuntimeException e) {
+            logger.warn("遅いSQL: {} ({}ms) パラメータを取得できませんでした", statement.getId(), elapsedMillis, e);
+        }
+    }
+
+    /**
+     * バインドパラメータを「名前=値」の一覧にする（個人情報の項目は値を伏せる）
+     */
+    String describeParameters(MappedStatement statement, BoundSql boundSql, Object parameter) {
+        Configuration configuration = statement.getConfiguration();
+        List<ParameterMapping> mappings = boundSql.getParameterMappings();
+        StringBuilder sb = new StringBuilder("[");
+        for (ParameterMapping mapping : mappings) {
+            if (mapping.getMode() == ParameterMode.OUT) {
+                continue;
+            }
+            String property = mapping.getProperty();
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(property).append('=');
+            if (isMasked(property)) {
+                sb.append(MASK);
+            } else {
+                sb.append(format(valueOf(configuration, boundSql, parameter, property)));
+            }
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * DefaultParameterHandler と同じ規則でパラメータの値を取得
+     */
+    private static Object valueOf(Configuration configuration, BoundSql boundSql, Object parameter,
+                                  String property) {
+        if (boundSql.hasAdditionalParameter(property)) {
+            return boundSql.getAdditionalParameter(property);
+        }
+        if (parameter == null) {
+            return null;
+        }
+        if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameter.getClass())) {
+            return parameter;
+        }
+        return configuration.newMetaObject(parameter).getValue(property);
+    }
+
+    /**
+     * プロパティ名の末尾（foreach の要素や入れ子のプロパティを含む）が伏せる対象かを判定
+     */
+    private boolean isMasked(String property) {
+        return masked.contains(property.substring(property.lastIndexOf('.') + 1));
+    }
+
+    private static String format(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        String text = value.toString();
+        if (text.length() > MAX_VALUE_LENGTH) {
+            text = text.substring(0, MAX_VALUE_LENGTH) + "...";
+        }
+        return value instanceof CharSequence ? "'" + text + "'" : text;
+    }
+}
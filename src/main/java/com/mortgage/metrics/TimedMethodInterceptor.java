@@ -0,0 +1,53 @@
+package com.mortgage.metrics;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 公開メソッドの処理時間を記録するインターセプタ
+ * メソッドごとの Timer は初回呼び出し時に作成して保持し、以降の記録ではオブジェクトを生成しない。
+ * applicationContext.xml の BeanNameAutoProxyCreator で対象の Bean に適用する。
+ */
+public class TimedMethodInterceptor implements MethodInterceptor {
+
+    private final MetricsRegistry registry;
+    private final String prefix;
+    private final String help;
+    private final String labelName;
+
+    private final ConcurrentMap<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    public TimedMethodInterceptor(MetricsRegistry registry, String prefix, String help, String labelName) {
+        this.registry = registry;
+        this.prefix = prefix;
+        this.help = help;
+        this.labelName = labelName;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (!Modifier.isPublic(method.getModifiers()) || method.getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+        Timer timer = timers.get(method);
+        if (timer == null) {
+            timer = timers.computeIfAbsent(method, m -> registry.timer(prefix, help, labelName, m.getName()));
+        }
+
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            timer.record(System.nanoTime() - start);
+            return result;
+        } catch (Throwable e) {
+            timer.recordFailure(System.nanoTime() - start);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.mortgage.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 処理時間のヒストグラムと失敗回数
+ * 固定の区間境界ごとに LongAdder で数えるため、記録時にロックもオブジェクト生成も発生しない。
+ */
+public final class Timer {
+
+    /** 区間の上限（ナノ秒）。最後の区間はそれ以上の全て */
+    private static final long[] BUCKET_BOUNDS_NANOS = {
+            TimeUnit.MICROSECONDS.toNanos(50), TimeUnit.MICROSECONDS.toNanos(100),
+            TimeUnit.MICROSECONDS.toNanos(250), TimeUnit.MICROSECONDS.toNanos(500),
+            TimeUnit.MILLISECONDS.toNanos(1), TimeUnit.MILLISECONDS.toNanos(2) + 500_000,
+            TimeUnit.MILLISECONDS.toNanos(5), TimeUnit.MILLISECONDS.toNanos(10),
+            TimeUnit.MILLISECONDS.toNanos(25), TimeUnit.MILLISECONDS.toNanos(50),
+            TimeUnit.MILLISECONDS.toNanos(100), TimeUnit.MILLISECONDS.toNanos(250),
+            TimeUnit.MILLISECONDS.toNanos(500), TimeUnit.SECONDS.toNanos(1),
+            TimeUnit.MILLISECONDS.toNanos(2500), TimeUnit.SECONDS.toNanos(5),
+            TimeUnit.SECONDS.toNanos(10)
+    };
+
+    /** 出力用の区間の上限（秒） */
+    static final String[] BUCKET_LABELS = new String[BUCKET_BOUNDS_NANOS.length + 1];
+
+    static {
+        for (int i = 0; i < BUCKET_BOUNDS_NANOS.length; i++) {
+            BUCKET_LABELS[i] = MetricsRegistry.formatDouble(BUCKET_BOUNDS_NANOS[i] / 1e9);
+        }
+        BUCKET_LABELS[BUCKET_BOUNDS_NANOS.length] = "+Inf";
+    }
+
+    private final String name;
+    private final String errorName;
+    private final String help;
+    private final String labels;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_NANOS.length + 1];
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+
+    Timer(String prefix, String help, String labels) {
+        this.name = prefix + "_seconds";
+        this.errorName = prefix + "_errors_total";
+        this.help = help;
+        this.labels = labels;
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 成功した処理の時間を記録
+     */
+    public void record(long nanos) {
+        buckets[bucketIndex(nanos)].increment();
+        totalNanos.add(nanos);
+    }
+
+    /**
+     * 失敗した処理の時間を記録
+     */
+    public void recordFailure(long nanos) {
+        record(nanos);
+        errorCount.increment();
+    }
+
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    String getName() {
+        return name;
+    }
+
+    String getErrorName() {
+        return errorName;
+    }
+
+    String getHelp() {
+        return help;
+    }
+
+    String getLabels() {
+        return labels;
+    }
+
+    /**
+     * 区間ごとの件数（累積ではない）
+     */
+    long[] bucketCounts() {
+        long[] counts = new long[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    static int bucketIndex(long nanos) {
+        int low = 0;
+        int high = BUCKET_BOUNDS_NANOS.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (nanos <= BUCKET_BOUNDS_NANOS[mid]) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,31 @@
+package com.mortgage.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 申し込み一覧の1ページ
+ * nextPageToken は次のページを取得するための継続トークン（最終ページの場合は null）。
+ */
+public class ApplicationPage {
+
+    private final List<LoanApplicationSummary> items;
+    private final String nextPageToken;
+
+    public ApplicationPage(List<LoanApplicationSummary> items, String nextPageToken) {
+        this.items = Collections.unmodifiableList(items);
+        this.nextPageToken = nextPageToken;
+    }
+
+    public List<LoanApplicationSummary> getItems() {
+        return items;
+    }
+
+    public String getNextPageToken() {
+        return nextPageToken;
+    }
+
+    public boolean hasNext() {
+        return nextPageToken != null;
+    }
+}
@@ -0,0 +1,56 @@
+package com.mortgage.model;
+
+import java.math.BigDecimal;
+
+/**
+ * 見積もり依頼（一括見積もりの1件分）
+ */
+public class EstimateRequest {
+
+    private String productId;
+    private BigDecimal loanAmount;
+    private Integer loanTerm;
+
+    // コンストラクタ
+    public EstimateRequest() {}
+
+    public EstimateRequest(String productId, BigDecimal loanAmount, Integer loanTerm) {
+        this.productId = productId;
+        this.loanAmount = loanAmount;
+        this.loanTerm = loanTerm;
+    }
+
+    // Getter and Setter methods
+    public String getProductId() {
+        return productId;
+    }
+
+    public void setProductId(String productId) {
+        this.productId = productId;
+    }
+
+    public BigDecimal getLoanAmount() {
+        return loanAmount;
+    }
+
+    public void setLoanAmount(BigDecimal loanAmount) {
+        this.loanAmount = loanAmount;
+    }
+
+    public Integer getLoanTerm() {
+        return loanTerm;
+    }
+
+    public void setLoanTerm(Integer loanTerm) {
+        this.loanTerm = loanTerm;
+    }
+
+    @Override
+    public String toString() {
+        return "EstimateRequest{" +
+                "productId='" + productId + '\'' +
+                ", loanAmount=" + loanAmount +
+                ", loanTerm=" + loanTerm +
+                '}';
+    }
+}
@@ -0,0 +1,51 @@
+package com.mortgage.model;
+
+/**
+ * 一括見積もりの1件分の結果
+ * 成功時は見積もり、失敗時はエラーメッセージを保持する。
+ */
+public class EstimateResult {
+
+    private final EstimateRequest request;
+    private final LoanEstimate estimate;
+    private final String errorMessage;
+
+    private EstimateResult(EstimateRequest request, LoanEstimate estimate, String errorMessage) {
+        this.request = request;
+        this.estimate = estimate;
+        this.errorMessage = errorMessage;
+    }
+
+    public static EstimateResult success(EstimateRequest request, LoanEstimate estimate) {
+        return new EstimateResult(request, estimate, null);
+    }
+
+    public static EstimateResult failure(EstimateRequest request, String errorMessage) {
+        return new EstimateResult(request, null, errorMessage);
+    }
+
+    public boolean isSuccess() {
+        return estimate != null;
+    }
+
+    public EstimateRequest getRequest() {
+        return request;
+    }
+
+    public LoanEstimate getEstimate() {
+        return estimate;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    @Override
+    public String toString() {
+        return "EstimateResult{" +
+                "request=" + request +
+                ", estimate=" + estimate +
+                ", errorMessage='" + errorMessage + '\'' +
+                '}';
+    }
+}
@@ -1,6 +1,7 @@
 package com.mortgage.model;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 /**
@@ -13,6 +14,7 @@ public class LoanApplication {
     private String customerName;
     private String customerEmail;
     private String customerPhone;
+    private LocalDate customerBirthDate;
     private String productId;
     private String productName;
     private BigDecimal loanAmount;
@@ -91,6 +93,14 @@ public class LoanApplication {
         this.customerPhone = customerPhone;
     }
 
+    public LocalDate getCustomerBirthDate() {
+        return customerBirthDate;
+    }
+
+    public void setCustomerBirthDate(LocalDate customerBirthDate) {
+        this.customerBirthDate = customerBirthDate;
+    }
+
     public String getProductId() {
         return productId;
     }
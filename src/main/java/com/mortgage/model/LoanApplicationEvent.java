@@ -0,0 +1,103 @@
+package com.mortgage.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 申し込みの状態遷移イベント
+ * 審査を保存前に行う場合（review.mode=inline）、PENDING から審査結果への遷移をこのイベントで記録する。
+ */
+public class LoanApplicationEvent {
+
+    private Long eventId;
+    private String applicationId;
+    private String fromStatus;
+    private String toStatus;
+    private String reason;
+    private String actor;
+    private LocalDateTime occurredAt;
+
+    // コンストラクタ
+    public LoanApplicationEvent() {}
+
+    /**
+     * 審査による状態遷移のイベントを作成
+     */
+    public static LoanApplicationEvent reviewed(LoanApplication application, String fromStatus) {
+        LoanApplicationEvent event = new LoanApplicationEvent();
+        event.setApplicationId(application.getApplicationId());
+        event.setFromStatus(fromStatus);
+        event.setToStatus(application.getApplicationStatus());
+        event.setReason(application.getRejectionReason());
+        event.setActor("SYSTEM");
+        event.setOccurredAt(application.getUpdatedAt());
+        return event;
+    }
+
+    // Getter and Setter methods
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public String getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(String applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public String getFromStatus() {
+        return fromStatus;
+    }
+
+    public void setFromStatus(String fromStatus) {
+        this.fromStatus = fromStatus;
+    }
+
+    public String getToStatus() {
+        return toStatus;
+    }
+
+    public void setToStatus(String toStatus) {
+        this.toStatus = toStatus;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    public String getActor() {
+        return actor;
+    }
+
+    public void setActor(String actor) {
+        this.actor = actor;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    @Override
+    public String toString() {
+        return "LoanApplicationEvent{" +
+                "eventId=" + eventId +
+                ", applicationId='" + applicationId + '\'' +
+                ", fromStatus='" + fromStatus + '\'' +
+                ", toStatus='" + toStatus + '\'' +
+                ", occurredAt=" + occurredAt +
+                '}';
+    }
+}
@@ -0,0 +1,82 @@
+package com.mortgage.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 審査状況の確認用の申し込み概要
+ */
+public class LoanApplicationStatus {
+
+    private String applicationId;
+    private String applicationStatus; // PENDING, APPROVED, REJECTED, PROCESSING
+    private String rejectionReason;
+    private LocalDateTime approvalDate;
+    private String approvedBy;
+    private LocalDateTime updatedAt;
+
+    // コンストラクタ
+    public LoanApplicationStatus() {}
+
+    /**
+     * 申し込み情報から審査状況を作成
+     */
+    public static LoanApplicationStatus of(LoanApplication application) {
+        LoanApplicationStatus status = new LoanApplicationStatus();
+        status.setApplicationId(application.getApplicationId());
+        status.setApplicationStatus(application.getApplicationStatus());
+        status.setRejectionReason(application.getRejectionReason());
+        status.setApprovalDate(application.getApprovalDate());
+        status.setApprovedBy(application.getApprovedBy());
+        status.setUpdatedAt(application.getUpdatedAt());
+        return status;
+    }
+
+    // Getter and Setter methods
+    public String getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(String applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public String getApplicationStatus() {
+        return applicationStatus;
+    }
+
+    public void setApplicationStatus(String applicationStatus) {
+        this.applicationStatus = applicationStatus;
+    }
+
+    public String getRejectionReason() {
+        return rejectionReason;
+    }
+
+    public void setRejectionReason(String rejectionReason) {
+        this.rejectionReason = rejectionReason;
+    }
+
+    public LocalDateTime getApprovalDate() {
+        return approvalDate;
+    }
+
+    public void setApprovalDate(LocalDateTime approvalDate) {
+        this.approvalDate = approvalDate;
+    }
+
+    public String getApprovedBy() {
+        return approvedBy;
+    }
+
+    public void setApprovedBy(String approvedBy) {
+        this.approvedBy = approvedBy;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,79 @@
+package com.mortgage.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 申し込み一覧用の申し込み概要
+ * 一覧画面で表示する列だけを持ち、口座情報や住所などは含めない。
+ */
+public class LoanApplicationSummary {
+
+    private String applicationId;
+    private String customerId;
+    private String productName;
+    private BigDecimal loanAmount;
+    private String applicationStatus; // PENDING, APPROVED, REJECTED, PROCESSING
+    private LocalDateTime applicationDate;
+    private LocalDateTime approvalDate;
+
+    // コンストラクタ
+    public LoanApplicationSummary() {}
+
+    // Getter and Setter methods
+    public String getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(String applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public String getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(String customerId) {
+        this.customerId = customerId;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public void setProductName(String productName) {
+        this.productName = productName;
+    }
+
+    public BigDecimal getLoanAmount() {
+        return loanAmount;
+    }
+
+    public void setLoanAmount(BigDecimal loanAmount) {
+        this.loanAmount = loanAmount;
+    }
+
+    public String getApplicationStatus() {
+        return applicationStatus;
+    }
+
+    public void setApplicationStatus(String applicationStatus) {
+        this.applicationStatus = applicationStatus;
+    }
+
+    public LocalDateTime getApplicationDate() {
+        return applicationDate;
+    }
+
+    public void setApplicationDate(LocalDateTime applicationDate) {
+        this.applicationDate = applicationDate;
+    }
+
+    public LocalDateTime getApprovalDate() {
+        return approvalDate;
+    }
+
+    public void setApprovalDate(LocalDateTime approvalDate) {
+        this.approvalDate = approvalDate;
+    }
+}
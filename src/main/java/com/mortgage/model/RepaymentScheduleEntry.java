@@ -0,0 +1,79 @@
+package com.mortgage.model;
+
+import java.math.BigDecimal;
+
+/**
+ * 返済予定表の1回分の明細
+ */
+public class RepaymentScheduleEntry {
+
+    private int paymentNumber;
+    private BigDecimal paymentAmount;
+    private BigDecimal principalAmount;
+    private BigDecimal interestAmount;
+    private BigDecimal remainingBalance;
+
+    // コンストラクタ
+    public RepaymentScheduleEntry() {}
+
+    public RepaymentScheduleEntry(int paymentNumber, BigDecimal paymentAmount, BigDecimal principalAmount,
+                                  BigDecimal interestAmount, BigDecimal remainingBalance) {
+        this.paymentNumber = paymentNumber;
+        this.paymentAmount = paymentAmount;
+        this.principalAmount = principalAmount;
+        this.interestAmount = interestAmount;
+        this.remainingBalance = remainingBalance;
+    }
+
+    // Getter and Setter methods
+    public int getPaymentNumber() {
+        return paymentNumber;
+    }
+
+    public void setPaymentNumber(int paymentNumber) {
+        this.paymentNumber = paymentNumber;
+    }
+
+    public BigDecimal getPaymentAmount() {
+        return paymentAmount;
+    }
+
+    public void setPaymentAmount(BigDecimal paymentAmount) {
+        this.paymentAmount = paymentAmount;
+    }
+
+    public BigDecimal getPrincipalAmount() {
+        return principalAmount;
+    }
+
+    public void setPrincipalAmount(BigDecimal principalAmount) {
+        this.principalAmount = principalAmount;
+    }
+
+    public BigDecimal getInterestAmount() {
+        return interestAmount;
+    }
+
+    public void setInterestAmount(BigDecimal interestAmount) {
+        this.interestAmount = interestAmount;
+    }
+
+    public BigDecimal getRemainingBalance() {
+        return remainingBalance;
+    }
+
+    public void setRemainingBalance(BigDecimal remainingBalance) {
+        this.remainingBalance = remainingBalance;
+    }
+
+    @Override
+    public String toString() {
+        return "RepaymentScheduleEntry{" +
+                "paymentNumber=" + paymentNumber +
+                ", paymentAmount=" + paymentAmount +
+                ", principalAmount=" + principalAmount +
+                ", interestAmount=" + interestAmount +
+                ", remainingBalance=" + remainingBalance +
+                '}';
+    }
+}
@@ -0,0 +1,93 @@
+package com.mortgage.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 再審査ジョブのチェックポイント
+ * 処理済みの最後の申し込みIDを保持し、中断したジョブはその次の申し込みから再開する。
+ */
+public class ReviewJobCheckpoint {
+
+    private String jobId;
+    private String lastApplicationId;
+    private long processedCount;
+    private long updatedCount;
+    private String status; // RUNNING, COMPLETED, STOPPED, FAILED
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+
+    // コンストラクタ
+    public ReviewJobCheckpoint() {}
+
+    public ReviewJobCheckpoint(String jobId) {
+        this.jobId = jobId;
+    }
+
+    // Getter and Setter methods
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getLastApplicationId() {
+        return lastApplicationId;
+    }
+
+    public void setLastApplicationId(String lastApplicationId) {
+        this.lastApplicationId = lastApplicationId;
+    }
+
+    public long getProcessedCount() {
+        return processedCount;
+    }
+
+    public void setProcessedCount(long processedCount) {
+        this.processedCount = processedCount;
+    }
+
+    public long getUpdatedCount() {
+        return updatedCount;
+    }
+
+    public void setUpdatedCount(long updatedCount) {
+        this.updatedCount = updatedCount;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "ReviewJobCheckpoint{" +
+                "jobId='" + jobId + '\'' +
+                ", lastApplicationId='" + lastApplicationId + '\'' +
+                ", processedCount=" + processedCount +
+                ", updatedCount=" + updatedCount +
+                ", status='" + status + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,24 @@
+package com.mortgage.model;
+
+/**
+ * 審査結果の更新内容
+ * 審査時点の状態（expectedStatus）から変わっていない申し込みだけを更新するために使用する。
+ */
+public class ReviewUpdate {
+
+    private final LoanApplication application;
+    private final String expectedStatus;
+
+    public ReviewUpdate(LoanApplication application, String expectedStatus) {
+        this.application = application;
+        this.expectedStatus = expectedStatus;
+    }
+
+    public LoanApplication getApplication() {
+        return application;
+    }
+
+    public String getExpectedStatus() {
+        return expectedStatus;
+    }
+}
@@ -0,0 +1,35 @@
+package com.mortgage.review;
+
+/**
+ * 完済時年齢（申し込み時年齢＋融資期間）が上限以下であること
+ */
+public final class AgeAtMaturityRule implements ReviewRule {
+
+    private final String name;
+    private final int maxAge;
+    private final String rejectionReason;
+
+    public AgeAtMaturityRule(String name, int maxAge, String rejectionReason) {
+        this.name = name;
+        this.maxAge = maxAge;
+        this.rejectionReason = rejectionReason;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean test(ApplicationView view) {
+        if (view.getAge() == ApplicationView.UNKNOWN || view.getLoanTerm() == ApplicationView.UNKNOWN) {
+            return true;
+        }
+        return view.getAge() + view.getLoanTerm() <= maxAge;
+    }
+
+    @Override
+    public String getRejectionReason() {
+        return rejectionReason;
+    }
+}
@@ -0,0 +1,121 @@
+package com.mortgage.review;
+
+import com.mortgage.model.LoanApplication;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 審査ルールが参照する申し込み情報のフラットなビュー
+ *
+ * 金額は 1/100 単位の long、区分はビットで保持し、ルールの判定を BigDecimal なしの整数演算で行えるようにする。
+ * 未入力の項目は UNKNOWN（-1）とし、その項目を使うルールは判定をスキップする。
+ */
+public final class ApplicationView {
+
+    /** 未入力を表す値 */
+    public static final long UNKNOWN = -1;
+
+    /** 雇用形態: 会社員 */
+    public static final int EMPLOYMENT_SALARIED = 1;
+    /** 雇用形態: 自営業 */
+    public static final int EMPLOYMENT_SELF_EMPLOYED = 1 << 1;
+    /** 雇用形態: 会社経営者 */
+    public static final int EMPLOYMENT_BUSINESS_OWNER = 1 << 2;
+    /** 雇用形態: 上記以外 */
+    public static final int EMPLOYMENT_OTHER = 1 << 3;
+
+    private final long loanAmount;
+    private final long annualIncome;
+    private final long propertyValue;
+    private final long monthlyPayment;
+    private final int loanTerm;
+    private final int age;
+    private final int employmentType;
+
+    public ApplicationView(long loanAmount, long annualIncome, long propertyValue, long monthlyPayment,
+                           int loanTerm, int age, int employmentType) {
+        this.loanAmount = loanAmount;
+        this.annualIncome = annualIncome;
+        this.propertyValue = propertyValue;
+        this.monthlyPayment = monthlyPayment;
+        this.loanTerm = loanTerm;
+        this.age = age;
+        this.employmentType = employmentType;
+    }
+
+    /**
+     * 申し込みからビューを作成
+     */
+    public static ApplicationView of(LoanApplication application) {
+        LocalDate reviewDate = application.getApplicationDate() != null
+                ? application.getApplicationDate().toLocalDate() : LocalDate.now();
+        int age = application.getCustomerBirthDate() == null ? (int) UNKNOWN
+                : (int) ChronoUnit.YEARS.between(application.getCustomerBirthDate(), reviewDate);
+
+        return new ApplicationView(
+                toScaledLong(application.getLoanAmount()),
+                toScaledLong(application.getAnnualIncome()),
+                toScaledLong(application.getPropertyValue()),
+                toScaledLong(application.getMonthlyPayment()),
+                application.getLoanTerm() == null ? (int) UNKNOWN : application.getLoanTerm(),
+                age,
+                employmentCode(application.getEmploymentType()));
+    }
+
+    /**
+     * 雇用形態の区分値をビットに変換（未入力は 0）
+     */
+    public static int employmentCode(String employmentType) {
+        if (employmentType == null) {
+            return 0;
+        }
+        switch (employmentType) {
+            case "SALARIED":
+                return EMPLOYMENT_SALARIED;
+            case "SELF_EMPLOYED":
+                return EMPLOYMENT_SELF_EMPLOYED;
+            case "BUSINESS_OWNER":
+                return EMPLOYMENT_BUSINESS_OWNER;
+            default:
+                return EMPLOYMENT_OTHER;
+        }
+    }
+
+    private static long toScaledLong(BigDecimal value) {
+        if (value == null) {
+            return UNKNOWN;
+        }
+        return value.movePointRight(2).setScale(0, RoundingMode.DOWN).longValueExact();
+    }
+
+    public long getLoanAmount() {
+        return loanAmount;
+    }
+
+    public long getAnnualIncome() {
+        return annualIncome;
+    }
+
+    public long getPropertyValue() {
+        return propertyValue;
+    }
+
+    public long getMonthlyPayment() {
+        return monthlyPayment;
+    }
+
+    public int getLoanTerm() {
+        return loanTerm;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public int getEmploymentType() {
+        return employmentType;
+    }
+}
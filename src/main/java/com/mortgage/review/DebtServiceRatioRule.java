@@ -0,0 +1,35 @@
+package com.mortgage.review;
+
+/**
+ * 年間返済額（月次返済額×12）が年収の一定割合以内であること（返済負担率）
+ */
+public final class DebtServiceRatioRule implements ReviewRule {
+
+    private final String name;
+    private final Ratio limit;
+    private final String rejectionReason;
+
+    public DebtServiceRatioRule(String name, Ratio limit, String rejectionReason) {
+        this.name = name;
+        this.limit = limit;
+        this.rejectionReason = rejectionReason;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean test(ApplicationView view) {
+        if (view.getMonthlyPayment() == ApplicationView.UNKNOWN || view.getAnnualIncome() == ApplicationView.UNKNOWN) {
+            return true;
+        }
+        return limit.allows(view.getMonthlyPayment() * 12, view.getAnnualIncome());
+    }
+
+    @Override
+    public String getRejectionReason() {
+        return rejectionReason;
+    }
+}
@@ -0,0 +1,43 @@
+package com.mortgage.review;
+
+/**
+ * 対象の雇用形態について、融資額が年収の一定倍以内であること
+ */
+public final class EmploymentLimitRule implements ReviewRule {
+
+    private final String name;
+    private final int employmentTypes;
+    private final Ratio limit;
+    private final String rejectionReason;
+
+    /**
+     * @param employmentTypes 対象の雇用形態（ApplicationView.EMPLOYMENT_* の論理和）
+     */
+    public EmploymentLimitRule(String name, int employmentTypes, Ratio limit, String rejectionReason) {
+        this.name = name;
+        this.employmentTypes = employmentTypes;
+        this.limit = limit;
+        this.rejectionReason = rejectionReason;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean test(ApplicationView view) {
+        if ((view.getEmploymentType() & employmentTypes) == 0) {
+            return true;
+        }
+        if (view.getLoanAmount() == ApplicationView.UNKNOWN || view.getAnnualIncome() == ApplicationView.UNKNOWN) {
+            return true;
+        }
+        return limit.allows(view.getLoanAmount(), view.getAnnualIncome());
+    }
+
+    @Override
+    public String getRejectionReason() {
+        return rejectionReason;
+    }
+}
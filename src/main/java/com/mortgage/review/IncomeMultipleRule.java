@@ -0,0 +1,35 @@
+package com.mortgage.review;
+
+/**
+ * 融資額が年収の一定倍以内であること
+ */
+public final class IncomeMultipleRule implements ReviewRule {
+
+    private final String name;
+    private final Ratio limit;
+    private final String rejectionReason;
+
+    public IncomeMultipleRule(String name, Ratio limit, String rejectionReason) {
+        this.name = name;
+        this.limit = limit;
+        this.rejectionReason = rejectionReason;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean test(ApplicationView view) {
+        if (view.getLoanAmount() == ApplicationView.UNKNOWN || view.getAnnualIncome() == ApplicationView.UNKNOWN) {
+            return true;
+        }
+        return limit.allows(view.getLoanAmount(), view.getAnnualIncome());
+    }
+
+    @Override
+    public String getRejectionReason() {
+        return rejectionReason;
+    }
+}
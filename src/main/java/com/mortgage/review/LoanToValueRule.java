@@ -0,0 +1,35 @@
+package com.mortgage.review;
+
+/**
+ * 融資額が物件価格の一定割合以内であること
+ */
+public final class LoanToValueRule implements ReviewRule {
+
+    private final String name;
+    private final Ratio limit;
+    private final String rejectionReason;
+
+    public LoanToValueRule(String name, Ratio limit, String rejectionReason) {
+        this.name = name;
+        this.limit = limit;
+        this.rejectionReason = rejectionReason;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean test(ApplicationView view) {
+        if (view.getLoanAmount() == ApplicationView.UNKNOWN || view.getPropertyValue() == ApplicationView.UNKNOWN) {
+            return true;
+        }
+        return limit.allows(view.getLoanAmount(), view.getPropertyValue());
+    }
+
+    @Override
+    public String getRejectionReason() {
+        return rejectionReason;
+    }
+}
@@ -0,0 +1,45 @@
+package com.mortgage.review;
+
+import java.math.BigDecimal;
+
+/**
+ * 審査ルールの上限倍率（分子/分母の整数で保持）
+ * 判定は amount × 分母 ≦ base × 分子 の整数比較で行う。
+ */
+public final class Ratio {
+
+    private final long numerator;
+    private final long denominator;
+
+    private Ratio(long numerator, long denominator) {
+        this.numerator = numerator;
+        this.denominator = denominator;
+    }
+
+    /**
+     * "4" や "0.8" などの10進表記から作成
+     */
+    public static Ratio parse(String value) {
+        BigDecimal decimal = new BigDecimal(value.trim()).stripTrailingZeros();
+        if (decimal.signum() < 0) {
+            throw new IllegalArgumentException("倍率に負の値は指定できません: " + value);
+        }
+        int scale = Math.max(decimal.scale(), 0);
+        if (scale > 6) {
+            throw new IllegalArgumentException("倍率の小数部は6桁までです: " + value);
+        }
+        return new Ratio(decimal.movePointRight(scale).longValueExact(), BigDecimal.TEN.pow(scale).longValueExact());
+    }
+
+    /**
+     * amount が base × 倍率 以下かどうか
+     */
+    public boolean allows(long amount, long base) {
+        return amount * denominator <= base * numerator;
+    }
+
+    @Override
+    public String toString() {
+        return BigDecimal.valueOf(numerator).divide(BigDecimal.valueOf(denominator)).toPlainString();
+    }
+}
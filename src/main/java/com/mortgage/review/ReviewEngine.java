@@ -0,0 +1,136 @@
+package com.mortgage.review;
+
+import com.mortgage.model.LoanApplication;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 自動審査エンジン
+ *
+ * review.rules.location の設定ファイルから審査ルールセットを構築して保持する。
+ * 一定間隔ごとに1スレッドだけが設定ファイルの更新日時を確認し、変化していれば読み直して差し替える。
+ * 読み直しに失敗した場合は現在のルールセットを継続使用する。
+ */
+@Component
+public class ReviewEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewEngine.class);
+
+    @Autowired
+    private ResourceLoader resourceLoader = new DefaultResourceLoader();
+
+    @Value("${review.rules.location:classpath:review-rules.properties}")
+    private String rulesLocation;
+
+    @Value("${review.rules.checkIntervalMillis:10000}")
+    private long checkIntervalMillis;
+
+    private volatile ReviewRuleSet ruleSet;
+    private volatile long loadedLastModified;
+    private volatile long nextCheckAt;
+
+    private final AtomicBoolean checking = new AtomicBoolean();
+
+    @PostConstruct
+    public void init() {
+        Resource resource = resourceLoader.getResource(rulesLocation);
+        long lastModified = lastModified(resource);
+        publish(load(resource), lastModified);
+    }
+
+    /**
+     * 申し込みを審査
+     */
+    public ReviewOutcome review(LoanApplication application) {
+        return getRuleSet().evaluate(ApplicationView.of(application));
+    }
+
+    /**
+     * 現在のルールセットを取得
+     */
+    public ReviewRuleSet getRuleSet() {
+        if (System.currentTimeMillis() >= nextCheckAt && checking.compareAndSet(false, true)) {
+            try {
+                reloadIfModified();
+            } finally {
+                checking.set(false);
+            }
+        }
+        return ruleSet;
+    }
+
+    /**
+     * ルールセットを差し替え
+     */
+    public void setRuleSet(ReviewRuleSet ruleSet) {
+        publish(ruleSet, loadedLastModified);
+    }
+
+    /**
+     * 設定ファイルを読み直して差し替え
+     * 設定に誤りがある場合は例外をスローし、現在のルールセットを継続使用する。
+     */
+    public void reload() {
+        Resource resource = resourceLoader.getResource(rulesLocation);
+        long lastModified = lastModified(resource);
+        publish(load(resource), lastModified);
+    }
+
+    private void reloadIfModified() {
+        try {
+            Resource resource = resourceLoader.getResource(rulesLocation);
+            long lastModified = lastModified(resource);
+            if (lastModified != loadedLastModified) {
+                publish(load(resource), lastModified);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("審査ルールの読み直しに失敗しました。現在のルールセットを継続使用します: {}", rulesLocation, e);
+        } finally {
+            nextCheckAt = System.currentTimeMillis() + checkIntervalMillis;
+        }
+    }
+
+    private ReviewRuleSet load(Resource resource) {
+        Properties properties = new Properties();
+        try (InputStream in = resource.getInputStream();
+             Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new IllegalStateException("審査ルールの設定ファイルを読み込めません: " + rulesLocation, e);
+        }
+        return ReviewRuleLoader.load(properties, rulesLocation);
+    }
+
+    private void publish(ReviewRuleSet loaded, long lastModified) {
+        ruleSet = loaded;
+        loadedLastModified = lastModified;
+        nextCheckAt = System.currentTimeMillis() + checkIntervalMillis;
+        logger.info("審査ルールを読み込みました: source={}, rules={}", loaded.getSource(), loaded.size());
+    }
+
+    /**
+     * 更新日時を取得（JAR 内などで取得できない場合は 0 とし、自動の読み直しは行わない）
+     */
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.mortgage.review;
+
+import com.mortgage.model.LoanApplication;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 審査結果
+ * 不通過のルールはルールセット内の位置のビットマスクで保持し、却下理由は参照時に組み立てる。
+ */
+public final class ReviewOutcome {
+
+    /** 全ルール通過 */
+    public static final ReviewOutcome APPROVED = new ReviewOutcome(null, 0);
+
+    private static final String REASON_SEPARATOR = " / ";
+
+    private final ReviewRuleSet ruleSet;
+    private final long failedMask;
+
+    ReviewOutcome(ReviewRuleSet ruleSet, long failedMask) {
+        this.ruleSet = ruleSet;
+        this.failedMask = failedMask;
+    }
+
+    public boolean isApproved() {
+        return failedMask == 0;
+    }
+
+    /**
+     * 不通過のルール（評価順のビット位置）
+     */
+    public long getFailedMask() {
+        return failedMask;
+    }
+
+    /**
+     * 不通過のルール名を評価順に取得
+     */
+    public List<String> getFailedRuleNames() {
+        List<String> names = new ArrayList<>(Long.bitCount(failedMask));
+        for (long mask = failedMask; mask != 0; mask &= mask - 1) {
+            names.add(ruleSet.getRule(Long.numberOfTrailingZeros(mask)).getName());
+        }
+        return names;
+    }
+
+    /**
+     * 不通過の全ルールの却下理由を評価順に連結して取得（承認時は null）
+     */
+    public String getRejectionReason() {
+        if (isApproved()) {
+            return null;
+        }
+        StringBuilder reason = new StringBuilder();
+        for (long mask = failedMask; mask != 0; mask &= mask - 1) {
+            if (reason.length() > 0) {
+                reason.append(REASON_SEPARATOR);
+            }
+            reason.append(ruleSet.getRule(Long.numberOfTrailingZeros(mask)).getRejectionReason());
+        }
+        return reason.toString();
+    }
+
+    /**
+     * 審査結果を申し込みに反映
+     */
+    public void applyTo(LoanApplication application) {
+        if (isApproved()) {
+            application.setApplicationStatus("APPROVED");
+            application.setApprovalDate(LocalDateTime.now());
+            application.setApprovedBy("SYSTEM");
+            application.setRejectionReason(null);
+        } else {
+            application.setApplicationStatus("REJECTED");
+            application.setApprovalDate(null);
+            application.setApprovedBy(null);
+            application.setRejectionReason(getRejectionReason());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.mortgage.review;
+
+/**
+ * 審査ルール
+ * 実装は不変とし、判定中にオブジェクトを生成しないこと。
+ */
+public interface ReviewRule {
+
+    /**
+     * ルール名（設定ファイルのキー）
+     */
+    String getName();
+
+    /**
+     * 審査を通過する場合 true
+     * 判定に必要な項目が未入力の場合も true を返す。
+     */
+    boolean test(ApplicationView view);
+
+    /**
+     * 通過しなかった場合の却下理由
+     */
+    String getRejectionReason();
+}
@@ -0,0 +1,89 @@
+package com.mortgage.review;
+
+import java.util.Properties;
+
+/**
+ * 設定ファイル（properties 形式）から審査ルールセットを構築
+ *
+ * <pre>
+ * review.rules=incomeMultiple,loanToValue
+ * review.rule.incomeMultiple.type=INCOME_MULTIPLE
+ * review.rule.incomeMultiple.limit=4
+ * review.rule.incomeMultiple.order=10
+ * review.rule.incomeMultiple.terminal=false
+ * review.rule.incomeMultiple.reason=年収の4倍を超える融資額です
+ * </pre>
+ *
+ * type は INCOME_MULTIPLE / LOAN_TO_VALUE / DEBT_SERVICE_RATIO / AGE_AT_MATURITY / EMPLOYMENT_LIMIT。
+ * EMPLOYMENT_LIMIT は employmentTypes（カンマ区切りの雇用形態）で対象を指定する。
+ */
+public final class ReviewRuleLoader {
+
+    private static final String RULES_KEY = "review.rules";
+    private static final String RULE_PREFIX = "review.rule.";
+
+    private ReviewRuleLoader() {}
+
+    /**
+     * ルールセットを構築
+     * 設定に誤りがある場合は IllegalArgumentException をスローする。
+     */
+    public static ReviewRuleSet load(Properties properties, String source) {
+        ReviewRuleSet.Builder builder = ReviewRuleSet.builder(source);
+        String names = properties.getProperty(RULES_KEY, "").trim();
+        if (names.isEmpty()) {
+            return builder.build();
+        }
+
+        for (String name : names.split(",")) {
+            name = name.trim();
+            String type = required(properties, name, "type");
+            String reason = required(properties, name, "reason");
+            int order = Integer.parseInt(optional(properties, name, "order", "0"));
+            boolean terminal = Boolean.parseBoolean(optional(properties, name, "terminal", "false"));
+            builder.add(createRule(properties, name, type, reason), order, terminal);
+        }
+        return builder.build();
+    }
+
+    private static ReviewRule createRule(Properties properties, String name, String type, String reason) {
+        switch (type) {
+            case "INCOME_MULTIPLE":
+                return new IncomeMultipleRule(name, ratio(properties, name), reason);
+            case "LOAN_TO_VALUE":
+                return new LoanToValueRule(name, ratio(properties, name), reason);
+            case "DEBT_SERVICE_RATIO":
+                return new DebtServiceRatioRule(name, ratio(properties, name), reason);
+            case "AGE_AT_MATURITY":
+                return new AgeAtMaturityRule(name, Integer.parseInt(required(properties, name, "limit")), reason);
+            case "EMPLOYMENT_LIMIT":
+                return new EmploymentLimitRule(name, employmentTypes(properties, name), ratio(properties, name), reason);
+            default:
+                throw new IllegalArgumentException("不明な審査ルールの種類です: " + RULE_PREFIX + name + ".type=" + type);
+        }
+    }
+
+    private static Ratio ratio(Properties properties, String name) {
+        return Ratio.parse(required(properties, name, "limit"));
+    }
+
+    private static int employmentTypes(Properties properties, String name) {
+        int mask = 0;
+        for (String employmentType : required(properties, name, "employmentTypes").split(",")) {
+            mask |= ApplicationView.employmentCode(employmentType.trim());
+        }
+        return mask;
+    }
+
+    private static String required(Properties properties, String name, String attribute) {
+        String value = properties.getProperty(RULE_PREFIX + name + "." + attribute);
+        if (value == null || value.trim().isEmpty()) {
+            throw new IllegalArgumentException("審査ルールの設定がありません: " + RULE_PREFIX + name + "." + attribute);
+        }
+        return value.trim();
+    }
+
+    private static String optional(Properties properties, String name, String attribute, String defaultValue) {
+        return properties.getProperty(RULE_PREFIX + name + "." + attribute, defaultValue).trim();
+    }
+}
@@ -0,0 +1,122 @@
+package com.mortgage.review;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * コンパイル済みの審査ルールセット（不変）
+ *
+ * ルールは構築時に評価順（order の昇順、同順位は登録順）に並べた配列として保持する。
+ * 評価は全ルールを順に判定して不通過のルールをビットマスクに集め、
+ * 打ち切り指定（terminal）のルールが不通過になった時点で以降の判定を省略する。
+ * 全ルール通過時は共有の ReviewOutcome.APPROVED を返すため、判定中にオブジェクトを生成しない。
+ */
+public final class ReviewRuleSet {
+
+    /** ビットマスクで扱えるルール数の上限 */
+    public static final int MAX_RULES = Long.SIZE;
+
+    private final String source;
+    private final ReviewRule[] rules;
+    private final boolean[] terminal;
+
+    private ReviewRuleSet(String source, ReviewRule[] rules, boolean[] terminal) {
+        this.source = source;
+        this.rules = rules;
+        this.terminal = terminal;
+    }
+
+    public static Builder builder(String source) {
+        return new Builder(source);
+    }
+
+    /**
+     * 申し込みを審査
+     */
+    public ReviewOutcome evaluate(ApplicationView view) {
+        long failed = 0;
+        for (int i = 0; i < rules.length; i++) {
+            if (!rules[i].test(view)) {
+                failed |= 1L << i;
+                if (terminal[i]) {
+                    break;
+                }
+            }
+        }
+        return failed == 0 ? ReviewOutcome.APPROVED : new ReviewOutcome(this, failed);
+    }
+
+    /**
+     * 評価順の i 番目のルール
+     */
+    public ReviewRule getRule(int i) {
+        return rules[i];
+    }
+
+    public int size() {
+        return rules.length;
+    }
+
+    /**
+     * 読み込み元（ログ出力用）
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * ルールセットの構築
+     */
+    public static final class Builder {
+
+        private final String source;
+        private final List<Entry> entries = new ArrayList<>();
+
+        private Builder(String source) {
+            this.source = source;
+        }
+
+        /**
+         * ルールを追加
+         *
+         * @param order    評価順（小さいほど先に評価）
+         * @param terminal 不通過時に以降のルールを評価しない場合 true
+         */
+        public Builder add(ReviewRule rule, int order, boolean terminal) {
+            entries.add(new Entry(rule, order, terminal, entries.size()));
+            return this;
+        }
+
+        public ReviewRuleSet build() {
+            if (entries.size() > MAX_RULES) {
+                throw new IllegalArgumentException("審査ルールは" + MAX_RULES + "件までです: " + entries.size());
+            }
+            List<Entry> sorted = new ArrayList<>(entries);
+            Collections.sort(sorted, Comparator.comparingInt((Entry e) -> e.order).thenComparingInt(e -> e.sequence));
+
+            ReviewRule[] rules = new ReviewRule[sorted.size()];
+            boolean[] terminal = new boolean[sorted.size()];
+            for (int i = 0; i < sorted.size(); i++) {
+                rules[i] = sorted.get(i).rule;
+                terminal[i] = sorted.get(i).terminal;
+            }
+            return new ReviewRuleSet(source, rules, terminal);
+        }
+    }
+
+    private static final class Entry {
+        final ReviewRule rule;
+        final int order;
+        final boolean terminal;
+        final int sequence;
+
+        Entry(ReviewRule rule, int order, boolean terminal, int sequence) {
+            this.rule = rule;
+            this.order = order;
+            this.terminal = terminal;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.mortgage.service;
+
+import com.mortgage.dao.LoanDao;
+import com.mortgage.model.LoanEstimate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 見積もりの保存処理
+ *
+ * estimate.persistence.mode=sync の場合は呼び出し元のトランザクション内で即時に保存する。
+ * async の場合は有界キューに積んで即座に戻り、バックグラウンドのワーカーが
+ * 件数（batchSize）または時間（maxDelayMillis）の早い方で区切ってまとめて保存する（ライトビハインド）。
+ * キューが満杯で offerTimeoutMillis 以内に空かない場合は、呼び出し元スレッドで同期保存して背圧をかける。
+ * 見積もりは参考情報のため、非同期保存に失敗した分はログに記録して破棄する。
+ */
+@Component
+public class EstimateWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(EstimateWriter.class);
+
+    @Autowired
+    private LoanDao loanDao;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${estimate.persistence.mode:sync}")
+    private String mode;
+
+    @Value("${estimate.writeBehind.queueCapacity:10000}")
+    private int queueCapacity;
+
+    @Value("${estimate.writeBehind.batchSize:200}")
+    private int batchSize;
+
+    @Value("${estimate.writeBehind.maxDelayMillis:200}")
+    private long maxDelayMillis;
+
+    @Value("${estimate.writeBehind.offerTimeoutMillis:50}")
+    private long offerTimeoutMillis;
+
+    @Value("${estimate.writeBehind.shutdownTimeoutMillis:10000}")
+    private long shutdownTimeoutMillis;
+
+    private BlockingQueue<LoanEstimate> queue;
+    private TransactionTemplate transactionTemplate;
+    private Thread worker;
+    private volatile boolean running;
+
+    private final LongAdder enqueuedCount = new LongAdder();
+    private final LongAdder flushedCount = new LongAdder();
+    private final LongAdder flushCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder syncFallbackCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder totalFlushNanos = new LongAdder();
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+
+    @PostConstruct
+    public void start() {
+        if (!isAsync()) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        running = true;
+        worker = new Thread(this::runWorker, "estimate-write-behind");
+        worker.setDaemon(true);
+        worker.start();
+        logger.info("見積もりの非同期保存を開始しました: queueCapacity={}, batchSize={}, maxDelayMillis={}",
+                queueCapacity, batchSize, maxDelayMillis);
+    }
+
+    /**
+     * キューに残っている見積もりを全て保存してからワーカーを停止する
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (worker == null) {
+            return;
+        }
+        running = false;
+        worker.join(shutdownTimeoutMillis);
+
+        List<LoanEstimate> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+        logger.info("見積もりの非同期保存を停止しました: flushed={}, failed={}", getFlushedCount(), getFailedCount());
+    }
+
+    /**
+     * 見積もりを保存
+     */
+    public void write(LoanEstimate estimate) {
+        if (!isAsync()) {
+            loanDao.saveEstimate(estimate);
+            return;
+        }
+        enqueue(estimate);
+    }
+
+    /**
+     * 見積もりをまとめて保存
+     */
+    public void writeAll(Collection<LoanEstimate> estimates) {
+        if (!isAsync()) {
+            loanDao.saveEstimates(estimates);
+            return;
+        }
+        for (LoanEstimate estimate : estimates) {
+            enqueue(estimate);
+        }
+    }
+
+    public boolean isAsync() {
+        return "async".equalsIgnoreCase(mode);
+    }
+
+    public int getQueueDepth() {
+        return queue == null ? 0 : queue.size();
+    }
+
+    public long getEnqueuedCount() {
+        return enqueuedCount.sum();
+    }
+
+    public long getFlushedCount() {
+        return flushedCount.sum();
+    }
+
+    public long getFlushCount() {
+        return flushCount.sum();
+    }
+
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    /**
+     * 非同期モードで呼び出し元が同期保存した件数（キュー満杯と停止後の両方を含む）
+     */
+    public long getSyncFallbackCount() {
+        return syncFallbackCount.sum();
+    }
+
+    /**
+     * キューが満杯で offerTimeoutMillis 以内に積めなかった件数
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    public long getTotalFlushNanos() {
+        return totalFlushNanos.sum();
+    }
+
+    public long getMaxFlushNanos() {
+        return maxFlushNanos.get();
+    }
+
+    private void enqueue(LoanEstimate estimate) {
+        boolean accepted;
+        try {
+            accepted = running && queue.offer(estimate, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if (!accepted && running) {
+            rejectedCount.increment();
+        }
+
+        // 積んだ後に停止した場合、停止処理の取り出しより後に積まれていれば誰も保存しない。
+        // キューから取り除けた場合は保存されていないため、呼び出し元で保存する
+        if (accepted && !running && queue.remove(estimate)) {
+            accepted = false;
+        }
+
+        if (accepted) {
+            enqueuedCount.increment();
+        } else {
+            // キュー満杯または停止中: 呼び出し元で同期保存する
+            syncFallbackCount.increment();
+            loanDao.saveEstimate(estimate);
+        }
+    }
+
+    private void runWorker() {
+        List<LoanEstimate> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                LoanEstimate first = queue.poll(maxDelayMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+                while (batch.size() < batchSize) {
+                    if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    LoanEstimate next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<LoanEstimate> batch) {
+        long start = System.nanoTime();
+        try {
+            transactionTemplate.execute(status -> {
+                loanDao.saveEstimates(batch);
+                return null;
+            });
+            flushedCount.add(batch.size());
+        } catch (RuntimeException e) {
+            failedCount.add(batch.size());
+            logger.error("見積もりの一括保存に失敗しました: {}件", batch.size(), e);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            flushCount.increment();
+            totalFlushNanos.add(elapsed);
+            maxFlushNanos.accumulateAndGet(elapsed, Math::max);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.mortgage.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 時刻順に並ぶ見積もりID・申し込みIDの生成
+ *
+ * 64ビットの値を上位から 41ビットのミリ秒時刻（2024-01-01 起点）、10ビットのノードID、12ビットの連番で構成し、
+ * 固定長13文字の Crockford Base32 にして接頭辞（EST / APP）を付ける。
+ * 時刻と連番は1つの AtomicLong で CAS 更新するためロックを取らず、同一ノード内では常に単調増加する。
+ * 1ミリ秒に 4096件を超えた場合や時計が戻った場合は、直前の値の続きから払い出す。
+ * ノードIDが重複しない限りノード間でも衝突せず、文字列の順序が生成順と一致するため主キーへの挿入は末尾に追記される。
+ */
+@Component
+public class IdGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdGenerator.class);
+
+    /** 時刻の起点（2024-01-01T00:00:00Z） */
+    static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    /** 64ビットを5ビットずつ表す桁数 */
+    static final int ENCODED_LENGTH = 13;
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    @Value("${id.nodeId:-1}")
+    private int nodeId;
+
+    private LongSupplier clock = System::currentTimeMillis;
+
+    /** 直前に払い出した (時刻 << SEQUENCE_BITS) | 連番 */
+    private final AtomicLong lastTimeAndSequence = new AtomicLong();
+
+    private long nodeBits;
+
+    @PostConstruct
+    public void init() {
+        if (nodeId < 0) {
+            nodeId = deriveNodeId();
+            logger.warn("id.nodeId が未設定のためホスト名から {} を使用します。複数ノードで運用する場合は重複しない値を設定してください",
+                    nodeId);
+        }
+        if (nodeId > MAX_NODE_ID) {
+            throw new IllegalStateException("id.nodeId は0から" + MAX_NODE_ID + "の範囲で指定してください: " + nodeId);
+        }
+        nodeBits = (long) nodeId << SEQUENCE_BITS;
+    }
+
+    /**
+     * 見積もりIDを生成
+     */
+    public String nextEstimateId() {
+        return format("EST", nextId());
+    }
+
+    /**
+     * 申し込みIDを生成
+     */
+    public String nextApplicationId() {
+        return format("APP", nextId());
+    }
+
+    /**
+     * 64ビットのIDを生成
+     */
+    public long nextId() {
+        while (true) {
+            long last = lastTimeAndSequence.get();
+            long now = clock.getAsLong() - EPOCH_MILLIS;
+            // 時刻が進んでいれば連番を0から、同じミリ秒か時計が戻った場合は直前の続きから払い出す
+            // 連番が溢れた場合は加算の繰り上がりで時刻部分が1ミリ秒進む
+            long next = now > (last >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : last + 1;
+            if (lastTimeAndSequence.compareAndSet(last, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * IDに含まれる生成時刻（エポックミリ秒）
+     */
+    public static long timestampOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+
+    /**
+     * 接頭辞と固定長の Crockford Base32 でIDを文字列にする
+     */
+    static String format(String prefix, long id) {
+        int length = prefix.length();
+        char[] chars = new char[length + ENCODED_LENGTH];
+        prefix.getChars(0, length, chars, 0);
+        for (int i = chars.length - 1; i >= length; i--) {
+            chars[i] = ALPHABET[(int) (id & 0x1F)];
+            id >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    private static int deriveNodeId() {
+        try {
+            return (InetAddress.getLocalHost().getHostName().hashCode() & 0x7FFFFFFF) % (MAX_NODE_ID + 1);
+        } catch (UnknownHostException e) {
+            return 0;
+        }
+    }
+}
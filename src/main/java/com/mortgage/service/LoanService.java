@@ -1,17 +1,36 @@
 package com.mortgage.service;
 
+import com.mortgage.calc.AmortizationEngine;
+import com.mortgage.calc.AnnuityFactorTable;
+import com.mortgage.calc.EqualPrincipalCalculator;
+import com.mortgage.calc.RepaymentSchedule;
+import com.mortgage.catalog.CatalogSnapshot;
+import com.mortgage.catalog.ProductCatalog;
+import com.mortgage.model.ApplicationPage;
+import com.mortgage.model.EstimateRequest;
+import com.mortgage.model.EstimateResult;
 import com.mortgage.model.LoanApplication;
+import com.mortgage.model.LoanApplicationEvent;
+import com.mortgage.model.LoanApplicationStatus;
+import com.mortgage.model.LoanApplicationSummary;
 import com.mortgage.model.LoanEstimate;
 import com.mortgage.model.LoanProduct;
+import com.mortgage.review.ReviewEngine;
+import com.mortgage.review.ReviewOutcome;
 import com.mortgage.dao.LoanDao;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * 住宅ローン業務サービス
@@ -20,21 +39,58 @@ import java.util.UUID;
 @Transactional
 public class LoanService {
 
+    /** 一括見積もりの最大件数 */
+    private static final int MAX_BATCH_SIZE = 500;
+
+    /** 申し込み一覧の1ページの最大件数 */
+    static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private LoanDao loanDao;
 
+    @Autowired
+    private ProductCatalog productCatalog;
+
+    @Autowired
+    private AmortizationEngine amortizationEngine;
+
+    @Autowired
+    private AnnuityFactorTable annuityFactorTable;
+
+    @Autowired
+    private EqualPrincipalCalculator equalPrincipalCalculator;
+
+    @Autowired
+    private EstimateWriter estimateWriter;
+
+    @Autowired
+    private QuoteCache quoteCache;
+
+    @Autowired
+    private ReviewEngine reviewEngine;
+
+    @Autowired
+    private ReviewPipeline reviewPipeline;
+
+    @Autowired
+    private IdGenerator idGenerator;
+
     /**
      * 全てのローン商品を取得
+     * 商品カタログから返すため、トランザクション（コネクション）を開始しない。
+     * カタログの再読み込みが発生した場合は読み取り専用としてレプリカを参照する。
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<LoanProduct> getAllLoanProducts() {
-        return loanDao.getAllLoanProducts();
+        return productCatalog.getActiveProducts();
     }
 
     /**
      * 商品IDでローン商品を取得
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public LoanProduct getLoanProductById(String productId) {
-        return loanDao.getLoanProductById(productId);
+        return productCatalog.getProduct(productId);
     }
 
     /**
@@ -42,36 +98,83 @@ public class LoanService {
      */
     public LoanEstimate calculateEstimate(String productId, BigDecimal loanAmount, Integer loanTerm) {
         // 商品情報を取得
-        LoanProduct product = loanDao.getLoanProductById(productId);
-        if (product == null) {
-            throw new IllegalArgumentException("指定された商品が見つかりません: " + productId);
-        }
-
-        // 入力値の検証
-        validateLoanParameters(product, loanAmount, loanTerm);
+        CatalogSnapshot catalog = productCatalog.snapshot();
+        LoanProduct product = findLoanProduct(catalog, productId);
+
+        // 見積もりを計算して保存（非同期モードではキューに積んで即座に戻る）
+        List<Runnable> cacheUpdates = new ArrayList<>(1);
+        LoanEstimate estimate = quoteEstimate(catalog, product, loanAmount, loanTerm, estimateWriter::write,
+                cacheUpdates);
+        cacheAfterCommit(cacheUpdates);
+        return estimate;
+    }
 
-        // 金利を取得（商品の現在金利を使用）
-        BigDecimal interestRate = product.getCurrentInterestRate();
+    /**
+     * 見積もりIDで見積もりを取得
+     */
+    @Transactional(readOnly = true)
+    public LoanEstimate getEstimateById(String estimateId) {
+        return loanDao.getEstimateById(estimateId);
+    }
 
-        // 月次返済額を計算
-        BigDecimal monthlyPayment = calculateMonthlyPayment(loanAmount, interestRate, loanTerm);
+    /**
+     * 一括見積もり計算
+     * 商品カタログのスナップショットを全件で共有し、成功した見積もりはまとめて保存する。
+     * 入力不備などのエラーは件ごとに結果へ格納し、一括処理全体は失敗させない。
+     */
+    public List<EstimateResult> calculateEstimates(List<EstimateRequest> requests) {
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("一度に見積もりできる件数は" + MAX_BATCH_SIZE + "件までです");
+        }
 
-        // 総返済額と総利息を計算
-        BigDecimal totalPayment = monthlyPayment.multiply(BigDecimal.valueOf(loanTerm * 12));
-        BigDecimal totalInterest = totalPayment.subtract(loanAmount);
+        CatalogSnapshot catalog = productCatalog.snapshot();
+        List<EstimateResult> results = new ArrayList<>(requests.size());
+        List<LoanEstimate> estimates = new ArrayList<>(requests.size());
+        List<Runnable> cacheUpdates = new ArrayList<>();
+
+        for (EstimateRequest request : requests) {
+            try {
+                if (request == null || request.getProductId() == null
+                        || request.getLoanAmount() == null || request.getLoanTerm() == null) {
+                    throw new IllegalArgumentException("必要な情報が入力されていません。");
+                }
+                LoanProduct product = catalog.getProduct(request.getProductId());
+                if (product == null) {
+                    throw new IllegalArgumentException("指定された商品が見つかりません: " + request.getProductId());
+                }
+
+                LoanEstimate estimate = quoteEstimate(catalog, product, request.getLoanAmount(), request.getLoanTerm(),
+                        estimates::add, cacheUpdates);
+                results.add(EstimateResult.success(request, estimate));
+            } catch (IllegalArgumentException e) {
+                results.add(EstimateResult.failure(request, e.getMessage()));
+            }
+        }
 
-        // 見積もりオブジェクトを作成
-        LoanEstimate estimate = new LoanEstimate(productId, product.getProductName(), 
-                                               loanAmount, loanTerm, interestRate, monthlyPayment);
-        estimate.setTotalPayment(totalPayment);
-        estimate.setTotalInterest(totalInterest);
-        estimate.setRepaymentMethod(product.getRepaymentMethod());
+        if (!estimates.isEmpty()) {
+            estimateWriter.writeAll(estimates);
+        }
+        cacheAfterCommit(cacheUpdates);
+        return results;
+    }
 
-        // 見積もりを保存
-        estimate.setEstimateId(generateEstimateId());
-        loanDao.saveEstimate(estimate);
+    /**
+     * 返済予定表を作成
+     * 明細は反復時に1行ずつ計算される。
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public RepaymentSchedule getRepaymentSchedule(String productId, BigDecimal loanAmount, Integer loanTerm) {
+        CatalogSnapshot catalog = productCatalog.snapshot();
+        LoanProduct product = findLoanProduct(catalog, productId);
+        validateLoanParameters(product, loanAmount, loanTerm);
 
-        return estimate;
+        BigDecimal monthlyRate = amortizationEngine.monthlyRate(product.getCurrentInterestRate());
+        int numberOfPayments = loanTerm * 12;
+        if ("EQUAL_PRINCIPAL".equals(product.getRepaymentMethod())) {
+            return RepaymentSchedule.equalPrincipal(loanAmount, monthlyRate, numberOfPayments);
+        }
+        BigDecimal monthlyPayment = calculateMonthlyPayment(catalog, product, loanAmount, loanTerm);
+        return RepaymentSchedule.equalPayment(loanAmount, monthlyRate, numberOfPayments, monthlyPayment);
     }
 
     /**
@@ -80,8 +183,29 @@ public class LoanService {
     public LoanApplication submitApplication(LoanApplication application) {
         // 申し込みIDを生成
         application.setApplicationId(generateApplicationId());
-        application.setCreatedAt(java.time.LocalDateTime.now());
-        application.setUpdatedAt(java.time.LocalDateTime.now());
+        // 一覧のページングキーになるため、DB の TIMESTAMP と同じ秒精度で申し込み日時を確定させる
+        java.time.LocalDateTime now = java.time.LocalDateTime.now();
+        application.setApplicationDate(now.truncatedTo(ChronoUnit.SECONDS));
+        application.setCreatedAt(now);
+        application.setUpdatedAt(now);
+
+        if (reviewPipeline.isAsync()) {
+            // PENDING で保存して即座に戻り、審査はコミット後にワーカーで行う
+            application.setApplicationStatus("PENDING");
+            loanDao.saveApplication(application);
+            reviewPipeline.submit(application.getApplicationId());
+            return application;
+        }
+
+        if (reviewPipeline.isInline()) {
+            // 保存前に審査し、審査結果を含めて1回の INSERT で保存する
+            // PENDING から審査結果への遷移は申し込み行の UPDATE の代わりにイベントとして記録する
+            ReviewOutcome outcome = reviewEngine.review(application);
+            outcome.applyTo(application);
+            loanDao.saveApplication(application);
+            loanDao.saveApplicationEvent(LoanApplicationEvent.reviewed(application, "PENDING"));
+            return application;
+        }
 
         // 申し込み情報を保存
         loanDao.saveApplication(application);
@@ -92,9 +216,20 @@ public class LoanService {
         return application;
     }
 
+    /**
+     * 審査結果を取得
+     * 審査中の場合は最大 waitMillis 待ち、その時点の申し込み情報を返す（0 の場合は待たない）。
+     * レプリカの遅延で審査前の状態を返さないよう、プライマリから読む。
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public LoanApplicationStatus awaitReview(String applicationId, long waitMillis) {
+        return reviewPipeline.await(applicationId, waitMillis);
+    }
+
     /**
      * 申し込み状況を取得
      */
+    @Transactional(readOnly = true)
     public LoanApplication getApplicationById(String applicationId) {
         return loanDao.getApplicationById(applicationId);
     }
@@ -102,33 +237,165 @@ public class LoanService {
     /**
      * 顧客の申し込み履歴を取得
      */
+    @Transactional(readOnly = true)
     public List<LoanApplication> getApplicationsByCustomerId(String customerId) {
         return loanDao.getApplicationsByCustomerId(customerId);
     }
 
     /**
-     * 月次返済額を計算
+     * 顧客の申し込み履歴の概要を1ページ取得
+     * pageToken には前ページの nextPageToken を指定する（先頭ページは null）。
      */
-    private BigDecimal calculateMonthlyPayment(BigDecimal principal, BigDecimal annualRate, Integer years) {
-        if (annualRate.compareTo(BigDecimal.ZERO) == 0) {
-            // 金利が0%の場合
-            return principal.divide(BigDecimal.valueOf(years * 12), 2, RoundingMode.HALF_UP);
+    @Transactional(readOnly = true)
+    public ApplicationPage getApplicationPageByCustomerId(String customerId, String pageToken, int pageSize) {
+        PageToken after = pageToken == null ? null : PageToken.decode(pageToken);
+        int limit = validatePageSize(pageSize);
+        return toPage(loanDao.getApplicationsByCustomerIdPage(customerId,
+                after == null ? null : after.getApplicationDate(),
+                after == null ? null : after.getApplicationId(), limit + 1), limit);
+    }
+
+    /**
+     * 申し込み状況ごとの申し込み一覧の概要を1ページ取得
+     * pageToken には前ページの nextPageToken を指定する（先頭ページは null）。
+     */
+    @Transactional(readOnly = true)
+    public ApplicationPage getApplicationPageByStatus(String status, String pageToken, int pageSize) {
+        PageToken after = pageToken == null ? null : PageToken.decode(pageToken);
+        int limit = validatePageSize(pageSize);
+        return toPage(loanDao.getApplicationsByStatusPage(status,
+                after == null ? null : after.getApplicationDate(),
+                after == null ? null : after.getApplicationId(), limit + 1), limit);
+    }
+
+    /**
+     * 見積もりを計算し、保存が必要なものを saver に渡す
+     * 同じ条件の見積もりがキャッシュにあれば計算を省略する。重複保存の抑止が有効な場合は、
+     * キャッシュにある保存済みの見積もりをそのまま返して保存しない。
+     * 新たに計算した見積もりはすぐにはキャッシュに入れず、保存後に実行する格納処理を cacheUpdates に積む。
+     */
+    private LoanEstimate quoteEstimate(CatalogSnapshot catalog, LoanProduct product, BigDecimal loanAmount,
+                                       Integer loanTerm, Consumer<LoanEstimate> saver, List<Runnable> cacheUpdates) {
+        // 入力値の検証（商品の融資額・期間の範囲はキャッシュのキーに含まれないため、ヒット時も検証する）
+        validateLoanParameters(product, loanAmount, loanTerm);
+
+        LoanEstimate estimate = quoteCache.get(product, loanAmount, loanTerm);
+        if (estimate != null && isDedupePersistence()) {
+            return estimate;
+        }
+        if (estimate == null) {
+            estimate = priceEstimate(catalog, product, loanAmount, loanTerm);
+            estimate.setEstimateId(generateEstimateId());
+            LoanEstimate priced = estimate;
+            cacheUpdates.add(() -> quoteCache.put(product, loanAmount, loanTerm, priced));
+        } else {
+            estimate.setEstimateId(generateEstimateId());
+            estimate.setEstimatedAt(LocalDateTime.now());
+        }
+        saver.accept(estimate);
+        return estimate;
+    }
+
+    /**
+     * キャッシュにある見積もりを保存済みとして再利用するか
+     * 非同期保存ではキューに積んだ時点で戻り、保存に失敗すると破棄されるため、保存を確認できない見積もりIDは返さない。
+     */
+    private boolean isDedupePersistence() {
+        return quoteCache.isDedupePersistence() && !estimateWriter.isAsync();
+    }
+
+    /**
+     * トランザクション内で呼ばれた場合はコミット後に、そうでなければ即座に見積もりをキャッシュに格納する
+     * 保存に失敗した場合やロールバックされた場合は、保存されていない見積もりIDをキャッシュに残さない。
+     */
+    private void cacheAfterCommit(List<Runnable> cacheUpdates) {
+        if (cacheUpdates.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cacheUpdates.forEach(Runnable::run);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    cacheUpdates.forEach(Runnable::run);
+                }
+            }
+        });
+    }
+
+    /**
+     * 返済方法ごとに見積もりを計算
+     */
+    private LoanEstimate priceEstimate(CatalogSnapshot catalog, LoanProduct product, BigDecimal loanAmount,
+                                       Integer loanTerm) {
+        // 金利を取得（商品の現在金利を使用）
+        BigDecimal interestRate = product.getCurrentInterestRate();
+
+        // 返済方法ごとに月次返済額・総返済額・総利息を計算
+        BigDecimal monthlyPayment;
+        BigDecimal totalPayment;
+        BigDecimal totalInterest;
+        if ("EQUAL_PRINCIPAL".equals(product.getRepaymentMethod())) {
+            // 元金均等返済: 月次返済額は初回（最大）の返済額
+            monthlyPayment = equalPrincipalCalculator.calculateFirstPayment(loanAmount, interestRate, loanTerm);
+            totalInterest = equalPrincipalCalculator.calculateTotalInterest(loanAmount, interestRate, loanTerm);
+            totalPayment = loanAmount.add(totalInterest);
+        } else {
+            monthlyPayment = calculateMonthlyPayment(catalog, product, loanAmount, loanTerm);
+            totalPayment = monthlyPayment.multiply(BigDecimal.valueOf(loanTerm * 12));
+            totalInterest = totalPayment.subtract(loanAmount);
+        }
+
+        // 見積もりオブジェクトを作成
+        LoanEstimate estimate = new LoanEstimate(product.getProductId(), product.getProductName(),
+                                               loanAmount, loanTerm, interestRate, monthlyPayment);
+        estimate.setTotalPayment(totalPayment);
+        estimate.setTotalInterest(totalInterest);
+        estimate.setRepaymentMethod(product.getRepaymentMethod());
+        return estimate;
+    }
+
+    /**
+     * 月次返済額を計算（商品を取得したスナップショットの係数テーブルを使う）
+     */
+    private BigDecimal calculateMonthlyPayment(CatalogSnapshot catalog, LoanProduct product, BigDecimal principal,
+                                               Integer years) {
+        return annuityFactorTable.calculateMonthlyPayment(catalog, product, principal, years);
+    }
+
+    private static int validatePageSize(int pageSize) {
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("ページサイズは1から" + MAX_PAGE_SIZE + "の範囲で指定してください");
         }
+        return pageSize;
+    }
 
-        // 月次金利を計算
-        BigDecimal monthlyRate = annualRate.divide(BigDecimal.valueOf(1200), 10, RoundingMode.HALF_UP);
-        
-        // 返済回数
-        int numberOfPayments = years * 12;
+    /**
+     * limit + 1 件取得した結果から1ページを作成
+     * 余分な1件があれば次のページがあるため、ページの最後の行から継続トークンを作る。
+     */
+    private static ApplicationPage toPage(List<LoanApplicationSummary> rows, int limit) {
+        if (rows.size() <= limit) {
+            return new ApplicationPage(rows, null);
+        }
+        List<LoanApplicationSummary> items = rows.subList(0, limit);
+        LoanApplicationSummary last = items.get(limit - 1);
+        return new ApplicationPage(items,
+                new PageToken(last.getApplicationDate(), last.getApplicationId()).encode());
+    }
 
-        // 月次返済額の計算式: P * (r * (1 + r)^n) / ((1 + r)^n - 1)
-        BigDecimal onePlusRate = BigDecimal.ONE.add(monthlyRate);
-        BigDecimal onePlusRateToN = onePlusRate.pow(numberOfPayments);
-        
-        BigDecimal numerator = monthlyRate.multiply(onePlusRateToN);
-        BigDecimal denominator = onePlusRateToN.subtract(BigDecimal.ONE);
-        
-        return principal.multiply(numerator).divide(denominator, 2, RoundingMode.HALF_UP);
+    /**
+     * 見積もり対象の商品を取得
+     */
+    private LoanProduct findLoanProduct(CatalogSnapshot catalog, String productId) {
+        LoanProduct product = catalog.getProduct(productId);
+        if (product == null) {
+            throw new IllegalArgumentException("指定された商品が見つかりません: " + productId);
+        }
+        return product;
     }
 
     /**
@@ -154,39 +421,12 @@ public class LoanService {
 
     /**
      * 自動審査処理
+     * ベンチマークから呼び出すためパッケージプライベートとしている。
      */
-    private void performAutoReview(LoanApplication application) {
-        // 基本的な審査ロジック
-        boolean isApproved = true;
-        String rejectionReason = null;
-
-        // 年収の4倍以内かチェック
-        if (application.getAnnualIncome() != null && application.getLoanAmount() != null) {
-            BigDecimal maxLoanAmount = application.getAnnualIncome().multiply(BigDecimal.valueOf(4));
-            if (application.getLoanAmount().compareTo(maxLoanAmount) > 0) {
-                isApproved = false;
-                rejectionReason = "年収の4倍を超える融資額です";
-            }
-        }
-
-        // 物件価格の80%以内かチェック
-        if (application.getPropertyValue() != null && application.getLoanAmount() != null) {
-            BigDecimal maxLoanAmount = application.getPropertyValue().multiply(BigDecimal.valueOf(0.8));
-            if (application.getLoanAmount().compareTo(maxLoanAmount) > 0) {
-                isApproved = false;
-                rejectionReason = "物件価格の80%を超える融資額です";
-            }
-        }
-
-        // 審査結果を更新
-        if (isApproved) {
-            application.setApplicationStatus("APPROVED");
-            application.setApprovalDate(java.time.LocalDateTime.now());
-            application.setApprovedBy("SYSTEM");
-        } else {
-            application.setApplicationStatus("REJECTED");
-            application.setRejectionReason(rejectionReason);
-        }
+    void performAutoReview(LoanApplication application) {
+        // 審査ルールを評価し、不通過の全ルールの却下理由とともに結果を反映
+        ReviewOutcome outcome = reviewEngine.review(application);
+        outcome.applyTo(application);
 
         loanDao.updateApplication(application);
     }
@@ -194,14 +434,14 @@ public class LoanService {
     /**
      * 見積もりIDを生成
      */
-    private String generateEstimateId() {
-        return "EST" + System.currentTimeMillis() + UUID.randomUUID().toString().substring(0, 8);
+    String generateEstimateId() {
+        return idGenerator.nextEstimateId();
     }
 
     /**
      * 申し込みIDを生成
      */
-    private String generateApplicationId() {
-        return "APP" + System.currentTimeMillis() + UUID.randomUUID().toString().substring(0, 8);
+    String generateApplicationId() {
+        return idGenerator.nextApplicationId();
     }
 } 
\ No newline at end of file
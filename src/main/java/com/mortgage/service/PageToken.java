@@ -0,0 +1,55 @@
+package com.mortgage.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 申し込み一覧の継続トークン
+ * 前ページの最後の行の (application_date, application_id) を URL セーフな Base64 で表す。
+ * クライアントには中身を解釈させず、そのまま次のリクエストで返させる。
+ */
+final class PageToken {
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime applicationDate;
+    private final String applicationId;
+
+    PageToken(LocalDateTime applicationDate, String applicationId) {
+        this.applicationDate = applicationDate;
+        this.applicationId = applicationId;
+    }
+
+    /**
+     * トークンを復元
+     * 不正なトークンの場合は IllegalArgumentException をスローする。
+     */
+    static PageToken decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator <= 0 || separator == decoded.length() - 1) {
+                throw new IllegalArgumentException("不正な継続トークンです");
+            }
+            return new PageToken(LocalDateTime.parse(decoded.substring(0, separator)),
+                    decoded.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("不正な継続トークンです", e);
+        }
+    }
+
+    String encode() {
+        String raw = applicationDate.toString() + SEPARATOR + applicationId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    LocalDateTime getApplicationDate() {
+        return applicationDate;
+    }
+
+    String getApplicationId() {
+        return applicationId;
+    }
+}
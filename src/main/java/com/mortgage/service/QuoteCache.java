@@ -0,0 +1,255 @@
+package com.mortgage.service;
+
+import com.mortgage.model.LoanEstimate;
+import com.mortgage.model.LoanProduct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 見積もり結果のキャッシュ
+ *
+ * キーは (商品ID, 融資額, 融資期間) と、見積もりの計算に使う商品の条件（金利・返済方法・商品名）。
+ * 商品の金利が変わればキーも変わるため、古い金利の見積もりを返すことはない（古いエントリは期限切れか追い出しで消える）。
+ * 融資額は末尾の 0 を除いて正規化し、3000 と 3000.00 を同じキーとして扱う。
+ *
+ * 件数（maxEntries）と時間（ttlSeconds）の両方で上限を設ける。
+ * ロックの競合を避けるためキーのハッシュで複数のセグメントに分け、セグメントごとに LRU で追い出す。
+ * 保持している LoanEstimate は共有しないよう、格納時と取得時に複製する。
+ */
+@Component
+public class QuoteCache {
+
+    /** セグメント数（2のべき乗） */
+    private static final int SEGMENT_COUNT = 16;
+
+    @Value("${quote.cache.maxEntries:10000}")
+    private int maxEntries;
+
+    @Value("${quote.cache.ttlSeconds:300}")
+    private long ttlSeconds;
+
+    @Value("${quote.cache.dedupePersistence:false}")
+    private boolean dedupePersistence;
+
+    /** 経過時間の計測に使う時計（ナノ秒） */
+    LongSupplier clock = System::nanoTime;
+
+    private Segment[] segments;
+    private long ttlNanos;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder expirationCount = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        int segmentCapacity = maxEntries <= 0 ? 0 : Math.max(1, (maxEntries + SEGMENT_COUNT - 1) / SEGMENT_COUNT);
+        segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+        ttlNanos = ttlSeconds <= 0 ? Long.MAX_VALUE : TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    public boolean isEnabled() {
+        return maxEntries > 0;
+    }
+
+    /**
+     * ヒットした場合に保存済みの見積もりを再利用し、新たに保存しないか
+     */
+    public boolean isDedupePersistence() {
+        return dedupePersistence;
+    }
+
+    /**
+     * 同じ条件の見積もりを取得（無い場合・期限切れの場合は null）
+     */
+    public LoanEstimate get(LoanProduct product, BigDecimal loanAmount, int loanTerm) {
+        if (!isEnabled()) {
+            return null;
+        }
+        QuoteKey key = new QuoteKey(product, loanAmount, loanTerm);
+        Segment segment = segmentFor(key);
+        CachedQuote entry;
+        synchronized (segment) {
+            entry = segment.get(key);
+            if (entry != null && clock.getAsLong() - entry.createdAt >= ttlNanos) {
+                segment.remove(key);
+                expirationCount.increment();
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        LoanEstimate estimate = copy(entry.estimate);
+        // 正規化前の表記（スケール）は依頼のものに合わせる
+        estimate.setLoanAmount(loanAmount);
+        return estimate;
+    }
+
+    /**
+     * 見積もりを格納
+     */
+    public void put(LoanProduct product, BigDecimal loanAmount, int loanTerm, LoanEstimate estimate) {
+        if (!isEnabled()) {
+            return;
+        }
+        QuoteKey key = new QuoteKey(product, loanAmount, loanTerm);
+        CachedQuote entry = new CachedQuote(copy(estimate), clock.getAsLong());
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            segment.put(key, entry);
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * 件数の上限による追い出し数
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * 期限切れによる削除数
+     */
+    public long getExpirationCount() {
+        return expirationCount.sum();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    private Segment segmentFor(QuoteKey key) {
+        int h = key.hashCode();
+        return segments[(h ^ (h >>> 16)) & (SEGMENT_COUNT - 1)];
+    }
+
+    private static LoanEstimate copy(LoanEstimate source) {
+        LoanEstimate estimate = new LoanEstimate();
+        estimate.setEstimateId(source.getEstimateId());
+        estimate.setProductId(source.getProductId());
+        estimate.setProductName(source.getProductName());
+        estimate.setLoanAmount(source.getLoanAmount());
+        estimate.setLoanTerm(source.getLoanTerm());
+        estimate.setInterestRate(source.getInterestRate());
+        estimate.setMonthlyPayment(source.getMonthlyPayment());
+        estimate.setTotalPayment(source.getTotalPayment());
+        estimate.setTotalInterest(source.getTotalInterest());
+        estimate.setRepaymentMethod(source.getRepaymentMethod());
+        estimate.setEstimatedAt(source.getEstimatedAt());
+        estimate.setCustomerId(source.getCustomerId());
+        return estimate;
+    }
+
+    /**
+     * アクセス順の LinkedHashMap による LRU のセグメント
+     */
+    private final class Segment extends LinkedHashMap<QuoteKey, CachedQuote> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<QuoteKey, CachedQuote> eldest) {
+            if (size() <= capacity) {
+                return false;
+            }
+            evictionCount.increment();
+            return true;
+        }
+    }
+
+    private static final class CachedQuote {
+        final LoanEstimate estimate;
+        final long createdAt;
+
+        CachedQuote(LoanEstimate estimate, long createdAt) {
+            this.estimate = estimate;
+            this.createdAt = createdAt;
+        }
+    }
+
+    /**
+     * 見積もりの入力と、計算に使う商品の条件の組
+     */
+    static final class QuoteKey {
+        private final String productId;
+        private final String productName;
+        private final String repaymentMethod;
+        private final BigDecimal interestRate;
+        private final BigDecimal loanAmount;
+        private final int loanTerm;
+        private final int hash;
+
+        QuoteKey(LoanProduct product, BigDecimal loanAmount, int loanTerm) {
+            this.productId = product.getProductId();
+            this.productName = product.getProductName();
+            this.repaymentMethod = product.getRepaymentMethod();
+            this.interestRate = normalize(product.getCurrentInterestRate());
+            this.loanAmount = normalize(loanAmount);
+            this.loanTerm = loanTerm;
+            this.hash = Objects.hash(productId, productName, repaymentMethod, interestRate, this.loanAmount, loanTerm);
+        }
+
+        private static BigDecimal normalize(BigDecimal value) {
+            return value == null ? null : value.stripTrailingZeros();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof QuoteKey)) {
+                return false;
+            }
+            QuoteKey other = (QuoteKey) o;
+            return loanTerm == other.loanTerm
+                    && Objects.equals(productId, other.productId)
+                    && Objects.equals(loanAmount, other.loanAmount)
+                    && Objects.equals(interestRate, other.interestRate)
+                    && Objects.equals(repaymentMethod, other.repaymentMethod)
+                    && Objects.equals(productName, other.productName);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.mortgage.service;
+
+import com.mortgage.catalog.ProductCatalog;
+import com.mortgage.dao.LoanDao;
+import com.mortgage.model.LoanProduct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * ローン商品の金利更新
+ *
+ * 金利の更新と catalog_version の更新を1つのトランザクションで行い、コミット後に商品カタログを
+ * そのバージョン以降の内容で読み直して公開する。係数テーブルや商品一覧のレスポンスなどの派生データも
+ * 公開前に作成されるため、見積もりや一覧に新旧の金利が混ざることはない。
+ * 他のノードは商品カタログの更新確認（catalog.refreshIntervalMillis）で catalog_version の変化を検知する。
+ */
+@Service
+@Transactional
+public class RateUpdateService {
+
+    @Autowired
+    private LoanDao loanDao;
+
+    @Autowired
+    private ProductCatalog productCatalog;
+
+    /**
+     * 商品の現在金利を更新し、更新後のカタログバージョンを返す
+     */
+    public long updateRate(String productId, BigDecimal interestRate) {
+        return updateRates(Collections.singletonMap(productId, interestRate));
+    }
+
+    /**
+     * 複数商品の現在金利をまとめて更新し、更新後のカタログバージョンを返す
+     * カタログバージョンは1つだけ進めるため、全商品の新しい金利が同じスナップショットで公開される。
+     */
+    public long updateRates(Map<String, BigDecimal> interestRates) {
+        if (interestRates.isEmpty()) {
+            throw new IllegalArgumentException("更新する金利が指定されていません");
+        }
+        for (Map.Entry<String, BigDecimal> entry : interestRates.entrySet()) {
+            LoanProduct product = loanDao.getLoanProductById(entry.getKey());
+            if (product == null) {
+                throw new IllegalArgumentException("指定された商品が見つかりません: " + entry.getKey());
+            }
+            validateRate(product, entry.getValue());
+            loanDao.updateProductRate(entry.getKey(), entry.getValue());
+        }
+
+        // catalog_version の行ロックにより、同時に実行された金利更新もバージョン順に直列化される
+        loanDao.incrementCatalogVersion();
+        long catalogVersion = loanDao.getCatalogVersion();
+        publishAfterCommit(catalogVersion);
+        return catalogVersion;
+    }
+
+    /**
+     * トランザクション内で呼ばれた場合はコミット後に、そうでなければ即座に商品カタログを更新する
+     * ロールバックされた場合は公開しない。
+     */
+    private void publishAfterCommit(long catalogVersion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            productCatalog.refresh(catalogVersion);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    productCatalog.refresh(catalogVersion);
+                }
+            }
+        });
+    }
+
+    private static void validateRate(LoanProduct product, BigDecimal interestRate) {
+        if (interestRate == null || interestRate.signum() < 0) {
+            throw new IllegalArgumentException("金利が正しくありません: " + interestRate);
+        }
+        // current_interest_rate は DECIMAL(5,2) のため、丸められる値は受け付けない
+        if (interestRate.stripTrailingZeros().scale() > 2) {
+            throw new IllegalArgumentException("金利は小数第2位までで指定してください: " + interestRate);
+        }
+        if (product.getMinInterestRate() != null && interestRate.compareTo(product.getMinInterestRate()) < 0) {
+            throw new IllegalArgumentException("金利が最低金利を下回っています: " + product.getMinInterestRate());
+        }
+        if (product.getMaxInterestRate() != null && interestRate.compareTo(product.getMaxInterestRate()) > 0) {
+            throw new IllegalArgumentException("金利が最高金利を超えています: " + product.getMaxInterestRate());
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.mortgage.service;
+
+import com.mortgage.dao.LoanDao;
+import com.mortgage.model.LoanApplication;
+import com.mortgage.model.ReviewJobCheckpoint;
+import com.mortgage.model.ReviewUpdate;
+import com.mortgage.review.ApplicationView;
+import com.mortgage.review.ReviewEngine;
+import com.mortgage.review.ReviewOutcome;
+import com.mortgage.review.ReviewRuleSet;
+import org.apache.ibatis.cursor.Cursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 再審査ジョブ
+ *
+ * 審査基準の変更時に、指定の状況（PENDING / PROCESSING など）の申し込みを現在の審査ルールで審査し直す。
+ * 申し込みは申し込みID順に Cursor で1件ずつ読み、chunkSize 件ごとに
+ * 有界のワーカープールで並列に審査して、結果をバッチ UPDATE で書き戻す。
+ * 書き戻しとチェックポイント（処理済みの最後の申し込みID）は同じトランザクションで保存するため、
+ * 中断したジョブは同じ jobId で実行し直すと続きから再開する。
+ * 読み込み中に状況が変わった申し込みは上書きしない。
+ */
+@Component
+public class ReReviewJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReReviewJob.class);
+
+    @Autowired
+    private LoanDao loanDao;
+
+    @Autowired
+    private ReviewEngine reviewEngine;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${review.job.chunkSize:500}")
+    private int chunkSize;
+
+    /** 審査のワーカー数（0 の場合は CPU コア数） */
+    @Value("${review.job.threads:0}")
+    private int threads;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean stopRequested;
+
+    /**
+     * バックグラウンドで実行を開始
+     *
+     * @return 開始した場合 true（実行中の場合は false）
+     */
+    public boolean start(String jobId, Collection<String> statuses) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                execute(jobId, statuses);
+            } catch (RuntimeException e) {
+                logger.error("再審査ジョブが失敗しました: jobId={}", jobId, e);
+            } finally {
+                running.set(false);
+            }
+        }, "re-review-job");
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    /**
+     * 呼び出し元スレッドで実行
+     * 同じ jobId のチェックポイントがあれば続きから再開し、完了済みであれば何もしない。
+     */
+    public ReviewJobCheckpoint run(String jobId, Collection<String> statuses) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("再審査ジョブは実行中です");
+        }
+        try {
+            return execute(jobId, statuses);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 実行中のジョブに停止を要求（処理中のチャンクを書き戻した時点で停止する）
+     */
+    public void requestStop() {
+        stopRequested = true;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * チェックポイントを取得
+     */
+    public ReviewJobCheckpoint getCheckpoint(String jobId) {
+        return loanDao.getReviewJobCheckpoint(jobId);
+    }
+
+    private ReviewJobCheckpoint execute(String jobId, Collection<String> statuses) {
+        stopRequested = false;
+        TransactionTemplate writeTemplate = new TransactionTemplate(transactionManager);
+        writeTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        ReviewJobCheckpoint checkpoint = loanDao.getReviewJobCheckpoint(jobId);
+        if (checkpoint != null && "COMPLETED".equals(checkpoint.getStatus())) {
+            logger.info("再審査ジョブは完了済みです: {}", checkpoint);
+            return checkpoint;
+        }
+        if (checkpoint == null) {
+            checkpoint = new ReviewJobCheckpoint(jobId);
+            checkpoint.setStartedAt(LocalDateTime.now());
+        } else {
+            logger.info("再審査ジョブを再開します: {}", checkpoint);
+        }
+        checkpoint.setStatus("RUNNING");
+        saveCheckpoint(writeTemplate, checkpoint);
+
+        int workers = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolExecutor executor = newExecutor(workers);
+        try {
+            stream(checkpoint, statuses, executor, workers, writeTemplate);
+            checkpoint.setStatus(stopRequested ? "STOPPED" : "COMPLETED");
+            saveCheckpoint(writeTemplate, checkpoint);
+            logger.info("再審査ジョブを終了しました: {}", checkpoint);
+            return checkpoint;
+        } catch (RuntimeException e) {
+            // 最後に保存したチェックポイントから再開できるよう、保存済みの内容で失敗を記録する
+            ReviewJobCheckpoint saved = loanDao.getReviewJobCheckpoint(jobId);
+            if (saved != null) {
+                saved.setStatus("FAILED");
+                saveCheckpoint(writeTemplate, saved);
+            }
+            throw e;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void stream(ReviewJobCheckpoint checkpoint, Collection<String> statuses,
+                        ThreadPoolExecutor executor, int workers, TransactionTemplate writeTemplate) {
+        TransactionTemplate readTemplate = new TransactionTemplate(transactionManager);
+        readTemplate.setReadOnly(true);
+
+        readTemplate.execute(status -> {
+            try (Cursor<LoanApplication> cursor =
+                         loanDao.openApplicationsForReview(statuses, checkpoint.getLastApplicationId())) {
+                ReviewRuleSet ruleSet = reviewEngine.getRuleSet();
+                List<LoanApplication> chunk = new ArrayList<>(chunkSize);
+                for (LoanApplication application : cursor) {
+                    chunk.add(application);
+                    if (chunk.size() == chunkSize) {
+                        processChunk(chunk, ruleSet, executor, workers, checkpoint, writeTemplate);
+                        chunk.clear();
+                        if (stopRequested) {
+                            return null;
+                        }
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    processChunk(chunk, ruleSet, executor, workers, checkpoint, writeTemplate);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * チャンクを並列に審査し、結果とチェックポイントを1トランザクションで書き戻す
+     */
+    private void processChunk(List<LoanApplication> chunk, ReviewRuleSet ruleSet, ThreadPoolExecutor executor,
+                              int workers, ReviewJobCheckpoint checkpoint, TransactionTemplate writeTemplate) {
+        LocalDateTime reviewedAt = LocalDateTime.now();
+        int sliceSize = (chunk.size() + workers - 1) / workers;
+
+        List<Future<List<ReviewUpdate>>> futures = new ArrayList<>(workers);
+        for (int from = 0; from < chunk.size(); from += sliceSize) {
+            List<LoanApplication> slice = chunk.subList(from, Math.min(from + sliceSize, chunk.size()));
+            futures.add(executor.submit(() -> review(slice, ruleSet, reviewedAt)));
+        }
+
+        List<ReviewUpdate> updates = new ArrayList<>(chunk.size());
+        for (Future<List<ReviewUpdate>> future : futures) {
+            updates.addAll(await(future));
+        }
+
+        String lastApplicationId = chunk.get(chunk.size() - 1).getApplicationId();
+        writeTemplate.execute(status -> {
+            if (!updates.isEmpty()) {
+                loanDao.updateReviewResults(updates);
+            }
+            checkpoint.setLastApplicationId(lastApplicationId);
+            checkpoint.setProcessedCount(checkpoint.getProcessedCount() + chunk.size());
+            checkpoint.setUpdatedCount(checkpoint.getUpdatedCount() + updates.size());
+            checkpoint.setUpdatedAt(LocalDateTime.now());
+            loanDao.saveReviewJobCheckpoint(checkpoint);
+            return null;
+        });
+    }
+
+    /**
+     * 審査して、状況または却下理由が変わった申し込みの更新内容を返す
+     */
+    private List<ReviewUpdate> review(List<LoanApplication> applications, ReviewRuleSet ruleSet,
+                                      LocalDateTime reviewedAt) {
+        List<ReviewUpdate> updates = new ArrayList<>(applications.size());
+        for (LoanApplication application : applications) {
+            String previousStatus = application.getApplicationStatus();
+            String previousReason = application.getRejectionReason();
+
+            ReviewOutcome outcome = ruleSet.evaluate(ApplicationView.of(application));
+            outcome.applyTo(application);
+
+            if (!Objects.equals(previousStatus, application.getApplicationStatus())
+                    || !Objects.equals(previousReason, application.getRejectionReason())) {
+                application.setUpdatedAt(reviewedAt);
+                updates.add(new ReviewUpdate(application, previousStatus));
+            }
+        }
+        return updates;
+    }
+
+    private static List<ReviewUpdate> await(Future<List<ReviewUpdate>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("再審査ジョブが中断されました", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("申し込みの審査に失敗しました", e.getCause());
+        }
+    }
+
+    private void saveCheckpoint(TransactionTemplate writeTemplate, ReviewJobCheckpoint checkpoint) {
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+        writeTemplate.execute(status -> {
+            loanDao.saveReviewJobCheckpoint(checkpoint);
+            return null;
+        });
+    }
+
+    private static ThreadPoolExecutor newExecutor(int workers) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 1チャンクあたりのタスク数はワーカー数以下のため、キューはワーカー数で足りる
+        return new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workers), runnable -> {
+                    Thread thread = new Thread(runnable, "re-review-worker-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
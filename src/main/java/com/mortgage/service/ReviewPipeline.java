@@ -0,0 +1,253 @@
+package com.mortgage.service;
+
+import com.mortgage.dao.LoanDao;
+import com.mortgage.model.LoanApplication;
+import com.mortgage.model.LoanApplicationStatus;
+import com.mortgage.model.ReviewUpdate;
+import com.mortgage.review.ReviewEngine;
+import com.mortgage.review.ReviewOutcome;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 申し込みの非同期審査パイプライン
+ *
+ * review.mode=async の場合、申し込みは PENDING で保存して即座に戻り、
+ * 保存のトランザクションがコミットされた後に有界のワーカープールで審査して状態を更新する。
+ * ワーカーは申し込みを読み直し、PENDING のものだけを審査するため、同じ申し込みを二重に審査しない。
+ * キューが満杯の場合は呼び出し元スレッドで審査して背圧をかける。
+ * 停止時に未処理の申し込みは PENDING のまま残り、再審査ジョブの対象となる。
+ */
+@Component
+public class ReviewPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewPipeline.class);
+
+    @Autowired
+    private LoanDao loanDao;
+
+    @Autowired
+    private ReviewEngine reviewEngine;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${review.mode:sync}")
+    private String mode;
+
+    @Value("${review.pipeline.threads:4}")
+    private int threads;
+
+    @Value("${review.pipeline.queueCapacity:1000}")
+    private int queueCapacity;
+
+    @Value("${review.pipeline.shutdownTimeoutMillis:10000}")
+    private long shutdownTimeoutMillis;
+
+    private ThreadPoolExecutor executor;
+    private TransactionTemplate transactionTemplate;
+
+    /** 審査待ちの申し込みと、審査完了時に完了する Future */
+    private final ConcurrentMap<String, CompletableFuture<LoanApplication>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder submittedCount = new LongAdder();
+    private final LongAdder reviewedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder callerRunsCount = new LongAdder();
+
+    @PostConstruct
+    public void start() {
+        if (!isAsync()) {
+            return;
+        }
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "review-pipeline-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        logger.info("申し込みの非同期審査を開始しました: threads={}, queueCapacity={}", threads, queueCapacity);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(shutdownTimeoutMillis, TimeUnit.MILLISECONDS)) {
+            logger.warn("申し込みの非同期審査が時間内に終了しませんでした。未処理分は PENDING のまま残ります: {}件",
+                    executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+
+    public boolean isAsync() {
+        return "async".equalsIgnoreCase(mode);
+    }
+
+    /**
+     * 保存前に審査し、審査結果を含めて1回の INSERT で保存するか（review.mode=inline）
+     */
+    public boolean isInline() {
+        return "inline".equalsIgnoreCase(mode);
+    }
+
+    /**
+     * 審査を依頼
+     * トランザクション内で呼ばれた場合はコミット後に審査を開始し、ロールバックされた場合は審査しない。
+     */
+    public void submit(String applicationId) {
+        CompletableFuture<LoanApplication> future = new CompletableFuture<>();
+        inFlight.put(applicationId, future);
+        submittedCount.increment();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(applicationId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    enqueue(applicationId);
+                } else {
+                    complete(applicationId, null);
+                }
+            }
+        });
+    }
+
+    /**
+     * 審査結果を購読
+     * 審査中であれば審査完了時に、そうでなければ即座に現在の申し込み情報で完了する。
+     */
+    public CompletableFuture<LoanApplication> subscribe(String applicationId) {
+        CompletableFuture<LoanApplication> future = inFlight.get(applicationId);
+        if (future != null) {
+            return future;
+        }
+        return CompletableFuture.completedFuture(loanDao.getApplicationById(applicationId));
+    }
+
+    /**
+     * 審査完了を最大 waitMillis 待ち、その時点の審査状況を取得
+     */
+    public LoanApplicationStatus await(String applicationId, long waitMillis) {
+        CompletableFuture<LoanApplication> future = inFlight.get(applicationId);
+        if (future != null && waitMillis > 0) {
+            try {
+                LoanApplication reviewed = future.get(waitMillis, TimeUnit.MILLISECONDS);
+                if (reviewed != null) {
+                    return LoanApplicationStatus.of(reviewed);
+                }
+            } catch (TimeoutException | ExecutionException e) {
+                // 審査中または審査失敗: 現在の状態を返す
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return loanDao.getApplicationStatusById(applicationId);
+    }
+
+    public int getQueueDepth() {
+        return executor == null ? 0 : executor.getQueue().size();
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    public long getSubmittedCount() {
+        return submittedCount.sum();
+    }
+
+    public long getReviewedCount() {
+        return reviewedCount.sum();
+    }
+
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    public long getCallerRunsCount() {
+        return callerRunsCount.sum();
+    }
+
+    private void enqueue(String applicationId) {
+        try {
+            executor.execute(() -> review(applicationId));
+        } catch (RejectedExecutionException e) {
+            if (executor.isShutdown()) {
+                // 停止中: PENDING のまま再審査ジョブに任せる
+                complete(applicationId, null);
+                return;
+            }
+            // キュー満杯: 呼び出し元で審査する
+            callerRunsCount.increment();
+            review(applicationId);
+        }
+    }
+
+    private void review(String applicationId) {
+        try {
+            LoanApplication reviewed = transactionTemplate.execute(status -> {
+                LoanApplication application = loanDao.getApplicationById(applicationId);
+                if (application == null || !"PENDING".equals(application.getApplicationStatus())) {
+                    return application;
+                }
+                ReviewOutcome outcome = reviewEngine.review(application);
+                outcome.applyTo(application);
+                application.setUpdatedAt(LocalDateTime.now());
+                // 読み込み後に再審査ジョブなどが審査した場合は上書きせず、確定済みの結果を読み直す
+                if (loanDao.updateReviewResult(new ReviewUpdate(application, "PENDING")) == 0) {
+                    return loanDao.getApplicationById(applicationId);
+                }
+                return application;
+            });
+            reviewedCount.increment();
+            complete(applicationId, reviewed);
+        } catch (RuntimeException e) {
+            failedCount.increment();
+            logger.error("申し込みの審査に失敗しました。PENDING のまま残ります: {}", applicationId, e);
+            CompletableFuture<LoanApplication> future = inFlight.remove(applicationId);
+            if (future != null) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private void complete(String applicationId, LoanApplication application) {
+        CompletableFuture<LoanApplication> future = inFlight.remove(applicationId);
+        if (future != null) {
+            future.complete(application);
+        }
+    }
+}
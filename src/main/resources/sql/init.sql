@@ -47,6 +47,7 @@ CREATE TABLE loan_applications (
     customer_name VARCHAR(100) NOT NULL,
     customer_email VARCHAR(255) NOT NULL,
     customer_phone VARCHAR(20),
+    customer_birth_date DATE NULL, -- 完済時年齢の審査に使用
     product_id VARCHAR(50) NOT NULL,
     product_name VARCHAR(100) NOT NULL,
     loan_amount DECIMAL(15,2) NOT NULL,
@@ -62,7 +63,7 @@ CREATE TABLE loan_applications (
     bank_account_number VARCHAR(20),
     bank_name VARCHAR(100),
     branch_name VARCHAR(100),
-    application_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    application_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     approval_date TIMESTAMP NULL,
     approved_by VARCHAR(50),
     rejection_reason TEXT,
@@ -71,6 +72,37 @@ CREATE TABLE loan_applications (
     FOREIGN KEY (product_id) REFERENCES loan_products(product_id)
 );
 
+-- 申し込みの状態遷移イベント（review.mode=inline の審査結果の記録）
+CREATE TABLE loan_application_events (
+    event_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    application_id VARCHAR(100) NOT NULL,
+    from_status VARCHAR(20),
+    to_status VARCHAR(20) NOT NULL,
+    reason TEXT,
+    actor VARCHAR(50),
+    occurred_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_loan_application_events_application (application_id, event_id)
+);
+
+-- 商品カタログのバージョン（1行のみ。金利の更新ごとに増加し、各ノードのカタログが更新確認に使用する）
+CREATE TABLE catalog_version (
+    id TINYINT PRIMARY KEY,
+    version BIGINT NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+INSERT INTO catalog_version (id, version) VALUES (1, 1);
+
+-- 再審査ジョブのチェックポイント
+CREATE TABLE review_job_checkpoints (
+    job_id VARCHAR(100) PRIMARY KEY,
+    last_application_id VARCHAR(100),
+    processed_count BIGINT NOT NULL DEFAULT 0,
+    updated_count BIGINT NOT NULL DEFAULT 0,
+    status VARCHAR(20) NOT NULL, -- RUNNING, COMPLETED, STOPPED, FAILED
+    started_at TIMESTAMP NULL,
+    updated_at TIMESTAMP NULL
+);
+
 -- サンプルデータ: ローン商品
 INSERT INTO loan_products (product_id, product_name, product_type, min_interest_rate, max_interest_rate, current_interest_rate, min_loan_amount, max_loan_amount, min_loan_term, max_loan_term, repayment_method, description) VALUES
 ('FIXED_001', '固定金利プランA', 'FIXED', 0.50, 1.20, 0.85, 100, 5000, 10, 35, 'EQUAL_PAYMENT', '安定した返済額で安心の固定金利プランです。'),
@@ -82,7 +114,12 @@ INSERT INTO loan_products (product_id, product_name, product_type, min_interest_
 
 -- インデックス作成
 CREATE INDEX idx_loan_products_active ON loan_products(is_active);
+CREATE INDEX idx_loan_products_updated ON loan_products(updated_at);
 CREATE INDEX idx_loan_estimates_customer ON loan_estimates(customer_id);
-CREATE INDEX idx_loan_applications_customer ON loan_applications(customer_id);
-CREATE INDEX idx_loan_applications_status ON loan_applications(application_status);
+-- 顧客別・状況別の一覧は (application_date, application_id) の降順でキーセットページングするため複合インデックスとする
+-- 一覧の概要列（LoanMapper の applicationSummaryColumns）も含め、テーブル本体を読まずに返せるようにする
+CREATE INDEX idx_loan_applications_customer_date ON loan_applications(
+    customer_id, application_date, application_id, application_status, loan_amount, approval_date, product_name);
+CREATE INDEX idx_loan_applications_status_date ON loan_applications(
+    application_status, application_date, application_id, customer_id, loan_amount, approval_date, product_name);
 CREATE INDEX idx_loan_applications_date ON loan_applications(application_date); 
\ No newline at end of file
@@ -0,0 +1,27 @@
+-- 申し込み一覧・商品カタログ用インデックスの移行SQL
+-- 単一列インデックスのみの既存データベースに適用する（新規構築は init.sql に反映済み）
+-- 適用: mysql -u mortgage_user -p mortgage_loan < src/main/resources/sql/migration/001_application_list_indexes.sql
+
+USE mortgage_loan;
+
+-- キーセットページングのキーになるため、申し込み日時の未設定行を埋めて NOT NULL にする
+UPDATE loan_applications
+SET application_date = COALESCE(created_at, CURRENT_TIMESTAMP)
+WHERE application_date IS NULL;
+
+-- 顧客別・状況別の一覧を (application_date, application_id) の順にインデックスだけで返せるようにする
+-- 既存の単一列インデックスは新しい複合インデックスの先頭列で代替できるため削除する
+ALTER TABLE loan_applications
+    MODIFY application_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    ADD INDEX idx_loan_applications_customer_date (
+        customer_id, application_date, application_id, application_status, loan_amount, approval_date, product_name),
+    ADD INDEX idx_loan_applications_status_date (
+        application_status, application_date, application_id, customer_id, loan_amount, approval_date, product_name),
+    DROP INDEX idx_loan_applications_customer,
+    DROP INDEX idx_loan_applications_status;
+
+-- 商品カタログの更新確認（MAX(updated_at)）をインデックスの端の参照だけで済ませる
+ALTER TABLE loan_products
+    ADD INDEX idx_loan_products_updated (updated_at);
+
+ANALYZE TABLE loan_applications, loan_products;
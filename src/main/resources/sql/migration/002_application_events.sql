@@ -0,0 +1,17 @@
+-- 申し込みの状態遷移イベントテーブルの移行SQL
+-- review.mode=inline を使用する既存データベースに適用する（新規構築は init.sql に反映済み）
+-- 適用: mysql -u mortgage_user -p mortgage_loan < src/main/resources/sql/migration/002_application_events.sql
+
+USE mortgage_loan;
+
+-- 保存前に審査した申し込みの PENDING から審査結果への遷移を、申し込み行の UPDATE の代わりに記録する
+CREATE TABLE IF NOT EXISTS loan_application_events (
+    event_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    application_id VARCHAR(100) NOT NULL,
+    from_status VARCHAR(20),
+    to_status VARCHAR(20) NOT NULL,
+    reason TEXT,
+    actor VARCHAR(50),
+    occurred_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_loan_application_events_application (application_id, event_id)
+);
@@ -0,0 +1,13 @@
+-- 商品カタログのバージョンテーブルの移行SQL
+-- 既存データベースに適用する（新規構築は init.sql に反映済み）
+-- 適用: mysql -u mortgage_user -p mortgage_loan < src/main/resources/sql/migration/003_catalog_version.sql
+
+USE mortgage_loan;
+
+-- RateUpdateService が金利の更新と同じトランザクションで1つ進め、各ノードの商品カタログが更新確認に使用する
+CREATE TABLE IF NOT EXISTS catalog_version (
+    id TINYINT PRIMARY KEY,
+    version BIGINT NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+INSERT IGNORE INTO catalog_version (id, version) VALUES (1, 1);
@@ -0,0 +1,9 @@
+-- 申し込みの生年月日列の移行SQL
+-- 既存データベースに適用する（新規構築は init.sql に反映済み）
+-- 適用: mysql -u mortgage_user -p mortgage_loan < src/main/resources/sql/migration/004_customer_birth_date.sql
+
+USE mortgage_loan;
+
+-- 審査ルールが完済時年齢の判定に使用する。既存の申し込みは未設定（NULL）のまま残す
+ALTER TABLE loan_applications
+    ADD COLUMN customer_birth_date DATE NULL AFTER customer_phone;
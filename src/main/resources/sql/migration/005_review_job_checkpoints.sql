@@ -0,0 +1,16 @@
+-- 再審査ジョブのチェックポイントテーブルの移行SQL
+-- 既存データベースに適用する（新規構築は init.sql に反映済み）
+-- 適用: mysql -u mortgage_user -p mortgage_loan < src/main/resources/sql/migration/005_review_job_checkpoints.sql
+
+USE mortgage_loan;
+
+-- ReReviewJob が処理済みの最後の申し込みIDを記録し、停止・失敗後に続きから再開する
+CREATE TABLE IF NOT EXISTS review_job_checkpoints (
+    job_id VARCHAR(100) PRIMARY KEY,
+    last_application_id VARCHAR(100),
+    processed_count BIGINT NOT NULL DEFAULT 0,
+    updated_count BIGINT NOT NULL DEFAULT 0,
+    status VARCHAR(20) NOT NULL, -- RUNNING, COMPLETED, STOPPED, FAILED
+    started_at TIMESTAMP NULL,
+    updated_at TIMESTAMP NULL
+);
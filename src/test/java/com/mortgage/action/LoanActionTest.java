@@ -12,6 +12,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 
@@ -42,25 +43,25 @@ public class LoanActionTest {
         testProduct.setProductId("PROD001");
         testProduct.setProductName("固定金利住宅ローン");
         testProduct.setProductType("FIXED");
-        testProduct.setCurrentInterestRate(1.5);
+        testProduct.setCurrentInterestRate(new BigDecimal("1.5"));
         testProduct.setMinLoanAmount(1000);
         testProduct.setMaxLoanAmount(5000);
         testProduct.setMinLoanTerm(10);
         testProduct.setMaxLoanTerm(35);
         testProduct.setRepaymentMethod("EQUAL_PAYMENT");
-        testProduct.setIsActive(true);
+        testProduct.setActive(true);
 
         // テスト用の見積もりデータ
         testEstimate = new LoanEstimate();
         testEstimate.setEstimateId("EST001");
         testEstimate.setProductId("PROD001");
         testEstimate.setProductName("固定金利住宅ローン");
-        testEstimate.setLoanAmount(3000);
+        testEstimate.setLoanAmount(new BigDecimal("3000"));
         testEstimate.setLoanTerm(30);
-        testEstimate.setInterestRate(1.5);
-        testEstimate.setMonthlyPayment(10350);
-        testEstimate.setTotalPayment(3726000);
-        testEstimate.setTotalInterest(726000);
+        testEstimate.setInterestRate(new BigDecimal("1.5"));
+        testEstimate.setMonthlyPayment(new BigDecimal("10350"));
+        testEstimate.setTotalPayment(new BigDecimal("3726000"));
+        testEstimate.setTotalInterest(new BigDecimal("726000"));
 
         // テスト用の申し込みデータ
         testApplication = new LoanApplication();
@@ -70,15 +71,15 @@ public class LoanActionTest {
         testApplication.setCustomerPhone("090-1234-5678");
         testApplication.setProductId("PROD001");
         testApplication.setProductName("固定金利住宅ローン");
-        testApplication.setLoanAmount(3000);
+        testApplication.setLoanAmount(new BigDecimal("3000"));
         testApplication.setLoanTerm(30);
-        testApplication.setInterestRate(1.5);
-        testApplication.setMonthlyPayment(10350);
+        testApplication.setInterestRate(new BigDecimal("1.5"));
+        testApplication.setMonthlyPayment(new BigDecimal("10350"));
         testApplication.setPropertyAddress("東京都渋谷区1-1-1");
         testApplication.setPropertyType("DETACHED");
-        testApplication.setPropertyValue(4000);
+        testApplication.setPropertyValue(new BigDecimal("4000"));
         testApplication.setEmploymentType("SALARIED");
-        testApplication.setAnnualIncome(600);
+        testApplication.setAnnualIncome(new BigDecimal("600"));
         testApplication.setBankAccountNumber("1234567890");
         testApplication.setBankName("テスト銀行");
         testApplication.setBranchName("渋谷支店");
@@ -90,12 +91,12 @@ public class LoanActionTest {
      * ▷ボタンで実行可能
      */
     @Test
-    public void testDisplayEstimate_Success() {
+    public void testEstimate_Success() {
         // Given
-        when(loanService.getAllProducts()).thenReturn(Arrays.asList(testProduct));
+        when(loanService.getAllLoanProducts()).thenReturn(Arrays.asList(testProduct));
 
         // When
-        String result = loanAction.displayEstimate();
+        String result = loanAction.estimate();
 
         // Then
         assertEquals(ActionSupport.SUCCESS, result);
@@ -109,12 +110,12 @@ public class LoanActionTest {
      * ▷ボタンで実行可能
      */
     @Test
-    public void testDisplayEstimate_ServiceException() {
+    public void testEstimate_ServiceException() {
         // Given
-        when(loanService.getAllProducts()).thenThrow(new RuntimeException("Service error"));
+        when(loanService.getAllLoanProducts()).thenThrow(new RuntimeException("Service error"));
 
         // When
-        String result = loanAction.displayEstimate();
+        String result = loanAction.estimate();
 
         // Then
         assertEquals(ActionSupport.ERROR, result);
@@ -127,41 +128,41 @@ public class LoanActionTest {
      * ▷ボタンで実行可能
      */
     @Test
-    public void testCalculateEstimate_Success() {
+    public void testCalculate_Success() {
         // Given
-        loanAction.setProductId("PROD001");
-        loanAction.setLoanAmount(3000);
+        loanAction.setSelectedProductId("PROD001");
+        loanAction.setLoanAmount(new BigDecimal("3000"));
         loanAction.setLoanTerm(30);
-        when(loanService.calculateEstimate(anyString(), anyInt(), anyInt())).thenReturn(testEstimate);
+        when(loanService.calculateEstimate("PROD001", new BigDecimal("3000"), 30)).thenReturn(testEstimate);
 
         // When
-        String result = loanAction.calculateEstimate();
+        String result = loanAction.calculate();
 
         // Then
         assertEquals(ActionSupport.SUCCESS, result);
         assertNotNull(loanAction.getEstimate());
         assertEquals("EST001", loanAction.getEstimate().getEstimateId());
-        assertEquals(3000, loanAction.getEstimate().getLoanAmount());
+        assertEquals(new BigDecimal("3000"), loanAction.getEstimate().getLoanAmount());
     }
 
     /**
-     * 見積もり計算の異常系テスト（無効な入力）
+     * 見積もり計算の異常系テスト（未入力）
      * ▷ボタンで実行可能
      */
     @Test
-    public void testCalculateEstimate_InvalidInput() {
+    public void testCalculate_MissingInput() {
         // Given
-        loanAction.setProductId("");
-        loanAction.setLoanAmount(0);
-        loanAction.setLoanTerm(0);
+        loanAction.setSelectedProductId("PROD001");
+        loanAction.setLoanAmount(null);
+        loanAction.setLoanTerm(30);
 
         // When
-        String result = loanAction.calculateEstimate();
+        String result = loanAction.calculate();
 
         // Then
-        assertEquals(ActionSupport.INPUT, result);
-        assertNotNull(loanAction.getFieldErrors());
-        assertTrue(loanAction.getFieldErrors().size() > 0);
+        assertEquals(ActionSupport.ERROR, result);
+        assertTrue(loanAction.getActionErrors().size() > 0);
+        verifyNoInteractions(loanService);
     }
 
     /**
@@ -169,16 +170,16 @@ public class LoanActionTest {
      * ▷ボタンで実行可能
      */
     @Test
-    public void testCalculateEstimate_ServiceException() {
+    public void testCalculate_ServiceException() {
         // Given
-        loanAction.setProductId("PROD001");
-        loanAction.setLoanAmount(3000);
+        loanAction.setSelectedProductId("PROD001");
+        loanAction.setLoanAmount(new BigDecimal("3000"));
         loanAction.setLoanTerm(30);
-        when(loanService.calculateEstimate(anyString(), anyInt(), anyInt()))
-                .thenThrow(new RuntimeException("Calculation error"));
+        when(loanService.calculateEstimate(anyString(), any(BigDecimal.class), anyInt()))
+                .thenThrow(new IllegalArgumentException("Calculation error"));
 
         // When
-        String result = loanAction.calculateEstimate();
+        String result = loanAction.calculate();
 
         // Then
         assertEquals(ActionSupport.ERROR, result);
@@ -191,17 +192,30 @@ public class LoanActionTest {
      * ▷ボタンで実行可能
      */
     @Test
-    public void testDisplayApplication_Success() {
+    public void testApply_Success() {
         // Given
-        when(loanService.getAllProducts()).thenReturn(Arrays.asList(testProduct));
+        loanAction.setEstimate(testEstimate);
 
         // When
-        String result = loanAction.displayApplication();
+        String result = loanAction.apply();
 
         // Then
         assertEquals(ActionSupport.SUCCESS, result);
-        assertNotNull(loanAction.getProducts());
-        assertEquals(1, loanAction.getProducts().size());
+        assertSame(testEstimate, loanAction.getEstimate());
+    }
+
+    /**
+     * 申し込み表示画面の異常系テスト（見積もり未指定）
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testApply_NoEstimate() {
+        // When
+        String result = loanAction.apply();
+
+        // Then
+        assertEquals(ActionSupport.ERROR, result);
+        assertTrue(loanAction.getActionErrors().size() > 0);
     }
 
     /**
@@ -209,13 +223,13 @@ public class LoanActionTest {
      * ▷ボタンで実行可能
      */
     @Test
-    public void testSubmitApplication_Success() {
+    public void testSubmit_Success() {
         // Given
         loanAction.setApplication(testApplication);
         when(loanService.submitApplication(any(LoanApplication.class))).thenReturn(testApplication);
 
         // When
-        String result = loanAction.submitApplication();
+        String result = loanAction.submit();
 
         // Then
         assertEquals(ActionSupport.SUCCESS, result);
@@ -224,23 +238,18 @@ public class LoanActionTest {
     }
 
     /**
-     * 申し込み提出の異常系テスト（無効な入力）
+     * 申し込み提出の異常系テスト（未入力）
      * ▷ボタンで実行可能
      */
     @Test
-    public void testSubmitApplication_InvalidInput() {
-        // Given
-        testApplication.setCustomerName("");
-        testApplication.setCustomerEmail("invalid-email");
-        loanAction.setApplication(testApplication);
-
+    public void testSubmit_MissingInput() {
         // When
-        String result = loanAction.submitApplication();
+        String result = loanAction.submit();
 
         // Then
-        assertEquals(ActionSupport.INPUT, result);
-        assertNotNull(loanAction.getFieldErrors());
-        assertTrue(loanAction.getFieldErrors().size() > 0);
+        assertEquals(ActionSupport.ERROR, result);
+        assertTrue(loanAction.getActionErrors().size() > 0);
+        verifyNoInteractions(loanService);
     }
 
     /**
@@ -248,14 +257,14 @@ public class LoanActionTest {
      * ▷ボタンで実行可能
      */
     @Test
-    public void testSubmitApplication_ServiceException() {
+    public void testSubmit_ServiceException() {
         // Given
         loanAction.setApplication(testApplication);
         when(loanService.submitApplication(any(LoanApplication.class)))
                 .thenThrow(new RuntimeException("Submission error"));
 
         // When
-        String result = loanAction.submitApplication();
+        String result = loanAction.submit();
 
         // Then
         assertEquals(ActionSupport.ERROR, result);
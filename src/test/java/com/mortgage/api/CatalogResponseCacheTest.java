@@ -0,0 +1,143 @@
+package com.mortgage.api;
+
+import com.mortgage.api.CatalogResponseCache.CatalogResponse;
+import com.mortgage.catalog.CatalogSnapshot;
+import com.mortgage.model.LoanProduct;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CatalogResponseCacheクラスのユニットテスト
+ * IDEで▷ボタンをクリックして個別のテストメソッドを実行できます
+ */
+public class CatalogResponseCacheTest {
+
+    private CatalogResponseCache cache;
+
+    @Before
+    public void setUp() {
+        cache = new CatalogResponseCache();
+    }
+
+    /**
+     * 更新通知で作成したレスポンスを、同じ世代のスナップショットでは再作成せずに返却することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testGet_PreparedOnCatalogChanged() {
+        // Given
+        CatalogSnapshot snapshot = snapshot(1L, 3);
+        cache.onCatalogChanged(snapshot);
+
+        // When
+        CatalogResponse first = cache.get(snapshot);
+        CatalogResponse second = cache.get(snapshot);
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1L, first.getVersion());
+        verify(snapshot, times(1)).getProducts();
+        String json = new String(first.getBody(), StandardCharsets.UTF_8);
+        assertTrue(json, json.startsWith("{\"success\":true,\"data\":[{\"productId\":\"PRODUCT_000\""));
+    }
+
+    /**
+     * スナップショットに公開前に作成したレスポンスがあればそれを返却することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testGet_UsesPreparedResponse() {
+        // Given
+        CatalogSnapshot snapshot = snapshot(1L, 3);
+        Object prepared = cache.prepare(snapshot);
+        when(snapshot.getDerived(cache)).thenReturn(prepared);
+
+        // When
+        CatalogResponse response = cache.get(snapshot);
+
+        // Then
+        assertSame(prepared, response);
+        verify(snapshot, times(1)).getProducts();
+    }
+
+    /**
+     * 同じ内容であれば世代が異なっても同じ ETag になることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testEtag_DerivedFromContent() {
+        // Given
+        CatalogResponse first = cache.get(snapshot(1L, 3));
+
+        // When
+        CatalogResponse sameContent = cache.get(snapshot(2L, 3));
+        CatalogResponse changed = cache.get(snapshot(3L, 4));
+
+        // Then
+        assertEquals(first.getEtag(), sameContent.getEtag());
+        assertNotEquals(first.getEtag(), changed.getEtag());
+        assertTrue(first.getEtag().matches("\"[0-9a-f]{32}\""));
+        assertNotEquals(first.getEtag(), first.getGzipEtag());
+    }
+
+    /**
+     * 古い世代のスナップショットで作成したレスポンスが新しいものを上書きしないことのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testGet_StaleSnapshotDoesNotReplaceNewer() {
+        // Given
+        CatalogSnapshot newer = snapshot(2L, 2);
+        cache.onCatalogChanged(newer);
+        cache.get(snapshot(1L, 1));
+
+        // When
+        CatalogResponse response = cache.get(newer);
+
+        // Then
+        assertEquals(2L, response.getVersion());
+        verify(newer, times(1)).getProducts();
+    }
+
+    /**
+     * gzip を無効にした場合は圧縮したバイト列を保持しないことのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testGzipDisabled() {
+        // Given
+        ReflectionTestUtils.setField(cache, "gzipEnabled", false);
+
+        // When
+        CatalogResponse response = cache.get(snapshot(1L, 20));
+
+        // Then
+        assertNull(response.getGzipBody());
+        assertTrue(response.getBody().length > 0);
+    }
+
+    private static CatalogSnapshot snapshot(long version, int productCount) {
+        List<LoanProduct> products = new ArrayList<>();
+        for (int i = 0; i < productCount; i++) {
+            LoanProduct product = new LoanProduct();
+            product.setProductId(String.format("PRODUCT_%03d", i));
+            product.setProductName("固定金利プラン" + i);
+            product.setCurrentInterestRate(new BigDecimal("0.85"));
+            product.setActive(true);
+            products.add(product);
+        }
+        CatalogSnapshot snapshot = mock(CatalogSnapshot.class);
+        when(snapshot.getVersion()).thenReturn(version);
+        when(snapshot.getProducts()).thenReturn(products);
+        return snapshot;
+    }
+}
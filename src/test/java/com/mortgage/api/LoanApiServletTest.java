@@ -0,0 +1,508 @@
+package com.mortgage.api;
+
+import com.mortgage.catalog.CatalogSnapshot;
+import com.mortgage.catalog.ProductCatalog;
+import com.mortgage.model.ApplicationPage;
+import com.mortgage.model.LoanApplication;
+import com.mortgage.model.LoanApplicationSummary;
+import com.mortgage.model.LoanEstimate;
+import com.mortgage.model.LoanProduct;
+import com.mortgage.service.LoanService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+/**
+ * LoanApiServletクラスのユニットテスト
+ * IDEで▷ボタンをクリックして個別のテストメソッドを実行できます
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class LoanApiServletTest {
+
+    @Mock
+    private LoanService loanService;
+
+    @Mock
+    private ProductCatalog productCatalog;
+
+    @Mock
+    private CatalogSnapshot catalogSnapshot;
+
+    @Mock
+    private HttpServletRequest request;
+
+    @Mock
+    private HttpServletResponse response;
+
+    private LoanApiServlet servlet;
+    private ByteArrayOutputStream body;
+
+    @Before
+    public void setUp() throws Exception {
+        servlet = new LoanApiServlet();
+        ReflectionTestUtils.setField(servlet, "loanService", loanService);
+        ReflectionTestUtils.setField(servlet, "productCatalog", productCatalog);
+        ReflectionTestUtils.setField(servlet, "catalogResponseCache", new CatalogResponseCache());
+
+        body = new ByteArrayOutputStream();
+        lenient().when(response.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                body.write(b);
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener listener) {
+            }
+        });
+    }
+
+    /**
+     * 商品一覧を success / data の形式で ETag を付けて返却することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testGetProducts() throws Exception {
+        // Given
+        LoanProduct product = new LoanProduct();
+        product.setProductId("FIXED_001");
+        product.setCurrentInterestRate(new BigDecimal("0.85"));
+        product.setActive(true);
+        givenCatalog(1L, Collections.singletonList(product));
+        when(request.getPathInfo()).thenReturn("/products");
+
+        // When
+        servlet.doGet(request, response);
+
+        // Then
+        String json = body();
+        assertTrue(json, json.startsWith("{\"success\":true,\"data\":[{\"productId\":\"FIXED_001\""));
+        assertTrue(json, json.contains("\"currentInterestRate\":0.85"));
+        assertTrue(json, json.contains("\"isActive\":true"));
+        verify(response).setContentType("application/json;charset=UTF-8");
+        verify(response).setHeader(eq("ETag"), startsWith("\""));
+        verify(response).setContentLength(body.size());
+        verifyNoInteractions(loanService);
+    }
+
+    /**
+     * If-None-Match が ETag と一致する場合は本文なしの304を返却することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testGetProducts_NotModified() throws Exception {
+        // Given
+        givenCatalog(1L, createProducts(1));
+        when(request.getPathInfo()).thenReturn("/products");
+        servlet.doGet(request, response);
+        ArgumentCaptor<String> etag = ArgumentCaptor.forClass(String.class);
+        verify(response).setHeader(eq("ETag"), etag.capture());
+        when(request.getHeader("If-None-Match")).thenReturn("\"other\", W/" + etag.getValue());
+        body.reset();
+
+        // When
+        servlet.doGet(request, response);
+
+        // Then
+        verify(response).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        verify(response, times(2)).setHeader("ETag", etag.getValue());
+        assertEquals(0, body.size());
+        verify(catalogSnapshot, times(1)).getProducts();
+    }
+
+    /**
+     * gzip を受け付ける場合は圧縮済みの本文を別の ETag で返却することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testGetProducts_Gzip() throws Exception {
+        // Given
+        givenCatalog(1L, createProducts(20));
+        when(request.getPathInfo()).thenReturn("/products");
+        when(request.getHeader("Accept-Encoding")).thenReturn("gzip, deflate, br");
+
+        // When
+        servlet.doGet(request, response);
+
+        // Then
+        verify(response).setHeader("Content-Encoding", "gzip");
+        verify(response).setHeader(eq("ETag"), endsWith("-gz\""));
+        verify(response).setHeader("Vary", "Accept-Encoding");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body.toByteArray()))) {
+            ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            for (int n; (n = in.read(buffer)) > 0; ) {
+                decoded.write(buffer, 0, n);
+            }
+            String json = new String(decoded.toByteArray(), StandardCharsets.UTF_8);
+            assertTrue(json, json.startsWith("{\"success\":true,\"data\":[{\"productId\":\"PRODUCT_000\""));
+        }
+    }
+
+    /**
+     * カタログが更新された場合は新しい内容と ETag を返却することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testGetProducts_CatalogChanged() throws Exception {
+        // Given
+        givenCatalog(1L, createProducts(1));
+        when(request.getPathInfo()).thenReturn("/products");
+        servlet.doGet(request, response);
+        ArgumentCaptor<String> etag = ArgumentCaptor.forClass(String.class);
+        verify(response).setHeader(eq("ETag"), etag.capture());
+        givenCatalog(2L, createProducts(2));
+        when(request.getHeader("If-None-Match")).thenReturn(etag.getValue());
+        body.reset();
+
+        // When
+        servlet.doGet(request, response);
+
+        // Then
+        verify(response, never()).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        assertTrue(body().contains("\"productId\":\"PRODUCT_001\""));
+    }
+
+    /**
+     * Accept-Encoding の gzip 判定のテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testAcceptsGzip() {
+        // Given / When / Then
+        assertTrue(LoanApiServlet.acceptsGzip("gzip"));
+        assertTrue(LoanApiServlet.acceptsGzip("deflate, GZIP;q=0.5"));
+        assertTrue(LoanApiServlet.acceptsGzip("*"));
+        assertFalse(LoanApiServlet.acceptsGzip("gzip;q=0"));
+        assertFalse(LoanApiServlet.acceptsGzip("identity"));
+        assertFalse(LoanApiServlet.acceptsGzip(null));
+    }
+
+    /**
+     * 見積もり計算の結果を返却することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testPostEstimateCalculate() throws Exception {
+        // Given
+        LoanEstimate estimate = new LoanEstimate();
+        estimate.setEstimateId("EST001");
+        estimate.setLoanAmount(new BigDecimal("3000"));
+        estimate.setLoanTerm(35);
+        when(loanService.calculateEstimate("FIXED_001", new BigDecimal("3000"), 35)).thenReturn(estimate);
+        when(request.getPathInfo()).thenReturn("/estimate/calculate");
+        givenBody("{\"productId\":\"FIXED_001\",\"loanAmount\":3000,\"loanTerm\":35}");
+
+        // When
+        servlet.doPost(request, response);
+
+        // Then
+        String json = body();
+        assertTrue(json, json.startsWith("{\"success\":true,\"data\":{\"estimateId\":\"EST001\""));
+        assertTrue(json, json.contains("\"loanAmount\":3000"));
+    }
+
+    /**
+     * 入力不備の見積もり計算は400とエラーメッセージを返却することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testPostEstimateCalculate_InvalidParameters() throws Exception {
+        // Given
+        when(loanService.calculateEstimate(any(), any(), any()))
+                .thenThrow(new IllegalArgumentException("融資額が範囲外です"));
+        when(request.getPathInfo()).thenReturn("/estimate/calculate");
+        givenBody("{\"productId\":\"FIXED_001\",\"loanAmount\":1,\"loanTerm\":35}");
+
+        // When
+        servlet.doPost(request, response);
+
+        // Then
+        verify(response).setStatus(HttpServletResponse.SC_BAD_REQUEST);
+        assertEquals("{\"success\":false,\"message\":\"融資額が範囲外です\"}", body());
+    }
+
+    /**
+     * 不正なJSONは400を返却することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testPostEstimateCalculate_MalformedJson() throws Exception {
+        // Given
+        when(request.getPathInfo()).thenReturn("/estimate/calculate");
+        givenBody("{productId");
+
+        // When
+        servlet.doPost(request, response);
+
+        // Then
+        verify(response).setStatus(HttpServletResponse.SC_BAD_REQUEST);
+        assertTrue(body().startsWith("{\"success\":false,"));
+        verifyNoInteractions(loanService);
+    }
+
+    /**
+     * 申し込みを日付項目を含めて読み込み、保存結果を返却することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testPostApplicationSubmit() throws Exception {
+        // Given
+        when(loanService.submitApplication(any(LoanApplication.class))).thenAnswer(invocation -> {
+            LoanApplication application = invocation.getArgument(0);
+            application.setApplicationId("APP001");
+            application.setApplicationStatus("APPROVED");
+            return application;
+        });
+        when(request.getPathInfo()).thenReturn("/application/submit");
+        givenBody("{\"customerName\":\"山田太郎\",\"customerBirthDate\":\"1990-04-01\",\"loanAmount\":3000,"
+                + "\"annualIncome\":600,\"bankAccountNumber\":\"1234567\"}");
+
+        // When
+        servlet.doPost(request, response);
+
+        // Then
+        ArgumentCaptor<LoanApplication> submitted = ArgumentCaptor.forClass(LoanApplication.class);
+        verify(loanService).submitApplication(submitted.capture());
+        assertEquals(LocalDate.of(1990, 4, 1), submitted.getValue().getCustomerBirthDate());
+        String json = body();
+        assertTrue(json, json.contains("\"applicationId\":\"APP001\""));
+        assertTrue(json, json.contains("\"customerName\":\"山田太郎\""));
+        assertTrue(json, json.contains("\"applicationStatus\":\"APPROVED\""));
+        // 公開APIのため、口座番号は下4桁以外を伏せ、生年月日と年収は返さない
+        assertTrue(json, json.contains("\"bankAccountNumber\":\"****4567\""));
+        assertFalse(json, json.contains("customerBirthDate"));
+        assertFalse(json, json.contains("annualIncome"));
+    }
+
+    /**
+     * 存在しない申し込みは404を返却することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testGetApplication_NotFound() throws Exception {
+        // Given
+        when(request.getPathInfo()).thenReturn("/application/APP999");
+
+        // When
+        servlet.doGet(request, response);
+
+        // Then
+        verify(response).setStatus(HttpServletResponse.SC_NOT_FOUND);
+        assertTrue(body().startsWith("{\"success\":false,"));
+    }
+
+    /**
+     * 顧客の申し込み一覧をページごとに読みながら全件書き出すことのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testGetApplicationsByCustomerId_ReadsPageByPage() throws Exception {
+        // Given
+        when(request.getPathInfo()).thenReturn("/application/customer/CUST001");
+        when(loanService.getApplicationPageByCustomerId(eq("CUST001"), isNull(), anyInt()))
+                .thenReturn(new ApplicationPage(Collections.singletonList(summary("APP002")), "TOKEN1"));
+        when(loanService.getApplicationPageByCustomerId(eq("CUST001"), eq("TOKEN1"), anyInt()))
+                .thenReturn(new ApplicationPage(Collections.singletonList(summary("APP001")), null));
+
+        // When
+        servlet.doGet(request, response);
+
+        // Then
+        String json = body();
+        assertTrue(json, json.startsWith("{\"success\":true,\"data\":[{\"applicationId\":\"APP002\""));
+        assertTrue(json, json.contains("},{\"applicationId\":\"APP001\""));
+        verify(loanService, times(2)).getApplicationPageByCustomerId(eq("CUST001"), any(), anyInt());
+        verify(loanService, never()).getApplicationsByCustomerId(any());
+    }
+
+    /**
+     * 申し込み状況で申し込み一覧を1ページ返却することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testGetApplicationPageByStatus() throws Exception {
+        // Given
+        when(request.getPathInfo()).thenReturn("/applications");
+        when(request.getParameter("status")).thenReturn("PENDING");
+        when(request.getParameter("pageToken")).thenReturn("TOKEN1");
+        when(request.getParameter("pageSize")).thenReturn("10");
+        when(loanService.getApplicationPageByStatus("PENDING", "TOKEN1", 10))
+                .thenReturn(new ApplicationPage(Collections.singletonList(summary("APP001")), "TOKEN2"));
+
+        // When
+        servlet.doGet(request, response);
+
+        // Then
+        String json = body();
+        assertTrue(json, json.startsWith("{\"success\":true,\"data\":{\"items\":[{\"applicationId\":\"APP001\""));
+        assertTrue(json, json.contains("\"nextPageToken\":\"TOKEN2\""));
+    }
+
+    /**
+     * 顧客IDも申し込み状況も無い申し込み一覧は400を返却することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testGetApplicationPage_NoCondition() throws Exception {
+        // Given
+        when(request.getPathInfo()).thenReturn("/applications");
+
+        // When
+        servlet.doGet(request, response);
+
+        // Then
+        verify(response).setStatus(HttpServletResponse.SC_BAD_REQUEST);
+        verifyNoInteractions(loanService);
+    }
+
+    /**
+     * 入力不足の返済予定表は400を返却することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testGetSchedule_MissingParameters() throws Exception {
+        // Given
+        when(request.getPathInfo()).thenReturn("/schedule");
+        when(request.getParameter("productId")).thenReturn("FIXED_001");
+
+        // When
+        servlet.doGet(request, response);
+
+        // Then
+        verify(response).setStatus(HttpServletResponse.SC_BAD_REQUEST);
+        assertEquals("{\"success\":false,\"message\":\"必要な情報が入力されていません。\"}", body());
+        verifyNoInteractions(loanService);
+    }
+
+    /**
+     * 送信開始後に入力不備が発生した場合は、エラーを書き足さずに例外を投げることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testGetApplicationsByCustomerId_BadRequestAfterCommit() throws Exception {
+        // Given
+        when(request.getPathInfo()).thenReturn("/application/customer/CUST001");
+        when(loanService.getApplicationPageByCustomerId(eq("CUST001"), isNull(), anyInt()))
+                .thenReturn(new ApplicationPage(Collections.singletonList(summary("APP002")), "TOKEN1"));
+        when(loanService.getApplicationPageByCustomerId(eq("CUST001"), eq("TOKEN1"), anyInt()))
+                .thenThrow(new IllegalArgumentException("ページトークンが不正です"));
+        when(response.isCommitted()).thenReturn(true);
+
+        // When
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+                () -> servlet.doGet(request, response));
+
+        // Then
+        assertEquals("ページトークンが不正です", thrown.getMessage());
+        verify(response, never()).setStatus(HttpServletResponse.SC_BAD_REQUEST);
+        verify(response, never()).resetBuffer();
+        assertFalse(body().contains("\"success\":false"));
+    }
+
+    /**
+     * 未定義のパスは404を返却することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testUnknownPath() throws Exception {
+        // Given
+        when(request.getPathInfo()).thenReturn("/unknown/path/here");
+
+        // When
+        servlet.doGet(request, response);
+
+        // Then
+        verify(response).setStatus(HttpServletResponse.SC_NOT_FOUND);
+        verifyNoInteractions(loanService);
+    }
+
+    private static LoanApplicationSummary summary(String applicationId) {
+        LoanApplicationSummary summary = new LoanApplicationSummary();
+        summary.setApplicationId(applicationId);
+        summary.setCustomerId("CUST001");
+        return summary;
+    }
+
+    private void givenCatalog(long version, List<LoanProduct> products) {
+        when(productCatalog.snapshot()).thenReturn(catalogSnapshot);
+        when(catalogSnapshot.getVersion()).thenReturn(version);
+        when(catalogSnapshot.getProducts()).thenReturn(products);
+    }
+
+    private static List<LoanProduct> createProducts(int count) {
+        List<LoanProduct> products = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            LoanProduct product = new LoanProduct();
+            product.setProductId(String.format("PRODUCT_%03d", i));
+            product.setProductName("固定金利プラン" + i);
+            product.setCurrentInterestRate(new BigDecimal("0.85"));
+            product.setRepaymentMethod("EQUAL_PAYMENT");
+            product.setActive(true);
+            products.add(product);
+        }
+        return products;
+    }
+
+    private void givenBody(String json) throws Exception {
+        ByteArrayInputStream in = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+        when(request.getInputStream()).thenReturn(new ServletInputStream() {
+            @Override
+            public int read() {
+                return in.read();
+            }
+
+            @Override
+            public boolean isFinished() {
+                return in.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(ReadListener listener) {
+            }
+        });
+    }
+
+    private String body() {
+        return new String(body.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,77 @@
+package com.mortgage.calc;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.Assert.*;
+
+/**
+ * AmortizationEngineクラスのユニットテスト
+ * IDEで▷ボタンをクリックして個別のテストメソッドを実行できます
+ */
+public class AmortizationEngineTest {
+
+    private static final String[] RATES = {"0", "0.01", "0.45", "0.85", "1.50", "3.25", "14.99"};
+    private static final long[] PRINCIPALS = {1, 100, 3000, 1234567, 30000000, 123456789};
+
+    private AmortizationEngine engine;
+
+    @Before
+    public void setUp() {
+        engine = new AmortizationEngine();
+    }
+
+    /**
+     * 近似計算と従来の厳密計算が全ての金利・期間で一致することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testCalculateMonthlyPayment_MatchesExactCalculation() {
+        for (String rate : RATES) {
+            for (long principal : PRINCIPALS) {
+                for (int years = 1; years <= 50; years++) {
+                    BigDecimal p = BigDecimal.valueOf(principal);
+                    BigDecimal r = new BigDecimal(rate);
+
+                    BigDecimal expected = engine.calculateExactMonthlyPayment(p, r, years);
+                    BigDecimal actual = engine.calculateMonthlyPayment(p, r, years);
+
+                    assertEquals("rate=" + rate + " principal=" + principal + " years=" + years,
+                            expected, actual);
+                }
+            }
+        }
+    }
+
+    /**
+     * 金利0%の場合は元金を返済回数で割った額になることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testCalculateMonthlyPayment_ZeroRate() {
+        // When
+        BigDecimal result = engine.calculateMonthlyPayment(BigDecimal.valueOf(3600000), BigDecimal.ZERO, 30);
+
+        // Then
+        assertEquals(new BigDecimal("10000.00"), result);
+    }
+
+    /**
+     * 計算済み係数を適用した場合も同じ結果になることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testApplyFactor_SameAsDirectCalculation() {
+        // Given
+        BigDecimal rate = new BigDecimal("0.85");
+        BigDecimal factor = engine.annuityFactor(rate, 35);
+
+        // When
+        BigDecimal result = engine.applyFactor(BigDecimal.valueOf(30000000), factor, rate, 35);
+
+        // Then
+        assertEquals(engine.calculateExactMonthlyPayment(BigDecimal.valueOf(30000000), rate, 35), result);
+    }
+}
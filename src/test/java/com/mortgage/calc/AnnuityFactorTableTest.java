@@ -0,0 +1,165 @@
+package com.mortgage.calc;
+
+import com.mortgage.catalog.CatalogSnapshot;
+import com.mortgage.model.LoanProduct;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * AnnuityFactorTableクラスのユニットテスト
+ * IDEで▷ボタンをクリックして個別のテストメソッドを実行できます
+ */
+public class AnnuityFactorTableTest {
+
+    private AmortizationEngine engine;
+    private AnnuityFactorTable table;
+    private LoanProduct product;
+
+    @Before
+    public void setUp() {
+        engine = new AmortizationEngine();
+        table = new AnnuityFactorTable();
+        ReflectionTestUtils.setField(table, "amortizationEngine", engine);
+
+        product = createProduct("0.85");
+    }
+
+    /**
+     * カタログの公開時に全期間分の係数が構築されることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testPrepare_BuildsAllTerms() {
+        // When
+        publish(product);
+
+        // Then
+        assertEquals(26, table.size());
+    }
+
+    /**
+     * 商品の金利・期間に変更が無い場合は公開済みのテーブルを再利用することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testPrepare_ReusesUnchangedTable() {
+        // Given
+        CatalogSnapshot first = publish(product);
+
+        // When
+        CatalogSnapshot second = publish(createProduct("0.85"));
+
+        // Then
+        assertSame(first.getDerived(table), second.getDerived(table));
+    }
+
+    /**
+     * テーブル経由の計算結果が直接計算と一致し、ヒットが記録されることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testCalculateMonthlyPayment_Hit() {
+        // Given
+        CatalogSnapshot catalog = publish(product);
+        BigDecimal principal = BigDecimal.valueOf(30000000);
+
+        // When
+        BigDecimal result = table.calculateMonthlyPayment(catalog, product, principal, 35);
+
+        // Then
+        assertEquals(engine.calculateExactMonthlyPayment(principal, new BigDecimal("0.85"), 35), result);
+        assertEquals(1, table.getHitCount());
+        assertEquals(0, table.getMissCount());
+    }
+
+    /**
+     * スナップショットのテーブルに無い金利はその場で計算し、テーブルを差し替えないことのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testCalculateMonthlyPayment_MissDoesNotPublish() {
+        // Given
+        CatalogSnapshot catalog = publish(product);
+        Object prepared = catalog.getDerived(table);
+        LoanProduct repriced = createProduct("1.20");
+        BigDecimal principal = BigDecimal.valueOf(30000000);
+
+        // When
+        BigDecimal first = table.calculateMonthlyPayment(catalog, repriced, principal, 35);
+        BigDecimal second = table.calculateMonthlyPayment(catalog, repriced, principal, 35);
+
+        // Then
+        BigDecimal expected = engine.calculateExactMonthlyPayment(principal, new BigDecimal("1.20"), 35);
+        assertEquals(expected, first);
+        assertEquals(expected, second);
+        assertEquals(2, table.getMissCount());
+        assertEquals(0, table.getHitCount());
+        assertSame(prepared, publish(product).getDerived(table));
+    }
+
+    /**
+     * 新しいカタログの公開後も、呼び出し元のスナップショットの金利のテーブルで計算することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testCalculateMonthlyPayment_UsesCallersSnapshot() {
+        // Given
+        CatalogSnapshot before = publish(product);
+        LoanProduct repriced = createProduct("1.20");
+        CatalogSnapshot after = publish(repriced);
+        BigDecimal principal = BigDecimal.valueOf(30000000);
+
+        // When
+        BigDecimal oldRate = table.calculateMonthlyPayment(before, product, principal, 35);
+        BigDecimal newRate = table.calculateMonthlyPayment(after, repriced, principal, 35);
+
+        // Then
+        assertEquals(engine.calculateExactMonthlyPayment(principal, new BigDecimal("0.85"), 35), oldRate);
+        assertEquals(engine.calculateExactMonthlyPayment(principal, new BigDecimal("1.20"), 35), newRate);
+        assertEquals(2, table.getHitCount());
+        assertEquals(0, table.getMissCount());
+    }
+
+    /**
+     * テーブル化できない金利でも正しく計算されることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testCalculateMonthlyPayment_UnkeyableRate() {
+        // Given
+        product.setCurrentInterestRate(new BigDecimal("0.855"));
+        CatalogSnapshot catalog = publish(product);
+        BigDecimal principal = BigDecimal.valueOf(30000000);
+
+        // When
+        BigDecimal result = table.calculateMonthlyPayment(catalog, product, principal, 35);
+
+        // Then
+        assertEquals(engine.calculateExactMonthlyPayment(principal, new BigDecimal("0.855"), 35), result);
+        assertEquals(0, table.size());
+    }
+
+    /**
+     * ProductCatalog と同じ順序（prepare → 公開 → onCatalogChanged）でスナップショットを公開する
+     */
+    private CatalogSnapshot publish(LoanProduct... products) {
+        CatalogSnapshot snapshot = mock(CatalogSnapshot.class);
+        when(snapshot.getProducts()).thenReturn(Arrays.asList(products));
+        Object prepared = table.prepare(snapshot);
+        when(snapshot.getDerived(table)).thenReturn(prepared);
+        table.onCatalogChanged(snapshot);
+        return snapshot;
+    }
+
+    private static LoanProduct createProduct(String rate) {
+        return new LoanProduct("FIXED_001", "固定金利プランA", "FIXED", new BigDecimal(rate), 100, 5000, 10, 35);
+    }
+}
@@ -0,0 +1,84 @@
+package com.mortgage.calc;
+
+import com.mortgage.model.RepaymentScheduleEntry;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+
+import static org.junit.Assert.*;
+
+/**
+ * EqualPrincipalCalculatorクラスのユニットテスト
+ * IDEで▷ボタンをクリックして個別のテストメソッドを実行できます
+ */
+public class EqualPrincipalCalculatorTest {
+
+    private static final BigDecimal PRINCIPAL = BigDecimal.valueOf(30000000);
+    private static final BigDecimal RATE = new BigDecimal("0.85");
+
+    private AmortizationEngine engine;
+    private EqualPrincipalCalculator calculator;
+
+    @Before
+    public void setUp() {
+        engine = new AmortizationEngine();
+        calculator = new EqualPrincipalCalculator();
+        ReflectionTestUtils.setField(calculator, "amortizationEngine", engine);
+    }
+
+    /**
+     * 初回返済額が返済予定表の1回目と一致することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testCalculateFirstPayment_MatchesSchedule() {
+        // Given
+        RepaymentSchedule schedule = RepaymentSchedule.equalPrincipal(PRINCIPAL, engine.monthlyRate(RATE), 420);
+
+        // When
+        BigDecimal result = calculator.calculateFirstPayment(PRINCIPAL, RATE, 35);
+
+        // Then
+        assertEquals(schedule.iterator().next().getPaymentAmount(), result);
+    }
+
+    /**
+     * 総利息の閉形式が返済予定表の利息合計とほぼ一致することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testCalculateTotalInterest_CloseToScheduleSum() {
+        // Given
+        RepaymentSchedule schedule = RepaymentSchedule.equalPrincipal(PRINCIPAL, engine.monthlyRate(RATE), 420);
+        BigDecimal scheduleSum = BigDecimal.ZERO;
+        for (RepaymentScheduleEntry entry : schedule) {
+            scheduleSum = scheduleSum.add(entry.getInterestAmount());
+        }
+
+        // When
+        BigDecimal result = calculator.calculateTotalInterest(PRINCIPAL, RATE, 35);
+
+        // Then
+        assertEquals(new BigDecimal("4473124.79"), result);
+        assertTrue(result.subtract(scheduleSum).abs().compareTo(BigDecimal.valueOf(5)) < 0);
+    }
+
+    /**
+     * 元金均等の総利息が元利均等より少ないことのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testCalculateTotalInterest_LessThanEqualPayment() {
+        // Given
+        BigDecimal monthlyPayment = engine.calculateMonthlyPayment(PRINCIPAL, RATE, 35);
+        BigDecimal equalPaymentInterest = monthlyPayment.multiply(BigDecimal.valueOf(420)).subtract(PRINCIPAL);
+
+        // When
+        BigDecimal result = calculator.calculateTotalInterest(PRINCIPAL, RATE, 35);
+
+        // Then
+        assertTrue(result.compareTo(equalPaymentInterest) < 0);
+    }
+}
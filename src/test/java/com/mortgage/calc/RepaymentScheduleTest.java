@@ -0,0 +1,89 @@
+package com.mortgage.calc;
+
+import com.mortgage.model.RepaymentScheduleEntry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+
+import static org.junit.Assert.*;
+
+/**
+ * RepaymentScheduleクラスのユニットテスト
+ * IDEで▷ボタンをクリックして個別のテストメソッドを実行できます
+ */
+public class RepaymentScheduleTest {
+
+    private static final BigDecimal PRINCIPAL = BigDecimal.valueOf(30000000);
+    private static final BigDecimal RATE = new BigDecimal("0.85");
+
+    private AmortizationEngine engine;
+
+    @Before
+    public void setUp() {
+        engine = new AmortizationEngine();
+    }
+
+    /**
+     * 元利均等返済の予定表が全額を返済し終えることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testEqualPayment_RepaysPrincipal() {
+        // Given
+        BigDecimal monthlyPayment = engine.calculateMonthlyPayment(PRINCIPAL, RATE, 35);
+        RepaymentSchedule schedule = RepaymentSchedule.equalPayment(
+                PRINCIPAL, engine.monthlyRate(RATE), 420, monthlyPayment);
+
+        // When
+        BigDecimal principalSum = BigDecimal.ZERO;
+        RepaymentScheduleEntry last = null;
+        int count = 0;
+        for (RepaymentScheduleEntry entry : schedule) {
+            principalSum = principalSum.add(entry.getPrincipalAmount());
+            last = entry;
+            count++;
+        }
+
+        // Then
+        assertEquals(420, count);
+        assertEquals(0, principalSum.compareTo(PRINCIPAL));
+        assertEquals(0, last.getRemainingBalance().signum());
+        assertEquals(monthlyPayment, schedule.iterator().next().getPaymentAmount());
+    }
+
+    /**
+     * 元金均等返済の予定表で元金部分が毎回一定であることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testEqualPrincipal_ConstantPrincipal() {
+        // Given
+        RepaymentSchedule schedule = RepaymentSchedule.equalPrincipal(PRINCIPAL, engine.monthlyRate(RATE), 420);
+
+        // When
+        Iterator<RepaymentScheduleEntry> iterator = schedule.iterator();
+        RepaymentScheduleEntry first = iterator.next();
+        RepaymentScheduleEntry second = iterator.next();
+
+        // Then
+        assertEquals(first.getPrincipalAmount(), second.getPrincipalAmount());
+        assertTrue(first.getInterestAmount().compareTo(second.getInterestAmount()) > 0);
+        assertEquals(0, schedule.stream().reduce((a, b) -> b).get().getRemainingBalance().signum());
+    }
+
+    /**
+     * 予定表を複数回反復できることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testIterator_Repeatable() {
+        // Given
+        RepaymentSchedule schedule = RepaymentSchedule.equalPrincipal(PRINCIPAL, engine.monthlyRate(RATE), 12);
+
+        // Then
+        assertEquals(12, schedule.stream().count());
+        assertEquals(12, schedule.stream().count());
+    }
+}
@@ -0,0 +1,258 @@
+package com.mortgage.catalog;
+
+import com.mortgage.dao.LoanDao;
+import com.mortgage.model.LoanProduct;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ProductCatalogクラスのユニットテスト
+ * IDEで▷ボタンをクリックして個別のテストメソッドを実行できます
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ProductCatalogTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 4, 1, 9, 0);
+
+    @Mock
+    private LoanDao loanDao;
+
+    @Mock
+    private CatalogListener listener;
+
+    @InjectMocks
+    private ProductCatalog productCatalog;
+
+    private LoanProduct testProduct;
+
+    @Before
+    public void setUp() {
+        testProduct = new LoanProduct("FIXED_001", "固定金利プランA", "FIXED",
+                new BigDecimal("0.85"), 100, 5000, 10, 35);
+        ReflectionTestUtils.setField(productCatalog, "listeners", Collections.singletonList(listener));
+        ReflectionTestUtils.setField(productCatalog, "refreshIntervalMillis", 0L);
+
+        when(loanDao.getLoanProductsLastUpdated()).thenReturn(UPDATED_AT);
+        when(loanDao.getAllLoanProducts()).thenReturn(Arrays.asList(testProduct));
+    }
+
+    /**
+     * 初回参照時に商品を読み込み、リスナーに通知することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testSnapshot_InitialLoad() {
+        // When
+        LoanProduct result = productCatalog.getProduct("FIXED_001");
+
+        // Then
+        assertSame(testProduct, result);
+        verify(loanDao, times(1)).getAllLoanProducts();
+        verify(listener, times(1)).onCatalogChanged(any(CatalogSnapshot.class));
+    }
+
+    /**
+     * 更新日時が変わらない限り商品を読み直さないことのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testSnapshot_UnchangedHighWaterMark() {
+        // When
+        CatalogSnapshot first = productCatalog.snapshot();
+        CatalogSnapshot second = productCatalog.snapshot();
+
+        // Then
+        assertSame(first, second);
+        verify(loanDao, times(1)).getAllLoanProducts();
+    }
+
+    /**
+     * 更新日時が変わった場合に新しいスナップショットへ差し替えることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testSnapshot_ChangedHighWaterMark() {
+        // Given
+        CatalogSnapshot first = productCatalog.snapshot();
+        when(loanDao.getLoanProductsLastUpdated()).thenReturn(UPDATED_AT.plusMinutes(1));
+
+        // When
+        CatalogSnapshot second = productCatalog.snapshot();
+
+        // Then
+        assertNotSame(first, second);
+        assertEquals(first.getVersion() + 1, second.getVersion());
+        verify(loanDao, times(2)).getAllLoanProducts();
+    }
+
+    /**
+     * 手動の無効化で商品を読み直すことのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testInvalidate_ForcesReload() {
+        // Given
+        ReflectionTestUtils.setField(productCatalog, "refreshIntervalMillis", 60000L);
+        productCatalog.snapshot();
+
+        // When
+        productCatalog.invalidate();
+        productCatalog.snapshot();
+
+        // Then
+        verify(loanDao, times(2)).getAllLoanProducts();
+    }
+
+    /**
+     * 更新確認に失敗しても現在のスナップショットを返すことのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testSnapshot_CheckFailureKeepsSnapshot() {
+        // Given
+        CatalogSnapshot first = productCatalog.snapshot();
+        when(loanDao.getLoanProductsLastUpdated()).thenThrow(new RuntimeException("DB error"));
+
+        // When
+        CatalogSnapshot second = productCatalog.snapshot();
+
+        // Then
+        assertSame(first, second);
+    }
+
+    /**
+     * カタログバージョンが変わった場合に新しいスナップショットへ差し替えることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testSnapshot_ChangedCatalogVersion() {
+        // Given
+        when(loanDao.getCatalogVersion()).thenReturn(1L);
+        CatalogSnapshot first = productCatalog.snapshot();
+        when(loanDao.getCatalogVersion()).thenReturn(2L);
+
+        // When
+        CatalogSnapshot second = productCatalog.snapshot();
+
+        // Then
+        assertNotSame(first, second);
+        assertEquals(2L, second.getCatalogVersion());
+        verify(loanDao, times(2)).getAllLoanProducts();
+    }
+
+    /**
+     * 派生データを公開前に作成し、スナップショットに持たせることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testRefresh_AttachesPreparedDataBeforePublishing() {
+        // Given
+        ReflectionTestUtils.setField(productCatalog, "refreshIntervalMillis", 60000L);
+        CatalogSnapshot first = productCatalog.snapshot();
+        Object prepared = new Object();
+        when(listener.prepare(any(CatalogSnapshot.class))).thenAnswer(invocation -> {
+            // 作成中は前のスナップショットが公開されたまま
+            assertSame(first, ReflectionTestUtils.getField(productCatalog, "snapshot"));
+            return prepared;
+        });
+        when(loanDao.getCatalogVersion()).thenReturn(2L);
+
+        // When
+        productCatalog.refresh(2L);
+
+        // Then
+        CatalogSnapshot second = productCatalog.snapshot();
+        assertNotSame(first, second);
+        assertSame(prepared, second.getDerived(listener));
+        verify(listener).onCatalogChanged(second);
+    }
+
+    /**
+     * 指定したバージョンを公開済みの場合は読み直さないことのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testRefresh_AlreadyPublished() {
+        // Given
+        ReflectionTestUtils.setField(productCatalog, "refreshIntervalMillis", 60000L);
+        when(loanDao.getCatalogVersion()).thenReturn(3L);
+        productCatalog.snapshot();
+
+        // When
+        productCatalog.refresh(2L);
+
+        // Then
+        verify(loanDao, times(1)).getAllLoanProducts();
+    }
+
+    /**
+     * 遅延したレプリカのように公開済みより古いカタログバージョンが読まれても、古い金利で差し替えないことのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testSnapshot_OlderCatalogVersionNotPublished() {
+        // Given
+        when(loanDao.getCatalogVersion()).thenReturn(2L);
+        CatalogSnapshot published = productCatalog.snapshot();
+        LoanProduct oldRate = new LoanProduct("FIXED_001", "固定金利プランA", "FIXED",
+                new BigDecimal("0.80"), 100, 5000, 10, 35);
+        when(loanDao.getCatalogVersion()).thenReturn(1L);
+        when(loanDao.getLoanProductsLastUpdated()).thenReturn(UPDATED_AT.minusMinutes(1));
+        when(loanDao.getAllLoanProducts()).thenReturn(Arrays.asList(oldRate));
+
+        // When
+        CatalogSnapshot current = productCatalog.snapshot();
+
+        // Then
+        assertSame(published, current);
+        assertEquals(2L, current.getCatalogVersion());
+        assertEquals(new BigDecimal("0.85"), productCatalog.getProduct("FIXED_001").getCurrentInterestRate());
+        verify(listener, times(1)).onCatalogChanged(any(CatalogSnapshot.class));
+    }
+
+    /**
+     * 更新確認と読み込みを新しい読み書きトランザクション（プライマリ）で行うことのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testSnapshot_ReadsInNewReadWriteTransaction() {
+        // Given
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        TransactionStatus status = mock(TransactionStatus.class);
+        when(transactionManager.getTransaction(any(TransactionDefinition.class))).thenReturn(status);
+        ReflectionTestUtils.setField(productCatalog, "transactionManager", transactionManager);
+        productCatalog.init();
+
+        // When
+        productCatalog.snapshot();
+        productCatalog.snapshot();
+
+        // Then
+        InOrder inOrder = inOrder(transactionManager, loanDao);
+        inOrder.verify(transactionManager).getTransaction(argThat((TransactionDefinition definition) ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW
+                        && !definition.isReadOnly()));
+        inOrder.verify(loanDao).getAllLoanProducts();
+        inOrder.verify(transactionManager).commit(status);
+        inOrder.verify(transactionManager).getTransaction(any(TransactionDefinition.class));
+        inOrder.verify(loanDao).getCatalogVersion();
+        inOrder.verify(transactionManager).commit(status);
+    }
+}
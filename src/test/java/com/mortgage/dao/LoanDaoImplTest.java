@@ -1,19 +1,30 @@
 package com.mortgage.dao;
 
+import com.mortgage.dao.impl.LoanDaoImpl;
 import com.mortgage.model.LoanProduct;
 import com.mortgage.model.LoanEstimate;
 import com.mortgage.model.LoanApplication;
+import com.mortgage.model.LoanApplicationStatus;
+import com.mortgage.model.LoanApplicationSummary;
+import com.mortgage.model.ReviewUpdate;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
@@ -45,25 +56,25 @@ public class LoanDaoImplTest {
         testProduct.setProductId("PROD001");
         testProduct.setProductName("固定金利住宅ローン");
         testProduct.setProductType("FIXED");
-        testProduct.setCurrentInterestRate(1.5);
+        testProduct.setCurrentInterestRate(new BigDecimal("1.5"));
         testProduct.setMinLoanAmount(1000);
         testProduct.setMaxLoanAmount(5000);
         testProduct.setMinLoanTerm(10);
         testProduct.setMaxLoanTerm(35);
         testProduct.setRepaymentMethod("EQUAL_PAYMENT");
-        testProduct.setIsActive(true);
+        testProduct.setActive(true);
 
         // テスト用の見積もりデータ
         testEstimate = new LoanEstimate();
         testEstimate.setEstimateId("EST001");
         testEstimate.setProductId("PROD001");
         testEstimate.setProductName("固定金利住宅ローン");
-        testEstimate.setLoanAmount(3000);
+        testEstimate.setLoanAmount(new BigDecimal("3000"));
         testEstimate.setLoanTerm(30);
-        testEstimate.setInterestRate(1.5);
-        testEstimate.setMonthlyPayment(10350);
-        testEstimate.setTotalPayment(3726000);
-        testEstimate.setTotalInterest(726000);
+        testEstimate.setInterestRate(new BigDecimal("1.5"));
+        testEstimate.setMonthlyPayment(new BigDecimal("10350"));
+        testEstimate.setTotalPayment(new BigDecimal("3726000"));
+        testEstimate.setTotalInterest(new BigDecimal("726000"));
 
         // テスト用の申し込みデータ
         testApplication = new LoanApplication();
@@ -73,15 +84,15 @@ public class LoanDaoImplTest {
         testApplication.setCustomerPhone("090-1234-5678");
         testApplication.setProductId("PROD001");
         testApplication.setProductName("固定金利住宅ローン");
-        testApplication.setLoanAmount(3000);
+        testApplication.setLoanAmount(new BigDecimal("3000"));
         testApplication.setLoanTerm(30);
-        testApplication.setInterestRate(1.5);
-        testApplication.setMonthlyPayment(10350);
+        testApplication.setInterestRate(new BigDecimal("1.5"));
+        testApplication.setMonthlyPayment(new BigDecimal("10350"));
         testApplication.setPropertyAddress("東京都渋谷区1-1-1");
         testApplication.setPropertyType("DETACHED");
-        testApplication.setPropertyValue(4000);
+        testApplication.setPropertyValue(new BigDecimal("4000"));
         testApplication.setEmploymentType("SALARIED");
-        testApplication.setAnnualIncome(600);
+        testApplication.setAnnualIncome(new BigDecimal("600"));
         testApplication.setBankAccountNumber("1234567890");
         testApplication.setBankName("テスト銀行");
         testApplication.setBranchName("渋谷支店");
@@ -93,22 +104,20 @@ public class LoanDaoImplTest {
      * ▷ボタンで実行可能
      */
     @Test
-    public void testGetAllProducts_Success() {
+    public void testGetAllLoanProducts_Success() {
         // Given
-        when(sqlSessionFactory.openSession()).thenReturn(sqlSession);
-        when(sqlSession.selectList("LoanProductMapper.selectAll")).thenReturn(Arrays.asList(testProduct));
-        doNothing().when(sqlSession).close();
+        when(sqlSession.<LoanProduct>selectList("LoanMapper.getAllLoanProducts"))
+                .thenReturn(Arrays.asList(testProduct));
 
         // When
-        List<LoanProduct> result = loanDao.getAllProducts();
+        List<LoanProduct> result = loanDao.getAllLoanProducts();
 
         // Then
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals("PROD001", result.get(0).getProductId());
-        verify(sqlSessionFactory, times(1)).openSession();
-        verify(sqlSession, times(1)).selectList("LoanProductMapper.selectAll");
-        verify(sqlSession, times(1)).close();
+        verify(sqlSession, times(1)).selectList("LoanMapper.getAllLoanProducts");
+        verifyNoInteractions(sqlSessionFactory);
     }
 
     /**
@@ -116,21 +125,17 @@ public class LoanDaoImplTest {
      * ▷ボタンで実行可能
      */
     @Test
-    public void testGetAllProducts_EmptyList() {
+    public void testGetAllLoanProducts_EmptyList() {
         // Given
-        when(sqlSessionFactory.openSession()).thenReturn(sqlSession);
-        when(sqlSession.selectList("LoanProductMapper.selectAll")).thenReturn(Arrays.asList());
-        doNothing().when(sqlSession).close();
+        when(sqlSession.<LoanProduct>selectList("LoanMapper.getAllLoanProducts")).thenReturn(Arrays.asList());
 
         // When
-        List<LoanProduct> result = loanDao.getAllProducts();
+        List<LoanProduct> result = loanDao.getAllLoanProducts();
 
         // Then
         assertNotNull(result);
         assertEquals(0, result.size());
-        verify(sqlSessionFactory, times(1)).openSession();
-        verify(sqlSession, times(1)).selectList("LoanProductMapper.selectAll");
-        verify(sqlSession, times(1)).close();
+        verify(sqlSession, times(1)).selectList("LoanMapper.getAllLoanProducts");
     }
 
     /**
@@ -138,19 +143,16 @@ public class LoanDaoImplTest {
      * ▷ボタンで実行可能
      */
     @Test
-    public void testGetAllProducts_Exception() {
+    public void testGetAllLoanProducts_Exception() {
         // Given
-        when(sqlSessionFactory.openSession()).thenReturn(sqlSession);
-        when(sqlSession.selectList("LoanProductMapper.selectAll")).thenThrow(new RuntimeException("Database error"));
-        doNothing().when(sqlSession).close();
+        when(sqlSession.<LoanProduct>selectList("LoanMapper.getAllLoanProducts"))
+                .thenThrow(new RuntimeException("Database error"));
 
         // When & Then
         assertThrows(RuntimeException.class, () -> {
-            loanDao.getAllProducts();
+            loanDao.getAllLoanProducts();
         });
-        verify(sqlSessionFactory, times(1)).openSession();
-        verify(sqlSession, times(1)).selectList("LoanProductMapper.selectAll");
-        verify(sqlSession, times(1)).close();
+        verify(sqlSession, times(1)).selectList("LoanMapper.getAllLoanProducts");
     }
 
     /**
@@ -158,22 +160,18 @@ public class LoanDaoImplTest {
      * ▷ボタンで実行可能
      */
     @Test
-    public void testGetProductById_Success() {
+    public void testGetLoanProductById_Success() {
         // Given
-        when(sqlSessionFactory.openSession()).thenReturn(sqlSession);
-        when(sqlSession.selectOne("LoanProductMapper.selectById", "PROD001")).thenReturn(testProduct);
-        doNothing().when(sqlSession).close();
+        when(sqlSession.selectOne("LoanMapper.getLoanProductById", "PROD001")).thenReturn(testProduct);
 
         // When
-        LoanProduct result = loanDao.getProductById("PROD001");
+        LoanProduct result = loanDao.getLoanProductById("PROD001");
 
         // Then
         assertNotNull(result);
         assertEquals("PROD001", result.getProductId());
         assertEquals("固定金利住宅ローン", result.getProductName());
-        verify(sqlSessionFactory, times(1)).openSession();
-        verify(sqlSession, times(1)).selectOne("LoanProductMapper.selectById", "PROD001");
-        verify(sqlSession, times(1)).close();
+        verify(sqlSession, times(1)).selectOne("LoanMapper.getLoanProductById", "PROD001");
     }
 
     /**
@@ -181,20 +179,16 @@ public class LoanDaoImplTest {
      * ▷ボタンで実行可能
      */
     @Test
-    public void testGetProductById_NotFound() {
+    public void testGetLoanProductById_NotFound() {
         // Given
-        when(sqlSessionFactory.openSession()).thenReturn(sqlSession);
-        when(sqlSession.selectOne("LoanProductMapper.selectById", "INVALID")).thenReturn(null);
-        doNothing().when(sqlSession).close();
+        when(sqlSession.selectOne("LoanMapper.getLoanProductById", "INVALID")).thenReturn(null);
 
         // When
-        LoanProduct result = loanDao.getProductById("INVALID");
+        LoanProduct result = loanDao.getLoanProductById("INVALID");
 
         // Then
         assertNull(result);
-        verify(sqlSessionFactory, times(1)).openSession();
-        verify(sqlSession, times(1)).selectOne("LoanProductMapper.selectById", "INVALID");
-        verify(sqlSession, times(1)).close();
+        verify(sqlSession, times(1)).selectOne("LoanMapper.getLoanProductById", "INVALID");
     }
 
     /**
@@ -204,21 +198,15 @@ public class LoanDaoImplTest {
     @Test
     public void testSaveEstimate_Success() {
         // Given
-        when(sqlSessionFactory.openSession()).thenReturn(sqlSession);
-        when(sqlSession.insert("LoanEstimateMapper.insert", testEstimate)).thenReturn(1);
-        doNothing().when(sqlSession).commit();
-        doNothing().when(sqlSession).close();
+        when(sqlSession.insert("LoanMapper.saveEstimate", testEstimate)).thenReturn(1);
 
         // When
-        LoanEstimate result = loanDao.saveEstimate(testEstimate);
+        loanDao.saveEstimate(testEstimate);
 
         // Then
-        assertNotNull(result);
-        assertEquals("EST001", result.getEstimateId());
-        verify(sqlSessionFactory, times(1)).openSession();
-        verify(sqlSession, times(1)).insert("LoanEstimateMapper.insert", testEstimate);
-        verify(sqlSession, times(1)).commit();
-        verify(sqlSession, times(1)).close();
+        verify(sqlSession, times(1)).insert("LoanMapper.saveEstimate", testEstimate);
+        verify(sqlSession, never()).commit();
+        verifyNoInteractions(sqlSessionFactory);
     }
 
     /**
@@ -228,19 +216,14 @@ public class LoanDaoImplTest {
     @Test
     public void testSaveEstimate_InsertFailure() {
         // Given
-        when(sqlSessionFactory.openSession()).thenReturn(sqlSession);
-        when(sqlSession.insert("LoanEstimateMapper.insert", testEstimate)).thenReturn(0);
-        doNothing().when(sqlSession).rollback();
-        doNothing().when(sqlSession).close();
+        when(sqlSession.insert("LoanMapper.saveEstimate", testEstimate))
+                .thenThrow(new RuntimeException("Database error"));
 
         // When & Then
         assertThrows(RuntimeException.class, () -> {
             loanDao.saveEstimate(testEstimate);
         });
-        verify(sqlSessionFactory, times(1)).openSession();
-        verify(sqlSession, times(1)).insert("LoanEstimateMapper.insert", testEstimate);
-        verify(sqlSession, times(1)).rollback();
-        verify(sqlSession, times(1)).close();
+        verify(sqlSession, times(1)).insert("LoanMapper.saveEstimate", testEstimate);
     }
 
     /**
@@ -250,9 +233,7 @@ public class LoanDaoImplTest {
     @Test
     public void testGetEstimateById_Success() {
         // Given
-        when(sqlSessionFactory.openSession()).thenReturn(sqlSession);
-        when(sqlSession.selectOne("LoanEstimateMapper.selectById", "EST001")).thenReturn(testEstimate);
-        doNothing().when(sqlSession).close();
+        when(sqlSession.selectOne("LoanMapper.getEstimateById", "EST001")).thenReturn(testEstimate);
 
         // When
         LoanEstimate result = loanDao.getEstimateById("EST001");
@@ -261,9 +242,7 @@ public class LoanDaoImplTest {
         assertNotNull(result);
         assertEquals("EST001", result.getEstimateId());
         assertEquals("PROD001", result.getProductId());
-        verify(sqlSessionFactory, times(1)).openSession();
-        verify(sqlSession, times(1)).selectOne("LoanEstimateMapper.selectById", "EST001");
-        verify(sqlSession, times(1)).close();
+        verify(sqlSession, times(1)).selectOne("LoanMapper.getEstimateById", "EST001");
     }
 
     /**
@@ -273,18 +252,14 @@ public class LoanDaoImplTest {
     @Test
     public void testGetEstimateById_NotFound() {
         // Given
-        when(sqlSessionFactory.openSession()).thenReturn(sqlSession);
-        when(sqlSession.selectOne("LoanEstimateMapper.selectById", "INVALID")).thenReturn(null);
-        doNothing().when(sqlSession).close();
+        when(sqlSession.selectOne("LoanMapper.getEstimateById", "INVALID")).thenReturn(null);
 
         // When
         LoanEstimate result = loanDao.getEstimateById("INVALID");
 
         // Then
         assertNull(result);
-        verify(sqlSessionFactory, times(1)).openSession();
-        verify(sqlSession, times(1)).selectOne("LoanEstimateMapper.selectById", "INVALID");
-        verify(sqlSession, times(1)).close();
+        verify(sqlSession, times(1)).selectOne("LoanMapper.getEstimateById", "INVALID");
     }
 
     /**
@@ -294,22 +269,14 @@ public class LoanDaoImplTest {
     @Test
     public void testSaveApplication_Success() {
         // Given
-        when(sqlSessionFactory.openSession()).thenReturn(sqlSession);
-        when(sqlSession.insert("LoanApplicationMapper.insert", testApplication)).thenReturn(1);
-        doNothing().when(sqlSession).commit();
-        doNothing().when(sqlSession).close();
+        when(sqlSession.insert("LoanMapper.saveApplication", testApplication)).thenReturn(1);
 
         // When
-        LoanApplication result = loanDao.saveApplication(testApplication);
+        loanDao.saveApplication(testApplication);
 
         // Then
-        assertNotNull(result);
-        assertEquals("APP001", result.getApplicationId());
-        assertEquals("PENDING", result.getApplicationStatus());
-        verify(sqlSessionFactory, times(1)).openSession();
-        verify(sqlSession, times(1)).insert("LoanApplicationMapper.insert", testApplication);
-        verify(sqlSession, times(1)).commit();
-        verify(sqlSession, times(1)).close();
+        verify(sqlSession, times(1)).insert("LoanMapper.saveApplication", testApplication);
+        verify(sqlSession, never()).commit();
     }
 
     /**
@@ -319,19 +286,14 @@ public class LoanDaoImplTest {
     @Test
     public void testSaveApplication_InsertFailure() {
         // Given
-        when(sqlSessionFactory.openSession()).thenReturn(sqlSession);
-        when(sqlSession.insert("LoanApplicationMapper.insert", testApplication)).thenReturn(0);
-        doNothing().when(sqlSession).rollback();
-        doNothing().when(sqlSession).close();
+        when(sqlSession.insert("LoanMapper.saveApplication", testApplication))
+                .thenThrow(new RuntimeException("Database error"));
 
         // When & Then
         assertThrows(RuntimeException.class, () -> {
             loanDao.saveApplication(testApplication);
         });
-        verify(sqlSessionFactory, times(1)).openSession();
-        verify(sqlSession, times(1)).insert("LoanApplicationMapper.insert", testApplication);
-        verify(sqlSession, times(1)).rollback();
-        verify(sqlSession, times(1)).close();
+        verify(sqlSession, times(1)).insert("LoanMapper.saveApplication", testApplication);
     }
 
     /**
@@ -341,9 +303,7 @@ public class LoanDaoImplTest {
     @Test
     public void testGetApplicationById_Success() {
         // Given
-        when(sqlSessionFactory.openSession()).thenReturn(sqlSession);
-        when(sqlSession.selectOne("LoanApplicationMapper.selectById", "APP001")).thenReturn(testApplication);
-        doNothing().when(sqlSession).close();
+        when(sqlSession.selectOne("LoanMapper.getApplicationById", "APP001")).thenReturn(testApplication);
 
         // When
         LoanApplication result = loanDao.getApplicationById("APP001");
@@ -352,9 +312,7 @@ public class LoanDaoImplTest {
         assertNotNull(result);
         assertEquals("APP001", result.getApplicationId());
         assertEquals("田中太郎", result.getCustomerName());
-        verify(sqlSessionFactory, times(1)).openSession();
-        verify(sqlSession, times(1)).selectOne("LoanApplicationMapper.selectById", "APP001");
-        verify(sqlSession, times(1)).close();
+        verify(sqlSession, times(1)).selectOne("LoanMapper.getApplicationById", "APP001");
     }
 
     /**
@@ -364,18 +322,14 @@ public class LoanDaoImplTest {
     @Test
     public void testGetApplicationById_NotFound() {
         // Given
-        when(sqlSessionFactory.openSession()).thenReturn(sqlSession);
-        when(sqlSession.selectOne("LoanApplicationMapper.selectById", "INVALID")).thenReturn(null);
-        doNothing().when(sqlSession).close();
+        when(sqlSession.selectOne("LoanMapper.getApplicationById", "INVALID")).thenReturn(null);
 
         // When
         LoanApplication result = loanDao.getApplicationById("INVALID");
 
         // Then
         assertNull(result);
-        verify(sqlSessionFactory, times(1)).openSession();
-        verify(sqlSession, times(1)).selectOne("LoanApplicationMapper.selectById", "INVALID");
-        verify(sqlSession, times(1)).close();
+        verify(sqlSession, times(1)).selectOne("LoanMapper.getApplicationById", "INVALID");
     }
 
     /**
@@ -385,10 +339,8 @@ public class LoanDaoImplTest {
     @Test
     public void testGetApplicationsByCustomerId_Success() {
         // Given
-        when(sqlSessionFactory.openSession()).thenReturn(sqlSession);
-        when(sqlSession.selectList("LoanApplicationMapper.selectByCustomerId", "CUST001"))
+        when(sqlSession.<LoanApplication>selectList("LoanMapper.getApplicationsByCustomerId", "CUST001"))
                 .thenReturn(Arrays.asList(testApplication));
-        doNothing().when(sqlSession).close();
 
         // When
         List<LoanApplication> result = loanDao.getApplicationsByCustomerId("CUST001");
@@ -397,9 +349,7 @@ public class LoanDaoImplTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals("APP001", result.get(0).getApplicationId());
-        verify(sqlSessionFactory, times(1)).openSession();
-        verify(sqlSession, times(1)).selectList("LoanApplicationMapper.selectByCustomerId", "CUST001");
-        verify(sqlSession, times(1)).close();
+        verify(sqlSession, times(1)).selectList("LoanMapper.getApplicationsByCustomerId", "CUST001");
     }
 
     /**
@@ -409,10 +359,8 @@ public class LoanDaoImplTest {
     @Test
     public void testGetApplicationsByCustomerId_EmptyList() {
         // Given
-        when(sqlSessionFactory.openSession()).thenReturn(sqlSession);
-        when(sqlSession.selectList("LoanApplicationMapper.selectByCustomerId", "CUST001"))
+        when(sqlSession.<LoanApplication>selectList("LoanMapper.getApplicationsByCustomerId", "CUST001"))
                 .thenReturn(Arrays.asList());
-        doNothing().when(sqlSession).close();
 
         // When
         List<LoanApplication> result = loanDao.getApplicationsByCustomerId("CUST001");
@@ -420,9 +368,7 @@ public class LoanDaoImplTest {
         // Then
         assertNotNull(result);
         assertEquals(0, result.size());
-        verify(sqlSessionFactory, times(1)).openSession();
-        verify(sqlSession, times(1)).selectList("LoanApplicationMapper.selectByCustomerId", "CUST001");
-        verify(sqlSession, times(1)).close();
+        verify(sqlSession, times(1)).selectList("LoanMapper.getApplicationsByCustomerId", "CUST001");
     }
 
     /**
@@ -432,19 +378,14 @@ public class LoanDaoImplTest {
     @Test
     public void testUpdateApplication_Success() {
         // Given
-        when(sqlSessionFactory.openSession()).thenReturn(sqlSession);
-        when(sqlSession.update("LoanApplicationMapper.update", testApplication)).thenReturn(1);
-        doNothing().when(sqlSession).commit();
-        doNothing().when(sqlSession).close();
+        when(sqlSession.update("LoanMapper.updateApplication", testApplication)).thenReturn(1);
 
         // When
         loanDao.updateApplication(testApplication);
 
         // Then
-        verify(sqlSessionFactory, times(1)).openSession();
-        verify(sqlSession, times(1)).update("LoanApplicationMapper.update", testApplication);
-        verify(sqlSession, times(1)).commit();
-        verify(sqlSession, times(1)).close();
+        verify(sqlSession, times(1)).update("LoanMapper.updateApplication", testApplication);
+        verify(sqlSession, never()).commit();
     }
 
     /**
@@ -454,64 +395,159 @@ public class LoanDaoImplTest {
     @Test
     public void testUpdateApplication_UpdateFailure() {
         // Given
-        when(sqlSessionFactory.openSession()).thenReturn(sqlSession);
-        when(sqlSession.update("LoanApplicationMapper.update", testApplication)).thenReturn(0);
-        doNothing().when(sqlSession).rollback();
-        doNothing().when(sqlSession).close();
+        when(sqlSession.update("LoanMapper.updateApplication", testApplication))
+                .thenThrow(new RuntimeException("Database error"));
 
         // When & Then
         assertThrows(RuntimeException.class, () -> {
             loanDao.updateApplication(testApplication);
         });
-        verify(sqlSessionFactory, times(1)).openSession();
-        verify(sqlSession, times(1)).update("LoanApplicationMapper.update", testApplication);
-        verify(sqlSession, times(1)).rollback();
-        verify(sqlSession, times(1)).close();
+        verify(sqlSession, times(1)).update("LoanMapper.updateApplication", testApplication);
+    }
+
+    /**
+     * 審査結果の更新件数を返すことのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testUpdateReviewResult_ReturnsUpdatedCount() {
+        // Given
+        ReviewUpdate update = new ReviewUpdate(testApplication, "PENDING");
+        when(sqlSession.update("LoanMapper.updateReviewResult", update)).thenReturn(0);
+
+        // When
+        int result = loanDao.updateReviewResult(update);
+
+        // Then
+        assertEquals(0, result);
+        verify(sqlSession, never()).update(eq("LoanMapper.updateApplication"), any());
+        verifyNoInteractions(sqlSessionFactory);
     }
 
     /**
-     * 全申し込み取得の正常系テスト
+     * 申し込み状況による申し込み一覧取得の正常系テスト
      * ▷ボタンで実行可能
      */
     @Test
-    public void testGetAllApplications_Success() {
+    public void testGetApplicationsByStatus_Success() {
         // Given
-        when(sqlSessionFactory.openSession()).thenReturn(sqlSession);
-        when(sqlSession.selectList("LoanApplicationMapper.selectAll"))
+        when(sqlSession.<LoanApplication>selectList("LoanMapper.getApplicationsByStatus", "PENDING"))
                 .thenReturn(Arrays.asList(testApplication));
-        doNothing().when(sqlSession).close();
 
         // When
-        List<LoanApplication> result = loanDao.getAllApplications();
+        List<LoanApplication> result = loanDao.getApplicationsByStatus("PENDING");
 
         // Then
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals("APP001", result.get(0).getApplicationId());
-        verify(sqlSessionFactory, times(1)).openSession();
-        verify(sqlSession, times(1)).selectList("LoanApplicationMapper.selectAll");
-        verify(sqlSession, times(1)).close();
+        verify(sqlSession, times(1)).selectList("LoanMapper.getApplicationsByStatus", "PENDING");
     }
 
     /**
-     * 全申し込み取得の空リストテスト
+     * 申し込み状況による申し込み一覧取得の空リストテスト
      * ▷ボタンで実行可能
      */
     @Test
-    public void testGetAllApplications_EmptyList() {
+    public void testGetApplicationsByStatus_EmptyList() {
         // Given
-        when(sqlSessionFactory.openSession()).thenReturn(sqlSession);
-        when(sqlSession.selectList("LoanApplicationMapper.selectAll")).thenReturn(Arrays.asList());
-        doNothing().when(sqlSession).close();
+        when(sqlSession.<LoanApplication>selectList("LoanMapper.getApplicationsByStatus", "PENDING"))
+                .thenReturn(Arrays.asList());
 
         // When
-        List<LoanApplication> result = loanDao.getAllApplications();
+        List<LoanApplication> result = loanDao.getApplicationsByStatus("PENDING");
 
         // Then
         assertNotNull(result);
         assertEquals(0, result.size());
-        verify(sqlSessionFactory, times(1)).openSession();
-        verify(sqlSession, times(1)).selectList("LoanApplicationMapper.selectAll");
-        verify(sqlSession, times(1)).close();
+        verify(sqlSession, times(1)).selectList("LoanMapper.getApplicationsByStatus", "PENDING");
+    }
+
+    /**
+     * 見積もり一括保存がBATCHセッションで行数ごとに分割して送信されることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testSaveEstimates_BatchInChunks() {
+        // Given
+        SqlSession batchSession = mock(SqlSession.class);
+        when(sqlSessionFactory.openSession(ExecutorType.BATCH)).thenReturn(batchSession);
+        List<LoanEstimate> estimates = new ArrayList<>();
+        // 200件ずつ分割されるため 200 + 200 + 1 の3文になる
+        for (int i = 0; i < 401; i++) {
+            estimates.add(new LoanEstimate());
+        }
+
+        // When
+        loanDao.saveEstimates(estimates);
+
+        // Then
+        verify(batchSession, times(3)).insert(eq("LoanMapper.saveEstimates"), any(List.class));
+        verify(batchSession, times(1)).flushStatements();
+        verify(batchSession, times(1)).close();
+        verify(sqlSession, never()).insert(anyString(), any());
+    }
+
+    /**
+     * 申し込み状況での申し込み一覧がCursorで取得されることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testOpenApplicationsByStatus_UsesCursor() {
+        // Given
+        Cursor<LoanApplicationSummary> cursor = mock(Cursor.class);
+        when(sqlSession.<LoanApplicationSummary>selectCursor("LoanMapper.streamApplicationsByStatus", "REJECTED"))
+                .thenReturn(cursor);
+
+        // When
+        Cursor<LoanApplicationSummary> result = loanDao.openApplicationsByStatus("REJECTED");
+
+        // Then
+        assertSame(cursor, result);
+        verify(sqlSession, never()).selectList(anyString(), any());
+    }
+
+    /**
+     * 申し込み状況での1ページ取得に開始位置と件数が渡されることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGetApplicationsByStatusPage_SeekParameters() {
+        // Given
+        LocalDateTime after = LocalDateTime.of(2024, 4, 1, 9, 0);
+        when(sqlSession.<LoanApplicationSummary>selectList(eq("LoanMapper.getApplicationsByStatusPage"), any()))
+                .thenReturn(Arrays.asList(new LoanApplicationSummary()));
+
+        // When
+        List<LoanApplicationSummary> result = loanDao.getApplicationsByStatusPage("APPROVED", after, "APP_2", 21);
+
+        // Then
+        assertEquals(1, result.size());
+        ArgumentCaptor<Map<String, Object>> params = ArgumentCaptor.forClass(Map.class);
+        verify(sqlSession).selectList(eq("LoanMapper.getApplicationsByStatusPage"), params.capture());
+        assertEquals("APPROVED", params.getValue().get("status"));
+        assertEquals(after, params.getValue().get("afterApplicationDate"));
+        assertEquals("APP_2", params.getValue().get("afterApplicationId"));
+        assertEquals(21, params.getValue().get("limit"));
+    }
+
+    /**
+     * 審査状況が審査状況用の射影クエリで取得されることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testGetApplicationStatusById_UsesProjection() {
+        // Given
+        LoanApplicationStatus status = new LoanApplicationStatus();
+        when(sqlSession.selectOne("LoanMapper.getApplicationStatusById", "APP001")).thenReturn(status);
+
+        // When
+        LoanApplicationStatus result = loanDao.getApplicationStatusById("APP001");
+
+        // Then
+        assertSame(status, result);
+        verify(sqlSession, never()).selectOne(eq("LoanMapper.getApplicationById"), any());
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,105 @@
+package com.mortgage.dao.datasource;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReadWriteRoutingDataSourceクラスのユニットテスト
+ * IDEで▷ボタンをクリックして個別のテストメソッドを実行できます
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ReadWriteRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    @After
+    public void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    /**
+     * 読み取り専用トランザクションではレプリカを使用することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testGetConnection_ReadOnlyUsesReplica() throws Exception {
+        // Given
+        ReadWriteRoutingDataSource dataSource = createDataSource(true);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        Connection result = dataSource.getConnection();
+
+        // Then
+        assertSame(replicaConnection, result);
+        verify(primary, never()).getConnection();
+    }
+
+    /**
+     * 更新系トランザクションではプライマリを使用することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testGetConnection_ReadWriteUsesPrimary() throws Exception {
+        // Given
+        ReadWriteRoutingDataSource dataSource = createDataSource(true);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // When
+        Connection result = dataSource.getConnection();
+
+        // Then
+        assertSame(primaryConnection, result);
+        verify(replica, never()).getConnection();
+    }
+
+    /**
+     * レプリカが無効な場合は読み取り専用でもプライマリを使用することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testGetConnection_ReplicaDisabledFallsBackToPrimary() throws Exception {
+        // Given
+        ReadWriteRoutingDataSource dataSource = createDataSource(false);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        Connection result = dataSource.getConnection();
+
+        // Then
+        assertSame(primaryConnection, result);
+        assertFalse(dataSource.isReplicaEnabled());
+        verify(replica, never()).getConnection();
+    }
+
+    private ReadWriteRoutingDataSource createDataSource(boolean replicaEnabled) {
+        ReadWriteRoutingDataSource dataSource = new ReadWriteRoutingDataSource();
+        dataSource.setPrimaryDataSource(primary);
+        dataSource.setReplicaDataSource(replica);
+        dataSource.setReplicaEnabled(replicaEnabled);
+        dataSource.afterPropertiesSet();
+        return dataSource;
+    }
+}
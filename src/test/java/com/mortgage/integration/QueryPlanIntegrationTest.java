@@ -0,0 +1,361 @@
+package com.mortgage.integration;
+
+import com.mortgage.model.LoanApplication;
+import com.mortgage.model.ReviewUpdate;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.Configuration;
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * LoanMapper の実行計画の統合テスト
+ * MySQL コンテナに init.sql のスキーマと件数のあるデータを投入し、
+ * 全ステートメントの EXPLAIN にフルスキャン（type=ALL / index）やファイルソート、
+ * インデックスを使っていても大量の行を読む計画が無いことを確認する
+ * Docker が使えない環境ではスキップする
+ * IDEで▷ボタンをクリックして個別のテストメソッドを実行できます
+ */
+public class QueryPlanIntegrationTest {
+
+    private static final int CUSTOMERS = 500;
+    private static final int APPLICATIONS = 20000;
+    private static final String[] STATUSES = {"APPROVED", "APPROVED", "APPROVED", "REJECTED", "REJECTED", "PENDING"};
+    private static final String[] PRODUCTS = {"FIXED_001", "FIXED_002", "VARIABLE_001", "VARIABLE_002", "MIXED_001"};
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    /**
+     * 設計上フルスキャンを許容するステートメントと理由
+     */
+    private static final Map<String, String> FULL_SCAN_ALLOWED = new HashMap<>();
+
+    /**
+     * 実行計画の1行あたりの推定読み取り行数の上限
+     * インデックスの先頭列しか使えずに範囲が広がった計画（キーセットの開始位置が範囲条件にならない場合など）を検出する
+     */
+    private static final long MAX_PLAN_ROWS = APPLICATIONS / 10;
+
+    /**
+     * 設計上、上限を超える行数を読むステートメントと理由
+     */
+    private static final Map<String, String> LARGE_RESULT_ALLOWED = new HashMap<>();
+
+    static {
+        FULL_SCAN_ALLOWED.put("getAllLoanProducts", "商品マスタは数件で、ProductCatalog が全件をキャッシュする");
+        // 再審査ジョブは対象状況の申し込みを主キー順に全件1回だけ読み、状況は行ごとに絞り込む。
+        // 主キーの範囲（afterApplicationId より後）の走査となるが、初回は範囲が全件となるため
+        // オプティマイザが type=ALL を選ぶことがある。チェックポイントから再開した場合は処理済みの範囲を読まない
+        FULL_SCAN_ALLOWED.put("selectApplicationsForReview", "再審査ジョブが対象状況の全申し込みを主キー順に1回だけ走査する");
+
+        LARGE_RESULT_ALLOWED.put("getApplicationsByStatus", "ページングしない一覧で、状況の全件を返す");
+        LARGE_RESULT_ALLOWED.put("streamApplicationsByStatus", "ストリーミングで状況の全件を1行ずつ返す");
+    }
+
+    private static MySQLContainer<?> mysql;
+    private static Configuration configuration;
+
+    @BeforeClass
+    public static void startDatabase() throws Exception {
+        Assume.assumeTrue("Docker が使えないためスキップします", DockerClientFactory.instance().isDockerAvailable());
+
+        mysql = new MySQLContainer<>("mysql:8.0")
+                .withDatabaseName("mortgage_loan")
+                .withInitScript("sql/init.sql");
+        mysql.start();
+
+        configuration = new Configuration();
+        configuration.setMapUnderscoreToCamelCase(true);
+        configuration.getTypeAliasRegistry().registerAliases("com.mortgage.model");
+        try (InputStream mapper = Resources.getResourceAsStream("mybatis/LoanMapper.xml")) {
+            new XMLMapperBuilder(mapper, configuration, "mybatis/LoanMapper.xml",
+                    configuration.getSqlFragments()).parse();
+        }
+
+        try (Connection connection = connect()) {
+            seed(connection);
+        }
+    }
+
+    @AfterClass
+    public static void stopDatabase() {
+        if (mysql != null) {
+            mysql.stop();
+        }
+    }
+
+    /**
+     * 全ステートメントの実行計画にフルスキャン・ファイルソート・大量の行の読み取りが無いことのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testExplain_NoFullScanOrFilesort() throws Exception {
+        // Given
+        Map<String, Object> parameters = sampleParameters();
+        Map<String, String> violations = new TreeMap<>();
+
+        // When
+        try (Connection connection = connect()) {
+            for (MappedStatement statement : explainableStatements()) {
+                String id = statement.getId().substring(statement.getId().lastIndexOf('.') + 1);
+                if (FULL_SCAN_ALLOWED.containsKey(id)) {
+                    continue;
+                }
+                if (!parameters.containsKey(id)) {
+                    violations.put(id, "サンプルパラメータが未登録です");
+                    continue;
+                }
+                String problem = explain(connection, statement, parameters.get(id),
+                        LARGE_RESULT_ALLOWED.containsKey(id));
+                if (problem != null) {
+                    violations.put(id, problem);
+                }
+            }
+        }
+
+        // Then
+        assertTrue("実行計画に問題のあるステートメントがあります: " + violations, violations.isEmpty());
+    }
+
+    /**
+     * 申し込み一覧のクエリがインデックスだけで返せることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testExplain_ApplicationListsUseCoveringIndex() throws Exception {
+        // Given
+        Map<String, Object> parameters = sampleParameters();
+
+        try (Connection connection = connect()) {
+            for (String id : Arrays.asList("getApplicationsByCustomerIdPage", "getApplicationsByStatusPage",
+                    "streamApplicationsByCustomerId", "streamApplicationsByStatus")) {
+                // When
+                List<Map<String, String>> plan = explainRows(connection,
+                        configuration.getMappedStatement("LoanMapper." + id), parameters.get(id));
+
+                // Then
+                assertEquals(id, 1, plan.size());
+                List<String> extra = Arrays.asList(plan.get(0).get("Extra").split("; "));
+                assertTrue(id + ": " + plan, extra.contains("Using index"));
+            }
+        }
+    }
+
+    /**
+     * 最後のページ付近のキーセットページングが、開始位置を範囲条件として使い残りの行だけを読むことのテスト
+     * 開始位置がインデックスの範囲条件にならない場合、等価条件の列だけで範囲が決まり、深いページほど多くの行を読む
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testExplain_DeepPageSeekUsesApplicationDateRange() throws Exception {
+        // Given
+        // 申し込み日時の降順で最後のページ付近（最も古い1日分より後）
+        LocalDateTime deepest = BASE_DATE.plusDays(1);
+        Map<String, Map<String, Object>> firstPages = new HashMap<>();
+        firstPages.put("getApplicationsByCustomerIdPage", pageParameters("customerId", customerId(42), null));
+        firstPages.put("getApplicationsByStatusPage", pageParameters("status", "APPROVED", null));
+
+        try (Connection connection = connect()) {
+            for (Map.Entry<String, Map<String, Object>> entry : firstPages.entrySet()) {
+                MappedStatement statement = configuration.getMappedStatement("LoanMapper." + entry.getKey());
+                Map<String, Object> deepPage = new HashMap<>(entry.getValue());
+                deepPage.put("afterApplicationDate", deepest);
+                deepPage.put("afterApplicationId", applicationId(0));
+
+                // When
+                Map<String, String> first = explainRows(connection, statement, entry.getValue()).get(0);
+                Map<String, String> deep = explainRows(connection, statement, deepPage).get(0);
+
+                // Then
+                String id = entry.getKey() + ": " + deep;
+                assertEquals(id, "range", deep.get("type"));
+                assertTrue(id, Integer.parseInt(deep.get("key_len")) > Integer.parseInt(first.get("key_len")));
+                assertTrue(id, Long.parseLong(deep.get("rows")) <= 5L * (Integer) deepPage.get("limit"));
+            }
+        }
+    }
+
+    /**
+     * ステートメントの実行計画を確認し、問題があれば内容を返す
+     */
+    private static String explain(Connection connection, MappedStatement statement, Object parameter,
+                                  boolean largeResultAllowed) throws Exception {
+        for (Map<String, String> row : explainRows(connection, statement, parameter)) {
+            String type = row.get("type");
+            String extra = row.get("Extra") == null ? "" : row.get("Extra");
+            if ("ALL".equals(type) || "index".equals(type)) {
+                return "フルスキャン: " + row;
+            }
+            if (extra.contains("Using filesort")) {
+                return "ファイルソート: " + row;
+            }
+            if (!largeResultAllowed && row.get("rows") != null && Long.parseLong(row.get("rows")) > MAX_PLAN_ROWS) {
+                return "読み取り行数が多い: " + row;
+            }
+        }
+        return null;
+    }
+
+    private static List<Map<String, String>> explainRows(Connection connection, MappedStatement statement,
+                                                         Object parameter) throws Exception {
+        BoundSql boundSql = statement.getBoundSql(parameter);
+        List<Map<String, String>> rows = new ArrayList<>();
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + boundSql.getSql())) {
+            new DefaultParameterHandler(statement, parameter, boundSql).setParameters(explain);
+            try (ResultSet rs = explain.executeQuery()) {
+                while (rs.next()) {
+                    Map<String, String> row = new HashMap<>();
+                    for (String column : Arrays.asList("table", "type", "key", "key_len", "rows", "Extra")) {
+                        row.put(column, rs.getString(column));
+                    }
+                    rows.add(row);
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * EXPLAIN の対象となる SELECT / UPDATE / DELETE のステートメント
+     */
+    private static List<MappedStatement> explainableStatements() {
+        // getMappedStatements() は完全名と短縮名の両方で同じステートメントを返すため重複を除く
+        Set<MappedStatement> unique = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Object value : configuration.getMappedStatements()) {
+            if (value instanceof MappedStatement) {
+                MappedStatement statement = (MappedStatement) value;
+                SqlCommandType type = statement.getSqlCommandType();
+                if (type == SqlCommandType.SELECT || type == SqlCommandType.UPDATE
+                        || type == SqlCommandType.DELETE) {
+                    unique.add(statement);
+                }
+            }
+        }
+        return new ArrayList<>(unique);
+    }
+
+    /**
+     * ステートメントごとの代表的なパラメータ
+     * ステートメントを追加した場合はここに登録する。
+     */
+    private static Map<String, Object> sampleParameters() {
+        LocalDateTime after = BASE_DATE.plusDays(200);
+        // キーセットページングは最後のページ付近を指定し、開始位置が範囲条件になっていなければ行数で検出する
+        LocalDateTime deepPage = BASE_DATE.plusDays(1);
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("getLoanProductById", "FIXED_001");
+        parameters.put("getLoanProductsLastUpdated", null);
+        parameters.put("getCatalogVersion", null);
+        parameters.put("incrementCatalogVersion", null);
+        Map<String, Object> rate = new HashMap<>();
+        rate.put("productId", "FIXED_001");
+        rate.put("interestRate", new BigDecimal("0.90"));
+        parameters.put("updateProductRate", rate);
+        parameters.put("getEstimateById", "EST_00000001");
+        parameters.put("getApplicationById", applicationId(100));
+        parameters.put("getApplicationStatusById", applicationId(100));
+        parameters.put("getApplicationsByCustomerId", customerId(42));
+        parameters.put("getApplicationsByStatus", "PENDING");
+        parameters.put("getApplicationsByCustomerIdPage", pageParameters("customerId", customerId(42), deepPage));
+        parameters.put("getApplicationsByStatusPage", pageParameters("status", "APPROVED", deepPage));
+        parameters.put("streamApplicationsByCustomerId", customerId(42));
+        parameters.put("streamApplicationsByStatus", "APPROVED");
+        parameters.put("getReviewJobCheckpoint", "re-review");
+
+        LoanApplication application = new LoanApplication();
+        application.setApplicationId(applicationId(100));
+        application.setApplicationStatus("APPROVED");
+        application.setUpdatedAt(after);
+        parameters.put("updateApplication", application);
+        parameters.put("updateReviewResult", new ReviewUpdate(application, "PENDING"));
+        return parameters;
+    }
+
+    private static Map<String, Object> pageParameters(String key, String value, LocalDateTime after) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(key, value);
+        parameters.put("afterApplicationDate", after);
+        parameters.put("afterApplicationId", applicationId(0));
+        parameters.put("limit", 21);
+        return parameters;
+    }
+
+    /**
+     * 顧客・状況・申し込み日時が分散した申し込みを投入し、統計情報を更新
+     */
+    private static void seed(Connection connection) throws Exception {
+        connection.setAutoCommit(false);
+        String sql = "INSERT INTO loan_applications (application_id, customer_id, customer_name, customer_email,"
+                + " product_id, product_name, loan_amount, loan_term, application_status, application_date,"
+                + " approval_date, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement insert = connection.prepareStatement(sql)) {
+            for (int i = 0; i < APPLICATIONS; i++) {
+                String status = STATUSES[i % STATUSES.length];
+                Timestamp applicationDate = Timestamp.valueOf(BASE_DATE.plusMinutes(i * 37L));
+                insert.setString(1, applicationId(i));
+                insert.setString(2, customerId(i % CUSTOMERS));
+                insert.setString(3, "顧客" + i);
+                insert.setString(4, "customer" + i + "@example.com");
+                insert.setString(5, PRODUCTS[i % PRODUCTS.length]);
+                insert.setString(6, PRODUCTS[i % PRODUCTS.length]);
+                insert.setInt(7, 1000 + i % 4000);
+                insert.setInt(8, 35);
+                insert.setString(9, status);
+                insert.setTimestamp(10, applicationDate);
+                insert.setTimestamp(11, "APPROVED".equals(status) ? applicationDate : null);
+                insert.setTimestamp(12, applicationDate);
+                insert.setTimestamp(13, applicationDate);
+                insert.addBatch();
+                if (i % 1000 == 999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE loan_applications, loan_products, loan_estimates");
+        }
+    }
+
+    private static Connection connect() throws Exception {
+        return mysql.createConnection("?rewriteBatchedStatements=true");
+    }
+
+    private static String applicationId(int i) {
+        return String.format("APP_%08d", i);
+    }
+
+    private static String customerId(int i) {
+        return String.format("CUST_%04d", i);
+    }
+}
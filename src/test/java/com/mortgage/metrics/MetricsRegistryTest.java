@@ -0,0 +1,132 @@
+package com.mortgage.metrics;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * MetricsRegistryクラスのユニットテスト
+ * IDEで▷ボタンをクリックして個別のテストメソッドを実行できます
+ */
+public class MetricsRegistryTest {
+
+    private MetricsRegistry registry;
+
+    @Before
+    public void setUp() {
+        registry = new MetricsRegistry();
+    }
+
+    /**
+     * 同じ名前とラベルには同じ Timer を返すことのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testTimer_SameInstanceForSameLabels() {
+        // When
+        Timer first = registry.timer("loan_service", "処理時間", "method", "calculateEstimate");
+        Timer second = registry.timer("loan_service", "処理時間", "method", "calculateEstimate");
+        Timer other = registry.timer("loan_service", "処理時間", "method", "submitApplication");
+
+        // Then
+        assertSame(first, second);
+        assertNotSame(first, other);
+    }
+
+    /**
+     * 処理時間を区間の上限以下の区間に数えることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testTimer_BucketBoundaries() {
+        // When & Then
+        assertEquals(0, Timer.bucketIndex(0));
+        assertEquals(0, Timer.bucketIndex(TimeUnit.MICROSECONDS.toNanos(50)));
+        assertEquals(1, Timer.bucketIndex(TimeUnit.MICROSECONDS.toNanos(50) + 1));
+        assertEquals(Timer.BUCKET_LABELS.length - 1, Timer.bucketIndex(TimeUnit.MINUTES.toNanos(1)));
+    }
+
+    /**
+     * ヒストグラムを累積件数で出力し、失敗回数を別のカウンタで出力することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testWriteTo_Histogram() throws Exception {
+        // Given
+        Timer timer = registry.timer("loan_service", "処理時間", "method", "calculateEstimate");
+        timer.record(TimeUnit.MICROSECONDS.toNanos(40));
+        timer.record(TimeUnit.MILLISECONDS.toNanos(3));
+        timer.recordFailure(TimeUnit.SECONDS.toNanos(20));
+
+        // When
+        StringWriter out = new StringWriter();
+        registry.writeTo(out);
+        String text = out.toString();
+
+        // Then
+        assertTrue(text.contains("# TYPE loan_service_seconds histogram\n"));
+        assertTrue(text.contains("loan_service_seconds_bucket{method=\"calculateEstimate\",le=\"5.0E-5\"} 1\n"));
+        assertTrue(text.contains("loan_service_seconds_bucket{method=\"calculateEstimate\",le=\"0.005\"} 2\n"));
+        assertTrue(text.contains("loan_service_seconds_bucket{method=\"calculateEstimate\",le=\"+Inf\"} 3\n"));
+        assertTrue(text.contains("loan_service_seconds_count{method=\"calculateEstimate\"} 3\n"));
+        assertTrue(text.contains("# TYPE loan_service_errors_total counter\n"));
+        assertTrue(text.contains("loan_service_errors_total{method=\"calculateEstimate\"} 1\n"));
+    }
+
+    /**
+     * キャッシュのヒット率を出力することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testWriteTo_CacheHitRatio() throws Exception {
+        // Given
+        registry.cache("annuityFactor", () -> 3, () -> 1);
+
+        // When
+        StringWriter out = new StringWriter();
+        registry.writeTo(out);
+        String text = out.toString();
+
+        // Then
+        assertTrue(text.contains("cache_hits_total{cache=\"annuityFactor\"} 3.0\n"));
+        assertTrue(text.contains("cache_misses_total{cache=\"annuityFactor\"} 1.0\n"));
+        assertTrue(text.contains("cache_hit_ratio{cache=\"annuityFactor\"} 0.75\n"));
+    }
+
+    /**
+     * ナノ秒の累積値を秒のカウンタとして出力することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testWriteTo_SecondsCounter() throws Exception {
+        // Given
+        registry.secondsCounter("estimate_writer_flush_seconds_total", "一括保存の累積時間",
+                () -> TimeUnit.MILLISECONDS.toNanos(1500));
+
+        // When
+        StringWriter out = new StringWriter();
+        registry.writeTo(out);
+        String text = out.toString();
+
+        // Then
+        assertTrue(text.contains("# TYPE estimate_writer_flush_seconds_total counter\n"));
+        assertTrue(text.contains("estimate_writer_flush_seconds_total 1.5\n"));
+    }
+
+    /**
+     * ラベルの値に含まれる特殊文字をエスケープすることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testFormatLabels_Escapes() {
+        // When
+        String labels = MetricsRegistry.formatLabels("pool", "a\"b\\c");
+
+        // Then
+        assertEquals("pool=\"a\\\"b\\\\c\"", labels);
+    }
+}
@@ -0,0 +1,194 @@
+package com.mortgage.metrics;
+
+import com.mortgage.model.LoanApplication;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * StatementTimingInterceptorクラスのユニットテスト
+ * IDEで▷ボタンをクリックして個別のテストメソッドを実行できます
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class StatementTimingInterceptorTest {
+
+    private static Configuration configuration;
+
+    @Mock
+    private Executor executor;
+
+    private MetricsRegistry registry;
+    private StatementTimingInterceptor interceptor;
+
+    @BeforeClass
+    public static void parseMapper() throws Exception {
+        configuration = new Configuration();
+        configuration.setMapUnderscoreToCamelCase(true);
+        configuration.getTypeAliasRegistry().registerAliases("com.mortgage.model");
+        try (InputStream mapper = Resources.getResourceAsStream("mybatis/LoanMapper.xml")) {
+            new XMLMapperBuilder(mapper, configuration, "mybatis/LoanMapper.xml",
+                    configuration.getSqlFragments()).parse();
+        }
+    }
+
+    @Before
+    public void setUp() {
+        registry = new MetricsRegistry();
+        interceptor = new StatementTimingInterceptor();
+        ReflectionTestUtils.setField(interceptor, "registry", registry);
+        ReflectionTestUtils.setField(interceptor, "slowQueryThresholdMillis", 500L);
+        ReflectionTestUtils.setField(interceptor, "maskedProperties", "bankAccountNumber, customerEmail");
+        interceptor.init();
+    }
+
+    /**
+     * 実行したステートメントの処理時間を mapped statement ID ごとに記録することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testIntercept_RecordsByStatementId() throws Throwable {
+        // Given
+        MappedStatement statement = configuration.getMappedStatement("LoanMapper.getApplicationById");
+        when(executor.query(any(), any(), any(), any())).thenReturn(Collections.emptyList());
+
+        // When
+        Object result = interceptor.intercept(queryInvocation(statement, "APP001"));
+        interceptor.intercept(queryInvocation(statement, "APP002"));
+
+        // Then
+        assertEquals(Collections.emptyList(), result);
+        Timer timer = registry.timer("mybatis_statement", "", "statement", "LoanMapper.getApplicationById");
+        assertEquals(2, timer.getCount());
+        assertEquals(0, timer.getErrorCount());
+    }
+
+    /**
+     * 例外が発生した場合は失敗として記録し、例外をそのままスローすることのテスト
+     * Invocation#proceed はリフレクションの例外で包むため、MyBatis と同じくプラグイン経由で呼び出す。
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testIntercept_RecordsFailure() throws Throwable {
+        // Given
+        MappedStatement statement = configuration.getMappedStatement("LoanMapper.updateApplication");
+        RuntimeException error = new RuntimeException("DB error");
+        when(executor.update(any(), any())).thenThrow(error);
+        Executor plugged = (Executor) interceptor.plugin(executor);
+
+        // When
+        try {
+            plugged.update(statement, new LoanApplication());
+            fail("例外がスローされませんでした");
+        } catch (RuntimeException e) {
+            // Then
+            assertSame(error, e);
+        }
+        Timer timer = registry.timer("mybatis_statement", "", "statement", "LoanMapper.updateApplication");
+        assertEquals(1, timer.getCount());
+        assertEquals(1, timer.getErrorCount());
+    }
+
+    /**
+     * バッチの実行を flushStatements として記録することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testIntercept_RecordsFlushStatements() throws Throwable {
+        // Given
+        when(executor.flushStatements()).thenReturn(Collections.emptyList());
+        Method flush = Executor.class.getMethod("flushStatements");
+
+        // When
+        interceptor.intercept(new Invocation(executor, flush, null));
+
+        // Then
+        assertEquals(1, registry.timer("mybatis_statement", "", "statement", "flushStatements").getCount());
+    }
+
+    /**
+     * しきい値を超えた場合もステートメントの結果をそのまま返すことのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testIntercept_SlowStatementStillReturnsResult() throws Throwable {
+        // Given
+        ReflectionTestUtils.setField(interceptor, "slowQueryThresholdMillis", 0L);
+        interceptor.init();
+        MappedStatement statement = configuration.getMappedStatement("LoanMapper.getApplicationById");
+        when(executor.query(any(), any(), any(), any())).thenReturn(Collections.emptyList());
+
+        // When
+        Object result = interceptor.intercept(queryInvocation(statement, "APP001"));
+
+        // Then
+        assertEquals(Collections.emptyList(), result);
+    }
+
+    /**
+     * バインドパラメータのうち個人情報の項目だけ値を伏せることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testDescribeParameters_MasksPersonalData() {
+        // Given
+        MappedStatement statement = configuration.getMappedStatement("LoanMapper.saveApplication");
+        LoanApplication application = new LoanApplication();
+        application.setApplicationId("APP001");
+        application.setCustomerEmail("taro@example.com");
+        application.setBankAccountNumber("1234567");
+
+        // When
+        String description = interceptor.describeParameters(statement, statement.getBoundSql(application),
+                application);
+
+        // Then
+        assertTrue(description, description.contains("applicationId='APP001'"));
+        assertTrue(description, description.contains("customerEmail=****"));
+        assertTrue(description, description.contains("bankAccountNumber=****"));
+        assertFalse(description, description.contains("taro@example.com"));
+        assertFalse(description, description.contains("1234567"));
+    }
+
+    /**
+     * 単一値のパラメータをそのまま出力することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testDescribeParameters_ScalarParameter() {
+        // Given
+        MappedStatement statement = configuration.getMappedStatement("LoanMapper.getApplicationById");
+
+        // When
+        String description = interceptor.describeParameters(statement, statement.getBoundSql("APP001"), "APP001");
+
+        // Then
+        assertEquals("[applicationId='APP001']", description);
+    }
+
+    private Invocation queryInvocation(MappedStatement statement, Object parameter) throws Exception {
+        Method query = Executor.class.getMethod("query", MappedStatement.class, Object.class, RowBounds.class,
+                ResultHandler.class);
+        return new Invocation(executor, query,
+                new Object[]{statement, parameter, RowBounds.DEFAULT, Executor.NO_RESULT_HANDLER});
+    }
+}
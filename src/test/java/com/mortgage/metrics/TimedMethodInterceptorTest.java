@@ -0,0 +1,80 @@
+package com.mortgage.metrics;
+
+import com.mortgage.dao.LoanDao;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.lang.reflect.Method;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * TimedMethodInterceptorクラスのユニットテスト
+ * IDEで▷ボタンをクリックして個別のテストメソッドを実行できます
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class TimedMethodInterceptorTest {
+
+    @Mock
+    private MethodInvocation invocation;
+
+    private MetricsRegistry registry;
+    private TimedMethodInterceptor interceptor;
+    private Method method;
+
+    @Before
+    public void setUp() throws Exception {
+        registry = new MetricsRegistry();
+        interceptor = new TimedMethodInterceptor(registry, "loan_dao", "LoanDao の処理時間", "statement");
+        method = LoanDao.class.getMethod("getApplicationById", String.class);
+        when(invocation.getMethod()).thenReturn(method);
+    }
+
+    /**
+     * 成功した呼び出しの処理時間をメソッド名のラベルで記録することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testInvoke_RecordsSuccess() throws Throwable {
+        // Given
+        when(invocation.proceed()).thenReturn("result");
+
+        // When
+        Object result = interceptor.invoke(invocation);
+        interceptor.invoke(invocation);
+
+        // Then
+        assertEquals("result", result);
+        Timer timer = registry.timer("loan_dao", "LoanDao の処理時間", "statement", "getApplicationById");
+        assertEquals(2, timer.getCount());
+        assertEquals(0, timer.getErrorCount());
+    }
+
+    /**
+     * 例外が発生した場合は失敗として記録し、例外をそのままスローすることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testInvoke_RecordsFailure() throws Throwable {
+        // Given
+        RuntimeException error = new RuntimeException("DB error");
+        when(invocation.proceed()).thenThrow(error);
+
+        // When
+        try {
+            interceptor.invoke(invocation);
+            fail("例外がスローされませんでした");
+        } catch (RuntimeException e) {
+            // Then
+            assertSame(error, e);
+        }
+        Timer timer = registry.timer("loan_dao", "LoanDao の処理時間", "statement", "getApplicationById");
+        assertEquals(1, timer.getCount());
+        assertEquals(1, timer.getErrorCount());
+    }
+}
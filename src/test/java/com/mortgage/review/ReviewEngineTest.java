@@ -0,0 +1,118 @@
+package com.mortgage.review;
+
+import com.mortgage.model.LoanApplication;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.*;
+
+/**
+ * ReviewEngineクラスのユニットテスト
+ * IDEで▷ボタンをクリックして個別のテストメソッドを実行できます
+ */
+public class ReviewEngineTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private ReviewEngine reviewEngine;
+    private LoanApplication application;
+
+    @Before
+    public void setUp() {
+        reviewEngine = new ReviewEngine();
+        ReflectionTestUtils.setField(reviewEngine, "checkIntervalMillis", 0L);
+
+        application = new LoanApplication();
+        application.setLoanAmount(new BigDecimal("3000"));
+        application.setLoanTerm(30);
+        application.setAnnualIncome(new BigDecimal("600"));
+        application.setPropertyValue(new BigDecimal("4000"));
+        application.setEmploymentType("SELF_EMPLOYED");
+    }
+
+    /**
+     * 既定の設定ファイルで従来の審査基準が適用されることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testReview_DefaultRules() {
+        // Given
+        ReflectionTestUtils.setField(reviewEngine, "rulesLocation", "classpath:review-rules.properties");
+        reviewEngine.init();
+        application.setPropertyValue(new BigDecimal("2000"));
+
+        // When
+        ReviewOutcome outcome = reviewEngine.review(application);
+
+        // Then
+        assertFalse(outcome.isApproved());
+        assertEquals("年収の4倍を超える融資額です / 物件価格の80%を超える融資額です", outcome.getRejectionReason());
+    }
+
+    /**
+     * 設定ファイルの更新を再起動なしで反映することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testReview_ReloadsModifiedRules() throws Exception {
+        // Given
+        File rules = temporaryFolder.newFile("review-rules.properties");
+        writeRules(rules, "incomeMultiple");
+        ReflectionTestUtils.setField(reviewEngine, "rulesLocation", "file:" + rules.getAbsolutePath());
+        reviewEngine.init();
+        application.setAnnualIncome(new BigDecimal("900"));
+        assertTrue(reviewEngine.review(application).isApproved());
+
+        // When
+        writeRules(rules, "incomeMultiple,selfEmployed");
+        rules.setLastModified(rules.lastModified() + 2000);
+        ReviewOutcome outcome = reviewEngine.review(application);
+
+        // Then
+        assertEquals(2, reviewEngine.getRuleSet().size());
+        assertFalse(outcome.isApproved());
+        assertEquals("自営業は年収の3倍までです", outcome.getRejectionReason());
+    }
+
+    /**
+     * 設定に誤りがある場合は現在のルールセットを継続使用することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testReview_InvalidRulesKeepCurrent() throws Exception {
+        // Given
+        File rules = temporaryFolder.newFile("review-rules.properties");
+        writeRules(rules, "incomeMultiple");
+        ReflectionTestUtils.setField(reviewEngine, "rulesLocation", "file:" + rules.getAbsolutePath());
+        reviewEngine.init();
+        ReviewRuleSet current = reviewEngine.getRuleSet();
+
+        // When
+        writeRules(rules, "incomeMultiple,undefined");
+        rules.setLastModified(rules.lastModified() + 2000);
+
+        // Then
+        assertSame(current, reviewEngine.getRuleSet());
+    }
+
+    private void writeRules(File file, String ruleNames) throws Exception {
+        String content = "review.rules=" + ruleNames + "\n"
+                + "review.rule.incomeMultiple.type=INCOME_MULTIPLE\n"
+                + "review.rule.incomeMultiple.limit=4\n"
+                + "review.rule.incomeMultiple.reason=年収の4倍を超える融資額です\n"
+                + "review.rule.selfEmployed.type=EMPLOYMENT_LIMIT\n"
+                + "review.rule.selfEmployed.employmentTypes=SELF_EMPLOYED\n"
+                + "review.rule.selfEmployed.limit=3\n"
+                + "review.rule.selfEmployed.reason=自営業は年収の3倍までです\n";
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,135 @@
+package com.mortgage.review;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * ReviewRuleSetクラスのユニットテスト
+ * IDEで▷ボタンをクリックして個別のテストメソッドを実行できます
+ */
+public class ReviewRuleSetTest {
+
+    private IncomeMultipleRule incomeMultiple;
+    private LoanToValueRule loanToValue;
+    private AgeAtMaturityRule ageAtMaturity;
+
+    @Before
+    public void setUp() {
+        incomeMultiple = new IncomeMultipleRule("incomeMultiple", Ratio.parse("4"), "年収の4倍を超える融資額です");
+        loanToValue = new LoanToValueRule("loanToValue", Ratio.parse("0.8"), "物件価格の80%を超える融資額です");
+        ageAtMaturity = new AgeAtMaturityRule("ageAtMaturity", 80, "完済時年齢が80歳を超えます");
+    }
+
+    /**
+     * 全ルールを通過した場合に共有の承認結果を返すことのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testEvaluate_Approved() {
+        // Given
+        ReviewRuleSet ruleSet = ReviewRuleSet.builder("test")
+                .add(incomeMultiple, 10, false)
+                .add(loanToValue, 20, false)
+                .build();
+        ApplicationView view = view(3000, 800, 5000, 35, 40);
+
+        // When
+        ReviewOutcome outcome = ruleSet.evaluate(view);
+
+        // Then
+        assertSame(ReviewOutcome.APPROVED, outcome);
+        assertNull(outcome.getRejectionReason());
+    }
+
+    /**
+     * 不通過の全ルールの却下理由を評価順に集めることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testEvaluate_CollectsAllFailures() {
+        // Given
+        ReviewRuleSet ruleSet = ReviewRuleSet.builder("test")
+                .add(loanToValue, 20, false)
+                .add(incomeMultiple, 10, false)
+                .build();
+        ApplicationView view = view(3000, 600, 2000, 35, 40);
+
+        // When
+        ReviewOutcome outcome = ruleSet.evaluate(view);
+
+        // Then
+        assertFalse(outcome.isApproved());
+        assertEquals(Arrays.asList("incomeMultiple", "loanToValue"), outcome.getFailedRuleNames());
+        assertEquals("年収の4倍を超える融資額です / 物件価格の80%を超える融資額です", outcome.getRejectionReason());
+    }
+
+    /**
+     * 打ち切り指定のルールが不通過の場合に以降を評価しないことのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testEvaluate_TerminalRuleShortCircuits() {
+        // Given
+        ReviewRuleSet ruleSet = ReviewRuleSet.builder("test")
+                .add(incomeMultiple, 10, false)
+                .add(ageAtMaturity, 5, true)
+                .build();
+        ApplicationView view = view(3000, 600, 5000, 35, 50);
+
+        // When
+        ReviewOutcome outcome = ruleSet.evaluate(view);
+
+        // Then
+        assertEquals(Arrays.asList("ageAtMaturity"), outcome.getFailedRuleNames());
+    }
+
+    /**
+     * 未入力の項目を使うルールは通過扱いとなることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testEvaluate_UnknownValuesPass() {
+        // Given
+        ReviewRuleSet ruleSet = ReviewRuleSet.builder("test")
+                .add(incomeMultiple, 10, false)
+                .add(ageAtMaturity, 20, false)
+                .build();
+        ApplicationView view = new ApplicationView(300000, ApplicationView.UNKNOWN, ApplicationView.UNKNOWN,
+                ApplicationView.UNKNOWN, 35, (int) ApplicationView.UNKNOWN, 0);
+
+        // When
+        ReviewOutcome outcome = ruleSet.evaluate(view);
+
+        // Then
+        assertTrue(outcome.isApproved());
+    }
+
+    /**
+     * 雇用形態ごとの上限が対象の雇用形態にだけ適用されることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testEvaluate_EmploymentLimit() {
+        // Given
+        EmploymentLimitRule rule = new EmploymentLimitRule("selfEmployed",
+                ApplicationView.EMPLOYMENT_SELF_EMPLOYED | ApplicationView.EMPLOYMENT_BUSINESS_OWNER,
+                Ratio.parse("3"), "自営業・会社経営者の融資額は年収の3倍までです");
+        ApplicationView salaried = new ApplicationView(350000, 100000, ApplicationView.UNKNOWN,
+                ApplicationView.UNKNOWN, 35, 40, ApplicationView.EMPLOYMENT_SALARIED);
+        ApplicationView selfEmployed = new ApplicationView(350000, 100000, ApplicationView.UNKNOWN,
+                ApplicationView.UNKNOWN, 35, 40, ApplicationView.EMPLOYMENT_SELF_EMPLOYED);
+
+        // When & Then
+        assertTrue(rule.test(salaried));
+        assertFalse(rule.test(selfEmployed));
+    }
+
+    private ApplicationView view(long loanAmount, long annualIncome, long propertyValue, int loanTerm, int age) {
+        return new ApplicationView(loanAmount * 100, annualIncome * 100, propertyValue * 100,
+                ApplicationView.UNKNOWN, loanTerm, age, ApplicationView.EMPLOYMENT_SALARIED);
+    }
+}
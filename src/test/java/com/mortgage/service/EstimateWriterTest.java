@@ -0,0 +1,173 @@
+package com.mortgage.service;
+
+import com.mortgage.dao.LoanDao;
+import com.mortgage.model.LoanEstimate;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * EstimateWriterクラスのユニットテスト
+ * IDEで▷ボタンをクリックして個別のテストメソッドを実行できます
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class EstimateWriterTest {
+
+    @Mock
+    private LoanDao loanDao;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private EstimateWriter estimateWriter;
+
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(estimateWriter, "queueCapacity", 2);
+        ReflectionTestUtils.setField(estimateWriter, "batchSize", 100);
+        ReflectionTestUtils.setField(estimateWriter, "maxDelayMillis", 50L);
+        ReflectionTestUtils.setField(estimateWriter, "offerTimeoutMillis", 0L);
+        ReflectionTestUtils.setField(estimateWriter, "shutdownTimeoutMillis", 5000L);
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        estimateWriter.stop();
+    }
+
+    /**
+     * 同期モードでは呼び出し元で即時に保存することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testWrite_SyncMode() {
+        // Given
+        ReflectionTestUtils.setField(estimateWriter, "mode", "sync");
+        estimateWriter.start();
+        LoanEstimate estimate = new LoanEstimate();
+
+        // When
+        estimateWriter.write(estimate);
+
+        // Then
+        verify(loanDao, times(1)).saveEstimate(estimate);
+        assertFalse(estimateWriter.isAsync());
+    }
+
+    /**
+     * 非同期モードではキューに積み、ワーカーがまとめて保存することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testWriteAll_AsyncModeFlushesInBatch() {
+        // Given
+        ReflectionTestUtils.setField(estimateWriter, "mode", "async");
+        estimateWriter.start();
+        // ワーカーは保存後にバッチのリストを再利用するため、呼び出し時点の件数を記録する
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            batchSizes.add(invocation.<Collection<LoanEstimate>>getArgument(0).size());
+            return null;
+        }).when(loanDao).saveEstimates(anyCollection());
+
+        // When
+        estimateWriter.writeAll(Arrays.asList(new LoanEstimate(), new LoanEstimate()));
+
+        // Then
+        verify(loanDao, timeout(2000).times(1)).saveEstimates(anyCollection());
+        assertEquals(Arrays.asList(2), batchSizes);
+        verify(loanDao, never()).saveEstimate(any(LoanEstimate.class));
+        assertEquals(2, estimateWriter.getEnqueuedCount());
+    }
+
+    /**
+     * キューに積めない場合（停止後）は呼び出し元で同期保存することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testWrite_StoppedFallsBackToSync() throws InterruptedException {
+        // Given
+        ReflectionTestUtils.setField(estimateWriter, "mode", "async");
+        estimateWriter.start();
+        estimateWriter.stop();
+        LoanEstimate estimate = new LoanEstimate();
+
+        // When
+        estimateWriter.write(estimate);
+
+        // Then
+        verify(loanDao, times(1)).saveEstimate(estimate);
+        assertEquals(1, estimateWriter.getSyncFallbackCount());
+        assertEquals(0, estimateWriter.getRejectedCount());
+    }
+
+    /**
+     * キューが満杯の場合は拒否として数え、呼び出し元で同期保存することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testWrite_QueueFullRejected() throws InterruptedException {
+        // Given
+        ReflectionTestUtils.setField(estimateWriter, "mode", "async");
+        CountDownLatch flushing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            flushing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(loanDao).saveEstimates(anyCollection());
+        estimateWriter.start();
+        estimateWriter.write(new LoanEstimate());
+        assertTrue(flushing.await(2, TimeUnit.SECONDS));
+        LoanEstimate rejected = new LoanEstimate();
+
+        // When
+        estimateWriter.write(new LoanEstimate());
+        estimateWriter.write(new LoanEstimate());
+        estimateWriter.write(rejected);
+        release.countDown();
+
+        // Then
+        verify(loanDao, times(1)).saveEstimate(rejected);
+        assertEquals(1, estimateWriter.getRejectedCount());
+        assertEquals(1, estimateWriter.getSyncFallbackCount());
+        assertEquals(3, estimateWriter.getEnqueuedCount());
+    }
+
+    /**
+     * 停止時にキューに残った見積もりを保存することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testStop_DrainsQueue() throws InterruptedException {
+        // Given
+        ReflectionTestUtils.setField(estimateWriter, "mode", "async");
+        estimateWriter.start();
+        estimateWriter.write(new LoanEstimate());
+
+        // When
+        estimateWriter.stop();
+
+        // Then
+        verify(loanDao, times(1)).saveEstimates(anyCollection());
+        assertEquals(0, estimateWriter.getQueueDepth());
+        assertEquals(1, estimateWriter.getFlushedCount());
+    }
+}
@@ -0,0 +1,187 @@
+package com.mortgage.service;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.junit.Assert.*;
+
+/**
+ * IdGeneratorクラスのユニットテスト
+ * IDEで▷ボタンをクリックして個別のテストメソッドを実行できます
+ */
+public class IdGeneratorTest {
+
+    private static final long NOW = IdGenerator.EPOCH_MILLIS + 86_400_000L;
+
+    private IdGenerator idGenerator;
+    private AtomicLong currentTime;
+
+    @Before
+    public void setUp() {
+        currentTime = new AtomicLong(NOW);
+        idGenerator = create(7, currentTime::get);
+    }
+
+    /**
+     * 接頭辞付きの固定長IDを生成することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testNextIds_PrefixAndLength() {
+        // When
+        String estimateId = idGenerator.nextEstimateId();
+        String applicationId = idGenerator.nextApplicationId();
+
+        // Then
+        assertTrue(estimateId.startsWith("EST"));
+        assertTrue(applicationId.startsWith("APP"));
+        assertEquals(3 + IdGenerator.ENCODED_LENGTH, estimateId.length());
+        assertEquals(3 + IdGenerator.ENCODED_LENGTH, applicationId.length());
+    }
+
+    /**
+     * IDに生成時刻とノードIDが含まれることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testNextId_EncodesTimestampAndNode() {
+        // When
+        long id = idGenerator.nextId();
+
+        // Then
+        assertEquals(NOW, IdGenerator.timestampOf(id));
+        assertEquals(7, (id >>> IdGenerator.SEQUENCE_BITS) & IdGenerator.MAX_NODE_ID);
+    }
+
+    /**
+     * 同じミリ秒内の連番が溢れても単調増加し、文字列の順序も一致することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testNextId_SequenceOverflowStaysMonotonic() {
+        // Given
+        int count = (1 << IdGenerator.SEQUENCE_BITS) + 10;
+        long previous = -1;
+        String previousText = "";
+
+        for (int i = 0; i < count; i++) {
+            // When
+            long id = idGenerator.nextId();
+            String text = IdGenerator.format("APP", id);
+
+            // Then
+            assertTrue(id > previous);
+            assertTrue(text.compareTo(previousText) > 0);
+            previous = id;
+            previousText = text;
+        }
+        assertEquals(NOW + 1, IdGenerator.timestampOf(previous));
+    }
+
+    /**
+     * 時計が戻っても直前のIDより小さい値を払い出さないことのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testNextId_ClockMovesBackwards() {
+        // Given
+        long before = idGenerator.nextId();
+        currentTime.set(NOW - 5000);
+
+        // When
+        long after = idGenerator.nextId();
+
+        // Then
+        assertTrue(after > before);
+        assertEquals(NOW, IdGenerator.timestampOf(after));
+    }
+
+    /**
+     * 複数スレッドから同時に生成しても重複しないことのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testNextId_ConcurrentUnique() throws Exception {
+        // Given
+        IdGenerator generator = create(1, System::currentTimeMillis);
+        int threads = 4;
+        int perThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Callable<long[]>> tasks = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            tasks.add(() -> {
+                long[] ids = new long[perThread];
+                for (int i = 0; i < perThread; i++) {
+                    ids[i] = generator.nextId();
+                }
+                return ids;
+            });
+        }
+
+        // When
+        Set<Long> unique = new HashSet<>();
+        try {
+            for (Future<long[]> future : executor.invokeAll(tasks)) {
+                long[] ids = future.get();
+                for (int i = 0; i < ids.length; i++) {
+                    unique.add(ids[i]);
+                    if (i > 0) {
+                        assertTrue(ids[i] > ids[i - 1]);
+                    }
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        assertEquals(threads * perThread, unique.size());
+    }
+
+    /**
+     * ノードが異なれば同じ時刻・連番でも別のIDになることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testNextId_DistinctAcrossNodes() {
+        // Given
+        IdGenerator other = create(8, currentTime::get);
+
+        // When & Then
+        assertNotEquals(idGenerator.nextId(), other.nextId());
+    }
+
+    /**
+     * 範囲外のノードIDを拒否することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testInit_InvalidNodeId() {
+        // Given
+        IdGenerator generator = new IdGenerator();
+        ReflectionTestUtils.setField(generator, "nodeId", IdGenerator.MAX_NODE_ID + 1);
+
+        // When & Then
+        assertThrows(IllegalStateException.class, generator::init);
+    }
+
+    private static IdGenerator create(int nodeId, LongSupplier clock) {
+        IdGenerator generator = new IdGenerator();
+        ReflectionTestUtils.setField(generator, "nodeId", nodeId);
+        ReflectionTestUtils.setField(generator, "clock", clock);
+        generator.init();
+        return generator;
+    }
+}
@@ -0,0 +1,139 @@
+package com.mortgage.service;
+
+import com.mortgage.model.LoanEstimate;
+import com.mortgage.model.LoanProduct;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+/**
+ * QuoteCacheクラスのユニットテスト
+ * IDEで▷ボタンをクリックして個別のテストメソッドを実行できます
+ */
+public class QuoteCacheTest {
+
+    private QuoteCache quoteCache;
+    private AtomicLong now;
+    private LoanProduct product;
+
+    @Before
+    public void setUp() {
+        quoteCache = new QuoteCache();
+        ReflectionTestUtils.setField(quoteCache, "maxEntries", 32);
+        ReflectionTestUtils.setField(quoteCache, "ttlSeconds", 60L);
+        quoteCache.init();
+        now = new AtomicLong();
+        quoteCache.clock = now::get;
+
+        product = new LoanProduct("FIXED_001", "固定金利プランA", "FIXED",
+                new BigDecimal("0.85"), 100, 5000, 10, 35);
+        product.setRepaymentMethod("EQUAL_PAYMENT");
+    }
+
+    /**
+     * 融資額の表記が異なっても同じ条件としてヒットし、複製を返すことのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testGet_NormalizedAmount() {
+        // Given
+        LoanEstimate estimate = estimate("EST001");
+        quoteCache.put(product, new BigDecimal("3000"), 35, estimate);
+
+        // When
+        LoanEstimate hit = quoteCache.get(product, new BigDecimal("3000.0"), 35);
+
+        // Then
+        assertNotNull(hit);
+        assertNotSame(estimate, hit);
+        assertEquals("EST001", hit.getEstimateId());
+        assertEquals(new BigDecimal("3000.0"), hit.getLoanAmount());
+        assertNull(quoteCache.get(product, new BigDecimal("3000"), 30));
+        assertEquals(1, quoteCache.getHitCount());
+        assertEquals(1, quoteCache.getMissCount());
+    }
+
+    /**
+     * 商品の金利が変わるとヒットしないことのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testGet_RateChanged() {
+        // Given
+        quoteCache.put(product, new BigDecimal("3000"), 35, estimate("EST001"));
+        product.setCurrentInterestRate(new BigDecimal("0.95"));
+
+        // When
+        LoanEstimate result = quoteCache.get(product, new BigDecimal("3000"), 35);
+
+        // Then
+        assertNull(result);
+    }
+
+    /**
+     * 有効期間を過ぎたエントリは削除されることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testGet_Expired() {
+        // Given
+        quoteCache.put(product, new BigDecimal("3000"), 35, estimate("EST001"));
+        now.addAndGet(TimeUnit.SECONDS.toNanos(60));
+
+        // When
+        LoanEstimate result = quoteCache.get(product, new BigDecimal("3000"), 35);
+
+        // Then
+        assertNull(result);
+        assertEquals(1, quoteCache.getExpirationCount());
+        assertEquals(0, quoteCache.size());
+    }
+
+    /**
+     * 件数の上限を超えると追い出されることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testPut_EvictsBeyondMaxEntries() {
+        // Given / When
+        for (int amount = 100; amount < 1100; amount++) {
+            quoteCache.put(product, BigDecimal.valueOf(amount), 35, estimate("EST" + amount));
+        }
+
+        // Then
+        assertTrue(quoteCache.size() <= 32);
+        assertEquals(1000 - quoteCache.size(), quoteCache.getEvictionCount());
+    }
+
+    /**
+     * 最大件数が0の場合は無効になることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testDisabled() {
+        // Given
+        ReflectionTestUtils.setField(quoteCache, "maxEntries", 0);
+        quoteCache.init();
+
+        // When
+        quoteCache.put(product, new BigDecimal("3000"), 35, estimate("EST001"));
+
+        // Then
+        assertFalse(quoteCache.isEnabled());
+        assertNull(quoteCache.get(product, new BigDecimal("3000"), 35));
+        assertEquals(0, quoteCache.getMissCount());
+    }
+
+    private static LoanEstimate estimate(String estimateId) {
+        LoanEstimate estimate = new LoanEstimate("FIXED_001", "固定金利プランA", new BigDecimal("3000"), 35,
+                new BigDecimal("0.85"), new BigDecimal("82456"));
+        estimate.setEstimateId(estimateId);
+        return estimate;
+    }
+}
@@ -0,0 +1,193 @@
+package com.mortgage.service;
+
+import com.mortgage.catalog.ProductCatalog;
+import com.mortgage.dao.LoanDao;
+import com.mortgage.model.LoanProduct;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * RateUpdateServiceクラスのユニットテスト
+ * IDEで▷ボタンをクリックして個別のテストメソッドを実行できます
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class RateUpdateServiceTest {
+
+    @Mock
+    private LoanDao loanDao;
+
+    @Mock
+    private ProductCatalog productCatalog;
+
+    @InjectMocks
+    private RateUpdateService rateUpdateService;
+
+    private LoanProduct fixed;
+    private LoanProduct variable;
+
+    @Before
+    public void setUp() {
+        fixed = new LoanProduct("FIXED_001", "固定金利プランA", "FIXED",
+                new BigDecimal("0.85"), 100, 5000, 10, 35);
+        fixed.setMinInterestRate(new BigDecimal("0.50"));
+        fixed.setMaxInterestRate(new BigDecimal("1.20"));
+        variable = new LoanProduct("VARIABLE_001", "変動金利プランA", "VARIABLE",
+                new BigDecimal("0.45"), 100, 10000, 10, 35);
+    }
+
+    @After
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    /**
+     * 金利を更新してカタログバージョンを進め、商品カタログを更新することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testUpdateRate_Success() {
+        // Given
+        when(loanDao.getLoanProductById("FIXED_001")).thenReturn(fixed);
+        when(loanDao.getCatalogVersion()).thenReturn(8L);
+
+        // When
+        long version = rateUpdateService.updateRate("FIXED_001", new BigDecimal("0.90"));
+
+        // Then
+        assertEquals(8L, version);
+        InOrder inOrder = inOrder(loanDao, productCatalog);
+        inOrder.verify(loanDao).updateProductRate("FIXED_001", new BigDecimal("0.90"));
+        inOrder.verify(loanDao).incrementCatalogVersion();
+        inOrder.verify(productCatalog).refresh(8L);
+    }
+
+    /**
+     * 複数商品の金利をバージョン1つでまとめて更新することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testUpdateRates_SingleVersionBump() {
+        // Given
+        when(loanDao.getLoanProductById("FIXED_001")).thenReturn(fixed);
+        when(loanDao.getLoanProductById("VARIABLE_001")).thenReturn(variable);
+        when(loanDao.getCatalogVersion()).thenReturn(2L);
+        Map<String, BigDecimal> rates = new LinkedHashMap<>();
+        rates.put("FIXED_001", new BigDecimal("0.95"));
+        rates.put("VARIABLE_001", new BigDecimal("0.55"));
+
+        // When
+        rateUpdateService.updateRates(rates);
+
+        // Then
+        verify(loanDao, times(2)).updateProductRate(anyString(), any(BigDecimal.class));
+        verify(loanDao, times(1)).incrementCatalogVersion();
+        verify(productCatalog, times(1)).refresh(2L);
+    }
+
+    /**
+     * トランザクション内ではコミット後にだけ商品カタログを更新することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testUpdateRate_PublishesAfterCommit() {
+        // Given
+        when(loanDao.getLoanProductById("FIXED_001")).thenReturn(fixed);
+        when(loanDao.getCatalogVersion()).thenReturn(5L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        rateUpdateService.updateRate("FIXED_001", new BigDecimal("0.90"));
+
+        // Then
+        verify(productCatalog, never()).refresh(anyLong());
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        verify(productCatalog).refresh(5L);
+    }
+
+    /**
+     * ロールバックされた場合は商品カタログを更新しないことのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testUpdateRate_RolledBack() {
+        // Given
+        when(loanDao.getLoanProductById("FIXED_001")).thenReturn(fixed);
+        when(loanDao.getCatalogVersion()).thenReturn(5L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        rateUpdateService.updateRate("FIXED_001", new BigDecimal("0.90"));
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+
+        // Then
+        verify(productCatalog, never()).refresh(anyLong());
+    }
+
+    /**
+     * 商品の金利の範囲外は更新しないことのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testUpdateRate_OutOfRange() {
+        // Given
+        when(loanDao.getLoanProductById("FIXED_001")).thenReturn(fixed);
+
+        // When
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> rateUpdateService.updateRate("FIXED_001", new BigDecimal("1.50")));
+
+        // Then
+        assertTrue(e.getMessage().contains("最高金利"));
+        verify(loanDao, never()).updateProductRate(anyString(), any(BigDecimal.class));
+        verify(loanDao, never()).incrementCatalogVersion();
+        verifyNoInteractions(productCatalog);
+    }
+
+    /**
+     * 小数第3位以下を持つ金利は更新しないことのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testUpdateRate_TooPrecise() {
+        // Given
+        when(loanDao.getLoanProductById("FIXED_001")).thenReturn(fixed);
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class,
+                () -> rateUpdateService.updateRate("FIXED_001", new BigDecimal("0.875")));
+        verify(loanDao, never()).updateProductRate(anyString(), any(BigDecimal.class));
+    }
+
+    /**
+     * 存在しない商品は更新しないことのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testUpdateRate_ProductNotFound() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class,
+                () -> rateUpdateService.updateRate("UNKNOWN", new BigDecimal("0.90")));
+        verify(loanDao, never()).incrementCatalogVersion();
+    }
+}
@@ -0,0 +1,166 @@
+package com.mortgage.service;
+
+import com.mortgage.dao.LoanDao;
+import com.mortgage.model.LoanApplication;
+import com.mortgage.model.ReviewJobCheckpoint;
+import com.mortgage.model.ReviewUpdate;
+import com.mortgage.review.ReviewEngine;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReReviewJobクラスのユニットテスト
+ * IDEで▷ボタンをクリックして個別のテストメソッドを実行できます
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ReReviewJobTest {
+
+    private static final List<String> STATUSES = Arrays.asList("PENDING", "PROCESSING");
+
+    @Mock
+    private LoanDao loanDao;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private Cursor<LoanApplication> cursor;
+
+    @InjectMocks
+    private ReReviewJob reReviewJob;
+
+    private List<LoanApplication> applications;
+
+    @Before
+    public void setUp() {
+        ReviewEngine reviewEngine = new ReviewEngine();
+        ReflectionTestUtils.setField(reviewEngine, "rulesLocation", "classpath:review-rules.properties");
+        reviewEngine.init();
+        ReflectionTestUtils.setField(reReviewJob, "reviewEngine", reviewEngine);
+        ReflectionTestUtils.setField(reReviewJob, "chunkSize", 2);
+        ReflectionTestUtils.setField(reReviewJob, "threads", 2);
+
+        applications = new ArrayList<>();
+        applications.add(createApplication("APP001", "800"));  // 承認
+        applications.add(createApplication("APP002", "500"));  // 年収の4倍超で却下
+        applications.add(createApplication("APP003", "800"));  // 承認
+        when(cursor.iterator()).thenReturn(applications.iterator());
+    }
+
+    /**
+     * 全件を審査し、チャンクごとに書き戻してチェックポイントを進めることのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testRun_ReviewsAllInChunks() {
+        // Given
+        when(loanDao.openApplicationsForReview(STATUSES, null)).thenReturn(cursor);
+
+        // When
+        ReviewJobCheckpoint result = reReviewJob.run("JOB001", STATUSES);
+
+        // Then
+        assertEquals("COMPLETED", result.getStatus());
+        assertEquals("APP003", result.getLastApplicationId());
+        assertEquals(3, result.getProcessedCount());
+        assertEquals(3, result.getUpdatedCount());
+        assertEquals("REJECTED", applications.get(1).getApplicationStatus());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<ReviewUpdate>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(loanDao, times(2)).updateReviewResults(captor.capture());
+        assertEquals(2, captor.getAllValues().get(0).size());
+        assertEquals("PENDING", captor.getAllValues().get(0).iterator().next().getExpectedStatus());
+    }
+
+    /**
+     * 中断したジョブをチェックポイントの次の申し込みから再開することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testRun_ResumesFromCheckpoint() {
+        // Given
+        ReviewJobCheckpoint checkpoint = new ReviewJobCheckpoint("JOB001");
+        checkpoint.setStatus("FAILED");
+        checkpoint.setLastApplicationId("APP000");
+        checkpoint.setProcessedCount(10);
+        checkpoint.setUpdatedCount(10);
+        when(loanDao.getReviewJobCheckpoint("JOB001")).thenReturn(checkpoint);
+        when(loanDao.openApplicationsForReview(STATUSES, "APP000")).thenReturn(cursor);
+
+        // When
+        ReviewJobCheckpoint result = reReviewJob.run("JOB001", STATUSES);
+
+        // Then
+        assertEquals("COMPLETED", result.getStatus());
+        assertEquals(13, result.getProcessedCount());
+        verify(loanDao, times(1)).openApplicationsForReview(STATUSES, "APP000");
+    }
+
+    /**
+     * 完了済みのジョブは再実行しないことのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testRun_CompletedJobIsSkipped() {
+        // Given
+        ReviewJobCheckpoint checkpoint = new ReviewJobCheckpoint("JOB001");
+        checkpoint.setStatus("COMPLETED");
+        when(loanDao.getReviewJobCheckpoint("JOB001")).thenReturn(checkpoint);
+
+        // When
+        ReviewJobCheckpoint result = reReviewJob.run("JOB001", STATUSES);
+
+        // Then
+        assertSame(checkpoint, result);
+        verify(loanDao, never()).openApplicationsForReview(anyCollection(), any());
+    }
+
+    /**
+     * 書き戻しに失敗した場合は保存済みのチェックポイントで失敗を記録することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testRun_FailureKeepsLastCheckpoint() {
+        // Given
+        when(loanDao.openApplicationsForReview(STATUSES, null)).thenReturn(cursor);
+        doThrow(new RuntimeException("DB error")).when(loanDao).updateReviewResults(anyCollection());
+        ReviewJobCheckpoint saved = new ReviewJobCheckpoint("JOB001");
+        saved.setStatus("RUNNING");
+        when(loanDao.getReviewJobCheckpoint("JOB001")).thenReturn(null, saved);
+
+        // When & Then
+        assertThrows(RuntimeException.class, () -> reReviewJob.run("JOB001", STATUSES));
+        assertEquals("FAILED", saved.getStatus());
+        assertNull(saved.getLastApplicationId());
+        assertFalse(reReviewJob.isRunning());
+    }
+
+    private LoanApplication createApplication(String applicationId, String annualIncome) {
+        LoanApplication application = new LoanApplication();
+        application.setApplicationId(applicationId);
+        application.setApplicationStatus("PENDING");
+        application.setLoanAmount(new BigDecimal("3000"));
+        application.setAnnualIncome(new BigDecimal(annualIncome));
+        application.setPropertyValue(new BigDecimal("5000"));
+        return application;
+    }
+}
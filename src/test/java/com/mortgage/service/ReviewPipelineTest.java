@@ -0,0 +1,185 @@
+package com.mortgage.service;
+
+import com.mortgage.dao.LoanDao;
+import com.mortgage.model.LoanApplication;
+import com.mortgage.model.LoanApplicationStatus;
+import com.mortgage.model.ReviewUpdate;
+import com.mortgage.review.ReviewEngine;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReviewPipelineクラスのユニットテスト
+ * IDEで▷ボタンをクリックして個別のテストメソッドを実行できます
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ReviewPipelineTest {
+
+    @Mock
+    private LoanDao loanDao;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private ReviewPipeline reviewPipeline;
+
+    private LoanApplication application;
+
+    @Before
+    public void setUp() {
+        ReviewEngine reviewEngine = new ReviewEngine();
+        ReflectionTestUtils.setField(reviewEngine, "rulesLocation", "classpath:review-rules.properties");
+        reviewEngine.init();
+        ReflectionTestUtils.setField(reviewPipeline, "reviewEngine", reviewEngine);
+        ReflectionTestUtils.setField(reviewPipeline, "mode", "async");
+        ReflectionTestUtils.setField(reviewPipeline, "threads", 2);
+        ReflectionTestUtils.setField(reviewPipeline, "queueCapacity", 10);
+        ReflectionTestUtils.setField(reviewPipeline, "shutdownTimeoutMillis", 5000L);
+        reviewPipeline.start();
+
+        application = new LoanApplication();
+        application.setApplicationId("APP001");
+        application.setApplicationStatus("PENDING");
+        application.setLoanAmount(new BigDecimal("3000"));
+        application.setAnnualIncome(new BigDecimal("800"));
+        application.setPropertyValue(new BigDecimal("5000"));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        reviewPipeline.stop();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    /**
+     * ワーカーで審査して状態を更新し、購読者に通知することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testSubmit_ReviewsOnWorker() throws Exception {
+        // Given
+        when(loanDao.getApplicationById("APP001")).thenReturn(application);
+        when(loanDao.updateReviewResult(any(ReviewUpdate.class))).thenReturn(1);
+
+        // When
+        reviewPipeline.submit("APP001");
+        LoanApplication result = reviewPipeline.subscribe("APP001").get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals("APPROVED", result.getApplicationStatus());
+        verify(loanDao, times(1)).updateReviewResult(argThat(update ->
+                update.getApplication() == application && "PENDING".equals(update.getExpectedStatus())));
+        verify(loanDao, never()).updateApplication(any(LoanApplication.class));
+        assertEquals(1, reviewPipeline.getReviewedCount());
+    }
+
+    /**
+     * 読み込み後に他で審査された場合は上書きせず、確定済みの結果を読み直して通知することのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testSubmit_ReviewedElsewhereIsNotOverwritten() throws Exception {
+        // Given
+        LoanApplication decided = new LoanApplication();
+        decided.setApplicationId("APP001");
+        decided.setApplicationStatus("REJECTED");
+        decided.setRejectionReason("再審査で却下");
+        // 購読前に審査が終わって subscribe が直接読み込まないよう、購読するまでワーカーを待たせる
+        CountDownLatch subscribed = new CountDownLatch(1);
+        when(loanDao.getApplicationById("APP001")).thenAnswer(invocation -> {
+            subscribed.await(5, TimeUnit.SECONDS);
+            return application;
+        }).thenReturn(decided);
+        when(loanDao.updateReviewResult(any(ReviewUpdate.class))).thenReturn(0);
+
+        // When
+        reviewPipeline.submit("APP001");
+        CompletableFuture<LoanApplication> future = reviewPipeline.subscribe("APP001");
+        subscribed.countDown();
+        LoanApplication result = future.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertSame(decided, result);
+        assertEquals("REJECTED", result.getApplicationStatus());
+        verify(loanDao, times(2)).getApplicationById("APP001");
+        verify(loanDao, never()).updateApplication(any(LoanApplication.class));
+    }
+
+    /**
+     * 審査済みの申し込みは再審査しないことのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testSubmit_SkipsAlreadyReviewed() throws Exception {
+        // Given
+        application.setApplicationStatus("REJECTED");
+        when(loanDao.getApplicationById("APP001")).thenReturn(application);
+
+        // When
+        reviewPipeline.submit("APP001");
+        LoanApplication result = reviewPipeline.subscribe("APP001").get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals("REJECTED", result.getApplicationStatus());
+        verify(loanDao, never()).updateApplication(any(LoanApplication.class));
+        verify(loanDao, never()).updateReviewResult(any(ReviewUpdate.class));
+    }
+
+    /**
+     * 審査中でない申し込みは審査状況の列だけを読むことのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testAwait_NotInFlightReadsStatusProjection() {
+        // Given
+        LoanApplicationStatus status = LoanApplicationStatus.of(application);
+        when(loanDao.getApplicationStatusById("APP001")).thenReturn(status);
+
+        // When
+        LoanApplicationStatus result = reviewPipeline.await("APP001", 1000);
+
+        // Then
+        assertSame(status, result);
+        verify(loanDao, never()).getApplicationById(anyString());
+    }
+
+    /**
+     * トランザクションがロールバックされた場合は審査しないことのテスト
+     * ▷ボタンで実行可能
+     */
+    @Test
+    public void testSubmit_RolledBackIsNotReviewed() throws Exception {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        reviewPipeline.submit("APP001");
+
+        // When
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+
+        // Then
+        assertEquals(0, reviewPipeline.getInFlightCount());
+        verify(loanDao, never()).getApplicationById("APP001");
+    }
+}